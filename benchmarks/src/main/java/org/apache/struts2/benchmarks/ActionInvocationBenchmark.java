@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.benchmarks;
+
+import org.apache.struts2.ActionContext;
+import org.apache.struts2.ActionProxy;
+import org.apache.struts2.ActionProxyFactory;
+import org.apache.struts2.DefaultActionInvocation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link DefaultActionInvocation#invoke()} of an action configured with the {@code defaultStack},
+ * including creation of the {@link ActionProxy} as each invocation can only be executed once.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ActionInvocationBenchmark {
+
+    private ActionProxyFactory actionProxyFactory;
+
+    @Setup(Level.Trial)
+    public void setUp(StrutsBenchmarkState state) {
+        actionProxyFactory = state.getContainer().getInstance(ActionProxyFactory.class);
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        ActionContext.clear();
+    }
+
+    @Benchmark
+    public String invokeDefaultStack(StrutsBenchmarkState state) throws Exception {
+        MockHttpServletRequest request = state.createRequest();
+        MockHttpServletResponse response = state.createResponse();
+        Map<String, Object> extraContext = state.createBoundValueStack(request, response).getActionContext().getContextMap();
+
+        ActionProxy proxy = actionProxyFactory.createActionProxy(
+            StrutsBenchmarkState.NAMESPACE, StrutsBenchmarkState.ACTION_NAME, null, extraContext, true, false);
+        return proxy.getInvocation().invoke();
+    }
+}
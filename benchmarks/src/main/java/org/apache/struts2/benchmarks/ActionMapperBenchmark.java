@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.benchmarks;
+
+import org.apache.struts2.config.ConfigurationManager;
+import org.apache.struts2.dispatcher.mapper.ActionMapper;
+import org.apache.struts2.dispatcher.mapper.ActionMapping;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link ActionMapper#getMapping} of the configured {@link org.apache.struts2.dispatcher.mapper.DefaultActionMapper}
+ * for a plain request, a request carrying a session id in its path and a request using a special
+ * {@code action:} parameter.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ActionMapperBenchmark {
+
+    private ActionMapper mapper;
+    private ConfigurationManager configurationManager;
+    private MockHttpServletRequest request;
+    private MockHttpServletRequest sessionIdRequest;
+    private MockHttpServletRequest actionPrefixRequest;
+
+    @Setup(Level.Trial)
+    public void setUp(StrutsBenchmarkState state) {
+        mapper = state.getContainer().getInstance(ActionMapper.class);
+        configurationManager = state.getDispatcher().getConfigurationManager();
+
+        request = state.createRequest();
+
+        String path = StrutsBenchmarkState.NAMESPACE + "/" + StrutsBenchmarkState.ACTION_NAME + ".action";
+        sessionIdRequest = state.createRequest();
+        sessionIdRequest.setRequestURI(path + ";jsessionid=0123456789ABCDEF");
+        sessionIdRequest.setServletPath(path + ";jsessionid=0123456789ABCDEF");
+
+        actionPrefixRequest = state.createRequest();
+        actionPrefixRequest.addParameter("action:" + StrutsBenchmarkState.ACTION_NAME, "");
+    }
+
+    @Benchmark
+    public ActionMapping getMapping() {
+        return mapper.getMapping(request, configurationManager);
+    }
+
+    @Benchmark
+    public ActionMapping getMappingWithSessionId() {
+        return mapper.getMapping(sessionIdRequest, configurationManager);
+    }
+
+    @Benchmark
+    public ActionMapping getMappingWithActionPrefix() {
+        return mapper.getMapping(actionPrefixRequest, configurationManager);
+    }
+}
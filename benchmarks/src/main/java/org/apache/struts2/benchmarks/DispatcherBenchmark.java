@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.benchmarks;
+
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import org.apache.struts2.dispatcher.ExecuteOperations;
+import org.apache.struts2.dispatcher.PrepareOperations;
+import org.apache.struts2.dispatcher.mapper.ActionMapping;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a whole request going through {@link org.apache.struts2.dispatcher.Dispatcher#serviceAction}, driven
+ * the same way as {@link org.apache.struts2.dispatcher.filter.StrutsPrepareAndExecuteFilter} does it: preparing
+ * the action context, mapping the request, executing the action with the default stack and cleaning up.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DispatcherBenchmark {
+
+    private PrepareOperations prepare;
+    private ExecuteOperations execute;
+
+    @Setup(Level.Trial)
+    public void setUp(StrutsBenchmarkState state) {
+        prepare = new PrepareOperations(state.getDispatcher());
+        execute = new ExecuteOperations(state.getDispatcher());
+    }
+
+    @Benchmark
+    public int serviceAction(StrutsBenchmarkState state) throws ServletException {
+        MockHttpServletRequest request = state.createRequest();
+        MockHttpServletResponse response = state.createResponse();
+        try {
+            prepare.trackRecursion(request);
+            prepare.setEncodingAndLocale(request, response);
+            prepare.createActionContext(request, response);
+            prepare.assignDispatcherToThread();
+            HttpServletRequest wrappedRequest = prepare.wrapRequest(request);
+            ActionMapping mapping = prepare.findActionMapping(wrappedRequest, response, true);
+            execute.executeAction(wrappedRequest, response, mapping);
+        } finally {
+            prepare.cleanupRequest(request);
+        }
+        return response.getStatus();
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.benchmarks;
+
+import org.apache.struts2.ActionContext;
+import org.apache.struts2.components.Select;
+import org.apache.struts2.components.TextField;
+import org.apache.struts2.components.UIBean;
+import org.apache.struts2.inject.Container;
+import org.apache.struts2.mock.MockActionInvocation;
+import org.apache.struts2.util.ValueStack;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.StringWriter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures rendering of UI tags through the {@link org.apache.struts2.components.template.FreemarkerTemplateEngine}
+ * for each of the bundled themes.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FreemarkerTagBenchmark {
+
+    @Param({"simple", "xhtml", "css_xhtml"})
+    public String theme;
+
+    private Container container;
+    private ValueStack stack;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @Setup(Level.Trial)
+    public void setUp(StrutsBenchmarkState state) {
+        container = state.getContainer();
+        request = state.createRequest();
+        response = state.createResponse();
+        stack = state.createBoundValueStack(request, response);
+
+        BenchmarkAction action = new BenchmarkAction();
+        action.setName("Struts");
+        action.getAddress().setCity("Wakefield");
+        action.getTags().add("mvc");
+        action.getTags().add("java");
+
+        MockActionInvocation invocation = new MockActionInvocation();
+        invocation.setAction(action);
+        invocation.setStack(stack);
+        invocation.setInvocationContext(stack.getActionContext());
+        stack.getActionContext().withActionInvocation(invocation);
+        stack.push(action);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        ActionContext.clear();
+    }
+
+    @Benchmark
+    public String renderTextField() {
+        TextField textField = new TextField(stack, request, response);
+        textField.setName("address.city");
+        textField.setLabel("City");
+        textField.setRequiredLabel("true");
+        textField.setCssClass("form-control");
+        textField.setMaxlength("50");
+        return render(textField);
+    }
+
+    @Benchmark
+    public String renderSelect() {
+        Select select = new Select(stack, request, response);
+        select.setName("name");
+        select.setLabel("Name");
+        select.setList("tags");
+        select.setEmptyOption("true");
+        return render(select);
+    }
+
+    private String render(UIBean bean) {
+        container.inject(bean);
+        bean.setTheme(theme);
+
+        StringWriter writer = new StringWriter();
+        bean.start(writer);
+        bean.end(writer, "");
+        return writer.toString();
+    }
+}
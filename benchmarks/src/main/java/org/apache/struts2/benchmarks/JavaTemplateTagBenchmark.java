@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.benchmarks;
+
+import org.apache.struts2.ActionContext;
+import org.apache.struts2.components.Checkbox;
+import org.apache.struts2.components.TextField;
+import org.apache.struts2.components.UIBean;
+import org.apache.struts2.components.template.Template;
+import org.apache.struts2.components.template.TemplateEngine;
+import org.apache.struts2.components.template.TemplateEngineManager;
+import org.apache.struts2.components.template.TemplateRenderingContext;
+import org.apache.struts2.inject.Container;
+import org.apache.struts2.mock.MockActionInvocation;
+import org.apache.struts2.util.ValueStack;
+import org.apache.struts2.views.java.JavaTemplateEngine;
+import org.apache.struts2.views.java.cssxhtml.CssXHTMLTheme;
+import org.apache.struts2.views.java.xhtml.XHTMLTheme;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.StringWriter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares rendering of UI tags with the FreeMarker templates and with the Java implementation of each theme
+ * provided by the javatemplates plugin.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class JavaTemplateTagBenchmark {
+
+    @Param({"simple", "xhtml", "css_xhtml"})
+    public String theme;
+
+    @Param({"ftl", "java"})
+    public String engineType;
+
+    private Container container;
+    private ValueStack stack;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+    private TemplateEngine engine;
+
+    @Setup(Level.Trial)
+    public void setUp(StrutsBenchmarkState state) {
+        container = state.getContainer();
+        request = state.createRequest();
+        response = state.createResponse();
+        stack = state.createBoundValueStack(request, response);
+
+        BenchmarkAction action = new BenchmarkAction();
+        action.setName("Struts");
+        action.getAddress().setCity("Wakefield");
+        action.addFieldError("name", "Name is too short");
+
+        MockActionInvocation invocation = new MockActionInvocation();
+        invocation.setAction(action);
+        invocation.setStack(stack);
+        invocation.setInvocationContext(stack.getActionContext());
+        stack.getActionContext().withActionInvocation(invocation);
+        stack.push(action);
+
+        if ("java".equals(engineType)) {
+            JavaTemplateEngine javaEngine = new JavaTemplateEngine();
+            container.inject(javaEngine);
+            // the xhtml themes are partial and have to be registered explicitly
+            javaEngine.setThemeClasses(XHTMLTheme.class.getName() + "," + CssXHTMLTheme.class.getName());
+            engine = javaEngine;
+        } else {
+            engine = container.getInstance(TemplateEngineManager.class).getTemplateEngine(new Template("template", theme, "text"), engineType);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        ActionContext.clear();
+    }
+
+    @Benchmark
+    public String renderTextField() throws Exception {
+        TextField textField = new TextField(stack, request, response);
+        textField.setName("address.city");
+        textField.setLabel("City");
+        textField.setRequiredLabel("true");
+        return render(textField, "text");
+    }
+
+    @Benchmark
+    public String renderTextFieldWithErrors() throws Exception {
+        TextField textField = new TextField(stack, request, response);
+        textField.setName("name");
+        textField.setLabel("Name");
+        return render(textField, "text");
+    }
+
+    @Benchmark
+    public String renderCheckbox() throws Exception {
+        Checkbox checkbox = new Checkbox(stack, request, response);
+        checkbox.setName("active");
+        checkbox.setLabel("Active");
+        return render(checkbox, "checkbox");
+    }
+
+    private String render(UIBean bean, String templateName) throws Exception {
+        container.inject(bean);
+        bean.setTheme(theme);
+        bean.evaluateParams();
+
+        StringWriter writer = new StringWriter();
+        Template template = new Template("template", theme, templateName);
+        engine.renderTemplate(new TemplateRenderingContext(template, writer, stack, bean.getAttributes(), bean));
+        return writer.toString();
+    }
+}
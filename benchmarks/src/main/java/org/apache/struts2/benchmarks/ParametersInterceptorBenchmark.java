@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.benchmarks;
+
+import org.apache.struts2.ActionContext;
+import org.apache.struts2.dispatcher.HttpParameters;
+import org.apache.struts2.interceptor.parameter.ParametersInterceptor;
+import org.apache.struts2.mock.MockActionInvocation;
+import org.apache.struts2.util.ValueStack;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link ParametersInterceptor#doIntercept} applying a batch of flat, nested and indexed parameters
+ * to a fresh action, with and without {@link org.apache.struts2.interceptor.parameter.StrutsParameter}
+ * annotations being required.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ParametersInterceptorBenchmark {
+
+    @Param({"false", "true"})
+    public String requireAnnotations;
+
+    private ParametersInterceptor interceptor;
+    private MockActionInvocation invocation;
+    private ValueStack stack;
+    private HttpParameters parameters;
+
+    @Setup(Level.Trial)
+    public void setUp(StrutsBenchmarkState state) {
+        interceptor = new ParametersInterceptor();
+        state.getContainer().inject(interceptor);
+        interceptor.setRequireAnnotations(requireAnnotations);
+        interceptor.init();
+
+        stack = state.createBoundValueStack(state.createRequest(), state.createResponse());
+
+        Map<String, Object> params = new HashMap<>();
+        params.put("name", "Struts");
+        params.put("age", "24");
+        params.put("address.street", "Main Street");
+        params.put("address.city", "Wakefield");
+        params.put("tags[0]", "mvc");
+        params.put("tags[1]", "java");
+        parameters = HttpParameters.create(params).build();
+
+        invocation = new MockActionInvocation();
+        invocation.setInvocationContext(stack.getActionContext());
+        invocation.setStack(stack);
+        invocation.setResultCode("success");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        interceptor.destroy();
+        ActionContext.clear();
+    }
+
+    @Benchmark
+    public String doIntercept() throws Exception {
+        BenchmarkAction action = new BenchmarkAction();
+        stack.push(action);
+        try {
+            stack.getActionContext().withParameters(parameters);
+            invocation.setAction(action);
+            return interceptor.doIntercept(invocation);
+        } finally {
+            stack.pop();
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.benchmarks;
+
+import org.apache.struts2.ActionContext;
+import org.apache.struts2.dispatcher.Dispatcher;
+import org.apache.struts2.inject.Container;
+import org.apache.struts2.util.StrutsTestCaseHelper;
+import org.apache.struts2.util.ValueStack;
+import org.apache.struts2.util.ValueStackFactory;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.mock.web.MockServletContext;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Shared JMH state which boots a fully configured {@link Dispatcher} on top of Spring's mock servlet objects,
+ * the same way {@link StrutsTestCaseHelper} does for the framework's own tests.
+ */
+@State(Scope.Benchmark)
+public class StrutsBenchmarkState {
+
+    public static final String CONFIG = "struts-default.xml,struts-benchmark.xml";
+    public static final String NAMESPACE = "/bench";
+    public static final String ACTION_NAME = "form";
+
+    protected MockServletContext servletContext;
+    protected Dispatcher dispatcher;
+    protected Container container;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        servletContext = new MockServletContext();
+        Map<String, String> params = new HashMap<>();
+        params.put("config", CONFIG);
+        dispatcher = StrutsTestCaseHelper.initDispatcher(servletContext, params);
+        container = dispatcher.getContainer();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        StrutsTestCaseHelper.tearDown(dispatcher);
+    }
+
+    public Dispatcher getDispatcher() {
+        return dispatcher;
+    }
+
+    public Container getContainer() {
+        return container;
+    }
+
+    public MockServletContext getServletContext() {
+        return servletContext;
+    }
+
+    /**
+     * @return a request to the benchmark action carrying a typical set of form parameters
+     */
+    public MockHttpServletRequest createRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest(servletContext, "POST", NAMESPACE + "/" + ACTION_NAME + ".action");
+        request.setServletPath(NAMESPACE + "/" + ACTION_NAME + ".action");
+        request.setSession(new MockHttpSession(servletContext));
+        request.addParameter("name", "Struts");
+        request.addParameter("age", "24");
+        request.addParameter("address.street", "Main Street");
+        request.addParameter("address.city", "Wakefield");
+        request.addParameter("tags[0]", "mvc");
+        request.addParameter("tags[1]", "java");
+        return request;
+    }
+
+    public MockHttpServletResponse createResponse() {
+        return new MockHttpServletResponse();
+    }
+
+    /**
+     * Creates a new value stack bound to a fresh {@link ActionContext} carrying the mock servlet objects.
+     */
+    public ValueStack createBoundValueStack(MockHttpServletRequest request, MockHttpServletResponse response) {
+        ValueStack stack = container.getInstance(ValueStackFactory.class).createValueStack();
+        stack.getActionContext()
+            .withExtraContext(dispatcher.createContextMap(request, response, null))
+            .withContainer(container)
+            .withValueStack(stack)
+            .bind();
+        return stack;
+    }
+}
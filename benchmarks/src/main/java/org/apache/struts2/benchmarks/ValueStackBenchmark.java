@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.benchmarks;
+
+import org.apache.struts2.ActionContext;
+import org.apache.struts2.util.ValueStack;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link ValueStack#findValue(String)} and {@link ValueStack#setValue(String, Object)} against an
+ * action pushed onto an {@link org.apache.struts2.ognl.OgnlValueStack}, covering simple, nested, indexed
+ * and unresolvable expressions.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ValueStackBenchmark {
+
+    private ValueStack stack;
+
+    @Setup(Level.Trial)
+    public void setUp(StrutsBenchmarkState state) {
+        stack = state.createBoundValueStack(state.createRequest(), state.createResponse());
+
+        BenchmarkAction action = new BenchmarkAction();
+        action.setName("Struts");
+        action.getAddress().setCity("Wakefield");
+        action.getTags().add("mvc");
+        stack.push(action);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        ActionContext.clear();
+    }
+
+    @Benchmark
+    public Object findSimpleValue() {
+        return stack.findValue("name");
+    }
+
+    @Benchmark
+    public Object findNestedValue() {
+        return stack.findValue("address.city");
+    }
+
+    @Benchmark
+    public Object findIndexedValue() {
+        return stack.findValue("tags[0]");
+    }
+
+    @Benchmark
+    public Object findMissingValue() {
+        return stack.findValue("nonExistingProperty");
+    }
+
+    @Benchmark
+    public Object findStringValue() {
+        return stack.findString("address.city");
+    }
+
+    @Benchmark
+    public ValueStack setSimpleValue() {
+        stack.setValue("name", "Apache");
+        return stack;
+    }
+
+    @Benchmark
+    public ValueStack setNestedValue() {
+        stack.setValue("address.city", "Leeds");
+        return stack;
+    }
+}
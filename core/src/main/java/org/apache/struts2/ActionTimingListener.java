@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2;
+
+/**
+ * Receives the time spent in each step of an action invocation, the interceptors, the action and the result.
+ * <p>
+ * Called on the request thread for each step, implementations must be thread-safe and should return quickly.
+ * </p>
+ *
+ * @since 7.0.0
+ */
+public interface ActionTimingListener {
+
+    /**
+     * Called when an interceptor returns.
+     *
+     * @param invocation      the action invocation
+     * @param interceptorName name of the interceptor
+     * @param nanos           time spent in the interceptor itself, excluding the rest of the invocation it called
+     */
+    void interceptorExecuted(ActionInvocation invocation, String interceptorName, long nanos);
+
+    /**
+     * Called when the action method returns.
+     *
+     * @param invocation the action invocation
+     * @param nanos      time spent in the action method
+     */
+    void actionExecuted(ActionInvocation invocation, long nanos);
+
+    /**
+     * Called when the result has been executed.
+     *
+     * @param invocation the action invocation
+     * @param resultCode the result code
+     * @param nanos      time spent executing the result
+     */
+    void resultExecuted(ActionInvocation invocation, String resultCode, long nanos);
+}
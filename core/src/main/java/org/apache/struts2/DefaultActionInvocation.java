@@ -71,6 +71,7 @@ public class DefaultActionInvocation implements ActionInvocation {
     protected boolean pushAction;
     protected ObjectFactory objectFactory;
     protected ActionEventListener actionEventListener;
+    protected ActionTimingListener actionTimingListener;
     protected ValueStackFactory valueStackFactory;
     protected Container container;
     protected UnknownHandlerManager unknownHandlerManager;
@@ -78,6 +79,8 @@ public class DefaultActionInvocation implements ActionInvocation {
     protected AsyncManager asyncManager;
     protected Callable<?> asyncAction;
     protected WithLazyParams.LazyParamInjector lazyParamInjector;
+    // time spent in the steps nested in the current interceptor, only tracked with an ActionTimingListener
+    private long nestedNanos;
 
     public DefaultActionInvocation(final Map<String, Object> extraContext, final boolean pushAction) {
         this.extraContext = extraContext;
@@ -110,6 +113,11 @@ public class DefaultActionInvocation implements ActionInvocation {
         this.actionEventListener = listener;
     }
 
+    @Inject(required = false)
+    public void setActionTimingListener(ActionTimingListener listener) {
+        this.actionTimingListener = listener;
+    }
+
     @Inject
     public void setOgnlUtil(OgnlUtil ognlUtil) {
         this.ognlUtil = ognlUtil;
@@ -261,11 +269,19 @@ public class DefaultActionInvocation implements ActionInvocation {
                 if (interceptor instanceof WithLazyParams) {
                     interceptor = lazyParamInjector.injectParams(interceptor, interceptorMapping.getParams(), invocationContext);
                 }
-                if (interceptor instanceof ConditionalInterceptor conditionalInterceptor) {
-                    resultCode = executeConditional(conditionalInterceptor);
+                if (actionTimingListener != null) {
+                    resultCode = executeTimed(interceptorMapping, interceptor);
                 } else {
-                    LOG.debug("Executing normal interceptor: {}", interceptorMapping.getName());
-                    resultCode = interceptor.intercept(this);
+                    resultCode = executeInterceptor(interceptorMapping, interceptor);
+                }
+            } else if (actionTimingListener != null) {
+                long start = System.nanoTime();
+                try {
+                    resultCode = invokeActionOnly();
+                } finally {
+                    long nanos = System.nanoTime() - start;
+                    nestedNanos += nanos;
+                    actionTimingListener.actionExecuted(this, nanos);
                 }
             } else {
                 resultCode = invokeActionOnly();
@@ -293,7 +309,18 @@ public class DefaultActionInvocation implements ActionInvocation {
 
                 // now execute the result, if we're supposed to
                 if (proxy.getExecuteResult()) {
-                    executeResult();
+                    if (actionTimingListener != null) {
+                        long start = System.nanoTime();
+                        try {
+                            executeResult();
+                        } finally {
+                            long nanos = System.nanoTime() - start;
+                            nestedNanos += nanos;
+                            actionTimingListener.resultExecuted(this, resultCode, nanos);
+                        }
+                    } else {
+                        executeResult();
+                    }
                 }
 
                 executed = true;
@@ -305,6 +332,32 @@ public class DefaultActionInvocation implements ActionInvocation {
         return resultCode;
     }
 
+    private String executeInterceptor(InterceptorMapping interceptorMapping, Interceptor interceptor) throws Exception {
+        if (interceptor instanceof ConditionalInterceptor conditionalInterceptor) {
+            return executeConditional(conditionalInterceptor);
+        } else {
+            LOG.debug("Executing normal interceptor: {}", interceptorMapping.getName());
+            return interceptor.intercept(this);
+        }
+    }
+
+    /**
+     * Executes the interceptor and reports the time spent in the interceptor itself, the time spent in the steps
+     * nested in it (the following interceptors, the action and the result) is reported separately.
+     */
+    private String executeTimed(InterceptorMapping interceptorMapping, Interceptor interceptor) throws Exception {
+        long outerNestedNanos = nestedNanos;
+        nestedNanos = 0;
+        long start = System.nanoTime();
+        try {
+            return executeInterceptor(interceptorMapping, interceptor);
+        } finally {
+            long nanos = System.nanoTime() - start;
+            actionTimingListener.interceptorExecuted(this, interceptorMapping.getName(), Math.max(0, nanos - nestedNanos));
+            nestedNanos = outerNestedNanos + nanos;
+        }
+    }
+
     protected String executeConditional(ConditionalInterceptor conditionalInterceptor) throws Exception {
         if (conditionalInterceptor.shouldIntercept(this)) {
             LOG.debug("Executing conditional interceptor: {}", conditionalInterceptor.getClass().getSimpleName());
@@ -444,7 +497,7 @@ public class DefaultActionInvocation implements ActionInvocation {
         try {
             Object methodResult;
             try {
-                methodResult = ognlUtil.callMethod(methodName + "()", getStack().getContext(), action);
+                methodResult = ognlUtil.callActionMethod(methodName, getStack().getContext(), action);
             } catch (MethodFailedException e) {
                 // if reason is missing method,  try checking UnknownHandlers
                 if (e.getReason() instanceof NoSuchMethodException) {
@@ -52,6 +52,21 @@ public final class StrutsConstants {
      */
     public static final String STRUTS_I18N_SEARCH_DEFAULTBUNDLES_FIRST = "struts.i18n.search.defaultbundles.first";
 
+    /**
+     * Maximum number of texts, per class, key and locale, for which the location found by searching the class and
+     * package hierarchy is remembered, 0 disables the cache.
+     *
+     * @since 7.0.0
+     */
+    public static final String STRUTS_I18N_RESOLVED_TEXT_CACHE_MAXSIZE = "struts.i18n.resolvedTextCache.maxSize";
+
+    /**
+     * Maximum number of parsed message patterns, per pattern and locale, kept for formatting texts, 0 disables the cache.
+     *
+     * @since 7.0.0
+     */
+    public static final String STRUTS_I18N_MESSAGE_FORMAT_CACHE_MAXSIZE = "struts.i18n.messageFormatCache.maxSize";
+
     /**
      * Whether to reload the XML configuration or not
      */
@@ -160,6 +175,13 @@ public final class StrutsConstants {
      */
     public static final String STRUTS_FREEMARKER_MRU_MAX_STRONG_SIZE = "struts.freemarker.mru.max.strong.size";
 
+    /**
+     * Whether UI tags rendered with FreeMarker within the same request share the base template model
+     *
+     * @since 7.0.0
+     */
+    public static final String STRUTS_FREEMARKER_REUSE_TAG_MODEL = "struts.freemarker.reuseTagModel";
+
     /**
      * The Velocity configuration file path
      */
@@ -200,6 +222,22 @@ public final class StrutsConstants {
      */
     public static final String STRUTS_UI_ESCAPE_HTML_BODY = "struts.ui.escapeHtmlBody";
 
+    /**
+     * Maximum number of UI templates, per template directory, theme and name, for which the template found by following
+     * the theme inheritance chain (or the lack of it) is remembered, 0 disables the cache.
+     *
+     * @since 7.0.0
+     */
+    public static final String STRUTS_UI_TEMPLATE_RESOLUTION_CACHE_MAXSIZE = "struts.ui.templateResolutionCache.maxSize";
+
+    /**
+     * Enables lazy evaluation of the attributes of UI tags, an attribute expression is then evaluated only when
+     * a template reads the attribute for the first time.
+     *
+     * @since 7.0.0
+     */
+    public static final String STRUTS_UI_LAZY_PARAMETERS = "struts.ui.lazyParameters";
+
     /**
      * The maximum size of a multipart request (file upload)
      */
@@ -347,6 +385,13 @@ public final class StrutsConstants {
      */
     public static final String STRUTS_ACTION_CONFIG_FALLBACK_TO_EMPTY_NAMESPACE = "struts.actionConfig.fallbackToEmptyNamespace";
 
+    /**
+     * Maximum number of action configs resolved by matching wildcards to keep cached, 0 disables the cache
+     *
+     * @since 7.0.0
+     */
+    public static final String STRUTS_ACTION_CONFIG_CACHE_MAXSIZE = "struts.actionConfig.cacheMaxSize";
+
     /**
      * The {@link org.apache.struts2.locale.LocaleProviderFactory} implementation class
      */
@@ -485,6 +530,37 @@ public final class StrutsConstants {
      */
     public static final String STRUTS_OGNL_EXPRESSION_CACHE_MAXSIZE = "struts.ognl.expressionCacheMaxSize";
 
+    /**
+     * Enables remembering per class the properties which don't exist on it, so repeated lookups of such properties
+     * on the value stack skip the reflective lookup
+     *
+     * @since 7.0.0
+     */
+    public static final String STRUTS_OGNL_CACHE_MISSING_PROPERTIES = "struts.ognl.cacheMissingProperties";
+
+    /**
+     * Enables reusing the value stacks created during a request for later requests processed by the same thread
+     *
+     * @since 7.0.0
+     */
+    public static final String STRUTS_OGNL_RECYCLE_VALUE_STACKS = "struts.ognl.recycleValueStacks";
+
+    /**
+     * Enables compiling simple property chain expressions, like {@code user.address.city}, evaluated against
+     * the value stack into direct getter calls once they have been evaluated often enough against the same root class.
+     *
+     * @since 7.0.0
+     */
+    public static final String STRUTS_OGNL_ENABLE_COMPILED_ACCESSORS = "struts.ognl.enableCompiledAccessors";
+
+    /**
+     * Number of evaluations of a property chain expression against the same root class after which it gets compiled,
+     * used only when {@link #STRUTS_OGNL_ENABLE_COMPILED_ACCESSORS} is enabled.
+     *
+     * @since 7.0.0
+     */
+    public static final String STRUTS_OGNL_COMPILED_ACCESSORS_THRESHOLD = "struts.ognl.compiledAccessorsThreshold";
+
     /**
      * Enables evaluation of OGNL expressions
      *
@@ -534,6 +610,14 @@ public final class StrutsConstants {
 
     public static final String STRUTS_EXPRESSION_PARSER = "struts.expression.parser";
 
+    /**
+     * Maximum number of texts evaluated by {@link org.apache.struts2.util.OgnlTextParser}, like result locations or
+     * parameters, which are remembered split up into literal text and expressions, 0 disables the cache.
+     *
+     * @since 7.0.0
+     */
+    public static final String STRUTS_EXPRESSION_PARSED_TEXT_CACHE_MAXSIZE = "struts.expression.parsedTextCache.maxSize";
+
     /**
      * Namespace names' whitelist
      */
@@ -630,6 +714,14 @@ public final class StrutsConstants {
     public static final String STRUTS_PARAMETERS_REQUIRE_ANNOTATIONS = "struts.parameters.requireAnnotations";
     public static final String STRUTS_PARAMETERS_REQUIRE_ANNOTATIONS_TRANSITION = "struts.parameters.requireAnnotations.transitionMode";
 
+    /**
+     * Maximum number of parameter acceptance decisions, keyed by action class and parameter name, remembered by each
+     * parameters interceptor, 0 disables the cache.
+     *
+     * @since 7.0.0
+     */
+    public static final String STRUTS_PARAMETERS_ACCEPTANCE_CACHE_MAXSIZE = "struts.parameters.acceptanceCache.maxSize";
+
     public static final String STRUTS_CONTENT_TYPE_MATCHER = "struts.contentTypeMatcher";
 
     public static final String STRUTS_SMI_METHOD_REGEX = "struts.strictMethodInvocation.methodRegex";
@@ -673,4 +765,12 @@ public final class StrutsConstants {
      * See {@link org.apache.struts2.interceptor.exec.ExecutorProvider}
      */
     public static final String STRUTS_EXECUTOR_PROVIDER = "struts.executor.provider";
+
+    /**
+     * The {@link org.apache.struts2.ActionTimingListener} notified of the time spent in each interceptor, action and
+     * result, use "metrics" to record the latencies with {@link org.apache.struts2.metrics.InvocationMetrics}
+     *
+     * @since 7.0.0
+     */
+    public static final String STRUTS_ACTION_TIMING_LISTENER = "struts.actionTimingListener";
 }
@@ -371,7 +371,8 @@ public class Component {
      * Evaluates the OGNL stack to find an Object of the given type. Will evaluate
      * <code>expression</code> the portion wrapped with %{...} against stack if
      * evaluating to String.class, else the whole <code>expression</code> is evaluated
-     * against the stack.
+     * against the stack. A literal, see {@link ComponentUtils#isLiteral(String, Class)},
+     * is converted without evaluating it.
      *
      * @param expression OGNL expression.
      * @param toType     the type expected to find.
@@ -384,6 +385,8 @@ public class Component {
             } else {
                 return expression;
             }
+        } else if (ComponentUtils.isLiteral(expression, toType)) {
+            return ComponentUtils.toLiteral(expression, toType);
         } else {
             String strippedExpression = stripExpression(expression);
             return getStack().findValue(strippedExpression, toType, throwExceptionOnELFailure);
@@ -0,0 +1,226 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.components;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Attributes of a UI tag where some values are evaluated only when they are read for the first time.
+ * <p>
+ * A lazy value is replaced by the evaluated value once read, a value evaluated to {@code null} is removed, the same
+ * way {@link Component#addParameter(String, Object)} removes a parameter without value. Any view of the whole map
+ * evaluates all the pending values first.
+ */
+final class LazyAttributes extends LinkedHashMap<String, Object> {
+
+    private static final long serialVersionUID = -2218937146530316124L;
+
+    private int pending;
+
+    LazyAttributes(Map<String, Object> attributes) {
+        super(attributes);
+    }
+
+    void putLazy(String key, Supplier<?> value) {
+        if (!(super.put(key, new LazyValue(value)) instanceof LazyValue)) {
+            pending++;
+        }
+    }
+
+    @Override
+    public Object get(Object key) {
+        Object value = super.get(key);
+        if (value instanceof LazyValue lazyValue) {
+            pending--;
+            value = lazyValue.supplier.get();
+            if (value == null) {
+                super.remove(key);
+            } else {
+                super.put((String) key, value);
+            }
+        }
+        return value;
+    }
+
+    @Override
+    public Object getOrDefault(Object key, Object defaultValue) {
+        Object value = get(key);
+        return value != null ? value : defaultValue;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null || super.containsKey(key);
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        Object previous = super.put(key, value);
+        if (previous instanceof LazyValue) {
+            pending--;
+        }
+        return previous;
+    }
+
+    @Override
+    public Object remove(Object key) {
+        Object previous = super.remove(key);
+        if (previous instanceof LazyValue lazyValue) {
+            pending--;
+            return lazyValue.supplier.get();
+        }
+        return previous;
+    }
+
+    @Override
+    public Object putIfAbsent(String key, Object value) {
+        get(key);
+        return super.putIfAbsent(key, value);
+    }
+
+    @Override
+    public Object replace(String key, Object value) {
+        get(key);
+        return super.replace(key, value);
+    }
+
+    @Override
+    public boolean replace(String key, Object oldValue, Object newValue) {
+        get(key);
+        return super.replace(key, oldValue, newValue);
+    }
+
+    @Override
+    public Object computeIfAbsent(String key, Function<? super String, ?> mappingFunction) {
+        get(key);
+        return super.computeIfAbsent(key, mappingFunction);
+    }
+
+    @Override
+    public Object computeIfPresent(String key, BiFunction<? super String, ? super Object, ?> remappingFunction) {
+        get(key);
+        return super.computeIfPresent(key, remappingFunction);
+    }
+
+    @Override
+    public Object compute(String key, BiFunction<? super String, ? super Object, ?> remappingFunction) {
+        get(key);
+        return super.compute(key, remappingFunction);
+    }
+
+    @Override
+    public Object merge(String key, Object value, BiFunction<? super Object, ? super Object, ?> remappingFunction) {
+        get(key);
+        return super.merge(key, value, remappingFunction);
+    }
+
+    @Override
+    public void clear() {
+        pending = 0;
+        super.clear();
+    }
+
+    @Override
+    public int size() {
+        evaluateAll();
+        return super.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        evaluateAll();
+        return super.isEmpty();
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        evaluateAll();
+        return super.containsValue(value);
+    }
+
+    @Override
+    public Set<String> keySet() {
+        evaluateAll();
+        return super.keySet();
+    }
+
+    @Override
+    public Collection<Object> values() {
+        evaluateAll();
+        return super.values();
+    }
+
+    @Override
+    public Set<Map.Entry<String, Object>> entrySet() {
+        evaluateAll();
+        return super.entrySet();
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super String, ? super Object> action) {
+        evaluateAll();
+        super.forEach(action);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        evaluateAll();
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        evaluateAll();
+        return super.hashCode();
+    }
+
+    @Override
+    public Object clone() {
+        evaluateAll();
+        return super.clone();
+    }
+
+    @Override
+    public String toString() {
+        evaluateAll();
+        return super.toString();
+    }
+
+    private void evaluateAll() {
+        if (pending > 0) {
+            // evaluating a value may change the map
+            for (Map.Entry<String, Object> entry : new ArrayList<>(super.entrySet())) {
+                if (entry.getValue() instanceof LazyValue) {
+                    get(entry.getKey());
+                }
+            }
+        }
+    }
+
+    private record LazyValue(Supplier<?> supplier) {
+    }
+}
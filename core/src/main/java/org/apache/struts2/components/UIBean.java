@@ -25,6 +25,7 @@ import org.apache.struts2.util.ValueStack;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpSession;
+import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.LogManager;
@@ -47,6 +48,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * <p>
@@ -541,6 +543,13 @@ public abstract class UIBean extends Component {
         this.uiStaticContentPath = StaticContentLoader.Validator.validateStaticContentPath(uiStaticContentPath);
     }
 
+    @Inject(value = StrutsConstants.STRUTS_UI_LAZY_PARAMETERS, required = false)
+    public void setLazyParameters(String lazyParameters) {
+        if (BooleanUtils.toBoolean(lazyParameters) && !(attributes instanceof LazyAttributes)) {
+            attributes = new LazyAttributes(attributes);
+        }
+    }
+
     @Inject
     public void setTemplateEngineManager(TemplateEngineManager mgr) {
         this.templateEngineManager = mgr;
@@ -647,21 +656,12 @@ public abstract class UIBean extends Component {
         addParameter("themeExpansionToken", uiThemeExpansionToken);
         addParameter("expandTheme", uiThemeExpansionToken + gotTheme);
 
-        addParameter("staticContentPath", findString(uiStaticContentPath));
+        addLazyStringParameter("staticContentPath", uiStaticContentPath);
 
         String translatedName = null;
-        String providedLabel = null;
-
-        if (this.key != null) {
 
-            if(this.name == null) {
-                setName(key);
-            }
-
-            if(this.label == null) {
-                // lookup the label from a TextProvider (default value is the key)
-                providedLabel = TextProviderHelper.getText(key, key, stack);
-            }
+        if (this.key != null && this.name == null) {
+            setName(key);
         }
 
         if (this.name != null) {
@@ -670,123 +670,119 @@ public abstract class UIBean extends Component {
         }
 
         if (label != null) {
-            addParameter("label", findString(label));
-        } else {
-            if (providedLabel != null) {
-                // label found via a TextProvider
-                addParameter("label", providedLabel);
-            }
+            addLazyStringParameter("label", label);
+        } else if (key != null) {
+            // lookup the label from a TextProvider (default value is the key)
+            final String textKey = key;
+            addLazyParameter("label", () -> TextProviderHelper.getText(textKey, textKey, stack));
         }
 
         if (labelSeparator != null) {
-            addParameter("labelseparator", findString(labelSeparator));
+            addLazyStringParameter("labelseparator", labelSeparator);
         }
 
         if (labelPosition != null) {
-            String labelPosition = findString(this.labelPosition);
-            addParameter("labelPosition", labelPosition);
+            addLazyStringParameter("labelPosition", labelPosition);
         }
 
         if (requiredPosition != null) {
-            addParameter("requiredPosition", findString(requiredPosition));
+            addLazyStringParameter("requiredPosition", requiredPosition);
         }
 
         if (errorPosition != null) {
-            addParameter("errorposition", findString(errorPosition));
+            addLazyStringParameter("errorposition", errorPosition);
         }
 
         if (requiredLabel != null) {
-            Object parsedValue = findValue(requiredLabel, Boolean.class);
-            addParameter("required", parsedValue == null ? Boolean.valueOf(requiredLabel) : parsedValue);
+            addLazyBooleanParameter("required", requiredLabel);
         }
 
         if (disabled != null) {
-            Object parsedValue = findValue(disabled, Boolean.class);
-            addParameter("disabled", parsedValue == null ? Boolean.valueOf(disabled) : parsedValue);
+            addLazyBooleanParameter("disabled", disabled);
         }
 
         if (tabindex != null) {
-            addParameter("tabindex", findString(tabindex));
+            addLazyStringParameter("tabindex", tabindex);
         }
 
         if (onclick != null) {
-            addParameter("onclick", findString(onclick));
+            addLazyStringParameter("onclick", onclick);
         }
 
         if (ondblclick != null) {
-            addParameter("ondblclick", findString(ondblclick));
+            addLazyStringParameter("ondblclick", ondblclick);
         }
 
         if (onmousedown != null) {
-            addParameter("onmousedown", findString(onmousedown));
+            addLazyStringParameter("onmousedown", onmousedown);
         }
 
         if (onmouseup != null) {
-            addParameter("onmouseup", findString(onmouseup));
+            addLazyStringParameter("onmouseup", onmouseup);
         }
 
         if (onmouseover != null) {
-            addParameter("onmouseover", findString(onmouseover));
+            addLazyStringParameter("onmouseover", onmouseover);
         }
 
         if (onmousemove != null) {
-            addParameter("onmousemove", findString(onmousemove));
+            addLazyStringParameter("onmousemove", onmousemove);
         }
 
         if (onmouseout != null) {
-            addParameter("onmouseout", findString(onmouseout));
+            addLazyStringParameter("onmouseout", onmouseout);
         }
 
         if (onfocus != null) {
-            addParameter("onfocus", findString(onfocus));
+            addLazyStringParameter("onfocus", onfocus);
         }
 
         if (onblur != null) {
-            addParameter("onblur", findString(onblur));
+            addLazyStringParameter("onblur", onblur);
         }
 
         if (onkeypress != null) {
-            addParameter("onkeypress", findString(onkeypress));
+            addLazyStringParameter("onkeypress", onkeypress);
         }
 
         if (onkeydown != null) {
-            addParameter("onkeydown", findString(onkeydown));
+            addLazyStringParameter("onkeydown", onkeydown);
         }
 
         if (onkeyup != null) {
-            addParameter("onkeyup", findString(onkeyup));
+            addLazyStringParameter("onkeyup", onkeyup);
         }
 
         if (onselect != null) {
-            addParameter("onselect", findString(onselect));
+            addLazyStringParameter("onselect", onselect);
         }
 
         if (onchange != null) {
-            addParameter("onchange", findString(onchange));
+            addLazyStringParameter("onchange", onchange);
         }
 
         if (accesskey != null) {
-            addParameter("accesskey", findString(accesskey));
+            addLazyStringParameter("accesskey", accesskey);
         }
 
         if (cssClass != null) {
-            addParameter("cssClass", findString(cssClass));
+            addLazyStringParameter("cssClass", cssClass);
         }
 
         if (cssStyle != null) {
-            addParameter("cssStyle", findString(cssStyle));
+            addLazyStringParameter("cssStyle", cssStyle);
         }
 
         if (cssErrorClass != null) {
-            addParameter("cssErrorClass", findString(cssErrorClass));
+            addLazyStringParameter("cssErrorClass", cssErrorClass);
         }
 
         if (cssErrorStyle != null) {
-            addParameter("cssErrorStyle", findString(cssErrorStyle));
+            addLazyStringParameter("cssErrorStyle", cssErrorStyle);
         }
 
         if (title != null) {
-            addParameter("title", findString(title));
+            addLazyStringParameter("title", title);
         }
 
         applyValueParameter(translatedName);
@@ -809,10 +805,11 @@ public abstract class UIBean extends Component {
 
         // tooltip & tooltipConfig
         if (tooltipConfig != null) {
-            addParameter("tooltipConfig", findValue(tooltipConfig));
+            final String tooltipConfigExpr = tooltipConfig;
+            addLazyParameter("tooltipConfig", () -> findValue(tooltipConfigExpr));
         }
         if (tooltip != null) {
-            addParameter("tooltip", findString(tooltip));
+            addLazyStringParameter("tooltip", tooltip);
 
             Map<String, String> tooltipConfigMap = getTooltipConfig(this);
 
@@ -842,14 +839,14 @@ public abstract class UIBean extends Component {
             if (tooltipIcon != null)
                 this.addParameter("tooltipIconPath", tooltipIcon);
             if (this.tooltipIconPath != null)
-                this.addParameter("tooltipIconPath", findString(this.tooltipIconPath));
+                this.addLazyStringParameter("tooltipIconPath", this.tooltipIconPath);
 
             //TODO: this is to keep backward compatibility, remove once when tooltipConfig is dropped
             String tooltipDelayParam = (String) getAttributes().get("tooltipDelay");
             if (tooltipDelayParam != null)
                 this.addParameter("tooltipDelay", tooltipDelayParam);
             if (this.tooltipDelay != null)
-                this.addParameter("tooltipDelay", findString(this.tooltipDelay));
+                this.addLazyStringParameter("tooltipDelay", this.tooltipDelay);
 
             if (this.javascriptTooltip != null) {
                 Object jsTooltips = findValue(this.javascriptTooltip, Boolean.class);
@@ -859,7 +856,7 @@ public abstract class UIBean extends Component {
                 if (form != null)
                     form.addParameter("hasTooltip", jsTooltips);
                 if (this.tooltipCssClass != null)
-                    this.addParameter("tooltipCssClass", findString(this.tooltipCssClass));
+                    this.addLazyStringParameter("tooltipCssClass", this.tooltipCssClass);
             }
         }
 
@@ -876,6 +873,54 @@ public abstract class UIBean extends Component {
         evaluateExtraParams();
     }
 
+    /**
+     * Adds a parameter which, when lazy parameters are enabled, is evaluated only when it is read for the first
+     * time, otherwise it is evaluated right away. A lazy parameter is evaluated against the value stack as it was
+     * when the parameter was added, the objects pushed since then, like the tag itself while its template is
+     * rendered, are popped for the time of the evaluation.
+     *
+     * @param key   the key of the parameter
+     * @param value evaluates the value of the parameter, a <tt>null</tt> value removes the parameter
+     * @see StrutsConstants#STRUTS_UI_LAZY_PARAMETERS
+     */
+    protected void addLazyParameter(String key, Supplier<?> value) {
+        if (attributes instanceof LazyAttributes lazyAttributes) {
+            int depth = stack.size();
+            lazyAttributes.putLazy(key, () -> evaluateAtDepth(depth, value));
+        } else {
+            addParameter(key, value.get());
+        }
+    }
+
+    private Object evaluateAtDepth(int depth, Supplier<?> value) {
+        int pushed = stack.size() - depth;
+        if (pushed <= 0) {
+            return value.get();
+        }
+        Object[] objects = new Object[pushed];
+        for (int i = 0; i < pushed; i++) {
+            objects[i] = stack.pop();
+        }
+        try {
+            return value.get();
+        } finally {
+            for (int i = pushed - 1; i >= 0; i--) {
+                stack.push(objects[i]);
+            }
+        }
+    }
+
+    private void addLazyStringParameter(String key, String expression) {
+        addLazyParameter(key, () -> findString(expression));
+    }
+
+    private void addLazyBooleanParameter(String key, String expression) {
+        addLazyParameter(key, () -> {
+            Object parsedValue = findValue(expression, Boolean.class);
+            return parsedValue == null ? Boolean.valueOf(expression) : parsedValue;
+        });
+    }
+
     /**
      * Tries to calculate the "value" parameter based either on the provided {@link #value} or {@link #name}
      * @param translatedName the already evaluated {@link #name}
@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.components.template;
+
+import freemarker.template.TemplateHashModel;
+import freemarker.template.TemplateModel;
+import freemarker.template.TemplateModelException;
+import org.apache.struts2.views.freemarker.ScopesHashModel;
+
+/**
+ * Data model of a single UI tag, exposes the tag, its attributes and the theme properties and delegates any other
+ * lookup to the model shared by all the tags rendered within the same request.
+ */
+final class FreemarkerTagModel implements TemplateHashModel {
+
+    static final String KEY_TAG = "tag";
+    static final String KEY_ATTRIBUTES = "attributes";
+    static final String KEY_THEME_PROPERTIES = "themeProperties";
+
+    private final ScopesHashModel requestModel;
+    private final Object tag;
+    private final Object attributes;
+    private final Object themeProperties;
+
+    private TemplateModel tagModel;
+    private TemplateModel attributesModel;
+    private TemplateModel themePropertiesModel;
+
+    FreemarkerTagModel(ScopesHashModel requestModel, Object tag, Object attributes, Object themeProperties) {
+        this.requestModel = requestModel;
+        this.tag = tag;
+        this.attributes = attributes;
+        this.themeProperties = themeProperties;
+    }
+
+    @Override
+    public TemplateModel get(String key) throws TemplateModelException {
+        switch (key) {
+            case KEY_TAG -> {
+                if (tagModel == null) {
+                    tagModel = requestModel.getObjectWrapper().wrap(tag);
+                }
+                return tagModel;
+            }
+            case KEY_ATTRIBUTES -> {
+                if (attributesModel == null) {
+                    attributesModel = requestModel.getObjectWrapper().wrap(attributes);
+                }
+                return attributesModel;
+            }
+            case KEY_THEME_PROPERTIES -> {
+                if (themePropertiesModel == null) {
+                    themePropertiesModel = requestModel.getObjectWrapper().wrap(themeProperties);
+                }
+                return themePropertiesModel;
+            }
+            default -> {
+                return requestModel.get(key);
+            }
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return false;
+    }
+}
@@ -18,20 +18,30 @@
  */
 package org.apache.struts2.components.template;
 
+import org.apache.commons.lang3.BooleanUtils;
 import org.apache.struts2.ActionContext;
 import org.apache.struts2.ActionInvocation;
+import org.apache.struts2.StrutsConstants;
 import org.apache.struts2.inject.Inject;
+import org.apache.struts2.ognl.DefaultOgnlCacheFactory;
+import org.apache.struts2.ognl.OgnlCache;
+import org.apache.struts2.ognl.OgnlCacheFactory;
 import org.apache.struts2.util.ClassLoaderUtil;
 import org.apache.struts2.util.ValueStack;
 import freemarker.core.ParseException;
 import freemarker.template.Configuration;
+import freemarker.template.ObjectWrapper;
 import freemarker.template.SimpleHash;
+import freemarker.template.TemplateHashModel;
+import freemarker.template.TemplateNotFoundException;
 import jakarta.servlet.ServletContext;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.struts2.views.freemarker.FreemarkerManager;
+import org.apache.struts2.views.freemarker.ScopesHashModel;
 
 import java.io.IOException;
 import java.io.Writer;
@@ -44,6 +54,18 @@ public class FreemarkerTemplateEngine extends BaseTemplateEngine {
     static Class bodyContent = null;
     protected FreemarkerManager freemarkerManager;
 
+    /**
+     * Marks templates which cannot be found in the theme inheritance chain
+     */
+    private static final Object TEMPLATE_NOT_FOUND = new Object();
+
+    /**
+     * Name of the resolved template or {@link #TEMPLATE_NOT_FOUND}, per requested template
+     */
+    private OgnlCache<Template, Object> resolvedTemplates;
+    private boolean devMode;
+    private boolean reuseTagModel = true;
+
     static {
         try {
             bodyContent = ClassLoaderUtil.loadClass("jakarta.servlet.jsp.tagext.BodyContent",
@@ -58,11 +80,44 @@ public class FreemarkerTemplateEngine extends BaseTemplateEngine {
 
     private static final Logger LOG = LogManager.getLogger(FreemarkerTemplateEngine.class);
 
+    private static final String ATTR_REQUEST_TEMPLATE_MODEL = FreemarkerTemplateEngine.class.getName() + ".requestTemplateModel";
+
     @Inject
     public void setFreemarkerManager(FreemarkerManager mgr) {
         this.freemarkerManager = mgr;
     }
 
+    /**
+     * @since 7.0.0
+     */
+    @Inject(value = StrutsConstants.STRUTS_FREEMARKER_REUSE_TAG_MODEL, required = false)
+    public void setReuseTagModel(String reuseTagModel) {
+        this.reuseTagModel = BooleanUtils.toBoolean(reuseTagModel);
+    }
+
+    @Inject(value = StrutsConstants.STRUTS_DEVMODE, required = false)
+    public void setDevMode(String devMode) {
+        this.devMode = BooleanUtils.toBoolean(devMode);
+    }
+
+    /**
+     * Remembers up to the given number of templates which concrete FreeMarker template the theme inheritance chain
+     * lands on, including templates which cannot be found at all, so subsequent renders don't probe the template
+     * loader for each parent theme again. Not used in devMode.
+     *
+     * @since 7.0.0
+     */
+    @Inject(value = StrutsConstants.STRUTS_UI_TEMPLATE_RESOLUTION_CACHE_MAXSIZE, required = false)
+    public void setTemplateResolutionCacheMaxSize(String templateResolutionCacheMaxSize) {
+        int maxSize = Integer.parseInt(templateResolutionCacheMaxSize);
+        if (maxSize > 0) {
+            this.resolvedTemplates = new DefaultOgnlCacheFactory<Template, Object>(
+                    maxSize, OgnlCacheFactory.CacheType.WTLFU).buildOgnlCache();
+        } else {
+            this.resolvedTemplates = null;
+        }
+    }
+
     public void renderTemplate(TemplateRenderingContext templateContext) throws Exception {
     	// get the various items required from the stack
         ValueStack stack = templateContext.getStack();
@@ -74,15 +129,36 @@ public class FreemarkerTemplateEngine extends BaseTemplateEngine {
         // prepare freemarker
         Configuration config = freemarkerManager.getConfiguration(servletContext);
 
-        // get the list of templates we can use
-        List<Template> templates = templateContext.getTemplate().getPossibleTemplates(this);
-
-        // find the right template
-        freemarker.template.Template template = null;
+        // find the right template, either remembered from a previous render or by following the theme inheritance
+        Template requested = templateContext.getTemplate();
+        Object resolved = getResolvedTemplateName(requested);
         String templateName = null;
+        freemarker.template.Template template = null;
         Exception exception = null;
-        for (Template t : templates) {
-            templateName = getFinalTemplateName(t);
+        List<Template> templates = null;
+
+        if (resolved == TEMPLATE_NOT_FOUND) {
+            exception = new TemplateNotFoundException(getFinalTemplateName(requested), null,
+                    "Template not found for name \"" + getFinalTemplateName(requested) + "\" nor any of its parent themes.");
+        } else if (resolved instanceof String resolvedName) {
+            templateName = resolvedName;
+            try {
+                template = config.getTemplate(templateName);
+            } catch (ParseException e) {
+                // template was found but was invalid - always report this.
+                exception = e;
+            } catch (IOException e) {
+                // the template is gone, search again
+                LOG.debug("Resolved template {} cannot be loaded anymore, searching again", templateName, e);
+            }
+        }
+
+        if (template == null && exception == null) {
+            // get the list of templates we can use
+            templates = requested.getPossibleTemplates(this);
+
+            for (Template t : templates) {
+                templateName = getFinalTemplateName(t);
                 try {
                     // try to load, and if it works, stop at the first one
                     template = config.getTemplate(templateName);
@@ -97,11 +173,21 @@ public class FreemarkerTemplateEngine extends BaseTemplateEngine {
                         exception = e;
                     }
                 }
+            }
+
+            if (template != null) {
+                rememberResolvedTemplateName(requested, templateName);
+            } else if (!(exception instanceof ParseException)) {
+                rememberResolvedTemplateName(requested, TEMPLATE_NOT_FOUND);
+            }
         }
 
         if (template == null) {
             if (LOG.isErrorEnabled()) {
-                LOG.error("Could not load the FreeMarker template named '{}':", templateContext.getTemplate().getName());
+                LOG.error("Could not load the FreeMarker template named '{}':", requested.getName());
+                if (templates == null) {
+                    templates = requested.getPossibleTemplates(this);
+                }
                 for (Template t : templates) {
                     LOG.error("Attempted: {}", getFinalTemplateName(t));
                 }
@@ -123,10 +209,7 @@ public class FreemarkerTemplateEngine extends BaseTemplateEngine {
             LOG.warn("Rendering tag {} out of Action scope, accessing directly JSPs is not recommended! " +
                     "Please read https://struts.apache.org/security/#never-expose-jsp-files-directly", templateName);
         }
-        SimpleHash model = freemarkerManager.buildTemplateModel(stack, action, servletContext, req, res, config.getObjectWrapper());
-
-        model.put("tag", templateContext.getTag());
-        model.put("themeProperties", getThemeProps(templateContext.getTemplate()));
+        TemplateHashModel model = buildTemplateModel(templateContext, action, servletContext, req, res, config.getObjectWrapper());
 
         // the BodyContent JSP writer doesn't like it when FM flushes automatically --
         // so let's just not do it (it will be flushed eventually anyway)
@@ -156,7 +239,68 @@ public class FreemarkerTemplateEngine extends BaseTemplateEngine {
         }
     }
 
+    /**
+     * Builds the data model of the tag being rendered. Unless disabled, the model built by
+     * {@link FreemarkerManager#buildTemplateModel} is shared by all the tags rendered within the same request, with
+     * the same value stack and action, and only the tag, its attributes and the theme properties are exposed per tag.
+     * Without a request the model is built for each tag.
+     *
+     * @since 7.0.0
+     */
+    protected TemplateHashModel buildTemplateModel(TemplateRenderingContext templateContext, Object action,
+                                                   ServletContext servletContext, HttpServletRequest req,
+                                                   HttpServletResponse res, ObjectWrapper wrapper) {
+        ValueStack stack = templateContext.getStack();
+        Object themeProperties = getThemeProps(templateContext.getTemplate());
+
+        if (!reuseTagModel || req == null) {
+            SimpleHash model = freemarkerManager.buildTemplateModel(stack, action, servletContext, req, res, wrapper);
+            model.put(FreemarkerTagModel.KEY_TAG, templateContext.getTag());
+            model.put(FreemarkerTagModel.KEY_THEME_PROPERTIES, themeProperties);
+            return model;
+        }
+
+        HttpSession session = req.getSession(false);
+        RequestTemplateModel requestModel = (RequestTemplateModel) req.getAttribute(ATTR_REQUEST_TEMPLATE_MODEL);
+        if (requestModel == null || !requestModel.isValidFor(stack, action, wrapper, session)) {
+            ScopesHashModel model = freemarkerManager.buildTemplateModel(stack, action, servletContext, req, res, wrapper);
+            requestModel = new RequestTemplateModel(stack, action, wrapper, session, model);
+            req.setAttribute(ATTR_REQUEST_TEMPLATE_MODEL, requestModel);
+        }
+        return new FreemarkerTagModel(requestModel.model(), templateContext.getTag(), templateContext.getParameters(),
+                themeProperties);
+    }
+
     protected String getSuffix() {
         return "ftl";
     }
+
+    /**
+     * @return name of the template the given template was resolved to by following the theme inheritance chain,
+     * {@link #TEMPLATE_NOT_FOUND} if it couldn't be found or {@code null} if it wasn't resolved yet
+     */
+    private Object getResolvedTemplateName(Template template) {
+        if (resolvedTemplates == null || devMode) {
+            return null;
+        }
+        return resolvedTemplates.get(template);
+    }
+
+    private void rememberResolvedTemplateName(Template template, Object templateName) {
+        if (resolvedTemplates != null && !devMode) {
+            resolvedTemplates.put(template, templateName);
+        }
+    }
+
+    /**
+     * Model shared by the tags rendered within a request, valid as long as the tags use the same value stack, action,
+     * object wrapper and session
+     */
+    private record RequestTemplateModel(ValueStack stack, Object action, ObjectWrapper wrapper, HttpSession session,
+                                        ScopesHashModel model) {
+
+        boolean isValidFor(ValueStack stack, Object action, ObjectWrapper wrapper, HttpSession session) {
+            return this.stack == stack && this.action == action && this.wrapper == wrapper && this.session == session;
+        }
+    }
 }
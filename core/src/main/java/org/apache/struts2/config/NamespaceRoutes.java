@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.config;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Immutable radix tree of namespaces, used to look up a namespace or the longest namespace a path starts with by
+ * walking the path once, instead of comparing it with each namespace.
+ *
+ * @param <T> type of the values bound to the namespaces
+ * @since 7.0.0
+ */
+public final class NamespaceRoutes<T> implements Serializable {
+
+    private final Node<T> root = new Node<>("", null);
+
+    /**
+     * @param routes values bound to their namespaces, {@code null} namespaces and values are skipped
+     */
+    public NamespaceRoutes(Map<String, T> routes) {
+        for (Map.Entry<String, T> route : routes.entrySet()) {
+            if (route.getKey() != null && route.getValue() != null) {
+                put(route.getKey(), route.getValue());
+            }
+        }
+    }
+
+    /**
+     * @param namespace the namespace
+     * @return value bound to exactly the given namespace or {@code null} if there is none
+     */
+    public T get(String namespace) {
+        Node<T> node = root;
+        int index = 0;
+        while (index < namespace.length()) {
+            node = node.child(namespace.charAt(index));
+            if (node == null || !namespace.startsWith(node.edge, index)) {
+                return null;
+            }
+            index += node.edge.length();
+        }
+        return node.value;
+    }
+
+    /**
+     * Finds the longest namespace the beginning of the path starts with, where the namespace has to end either at the
+     * end of that part or right before a slash.
+     *
+     * @param path the path
+     * @param end  end of the part of the path to match, exclusive
+     * @return value bound to the longest matching namespace or {@code null} if no namespace matches
+     */
+    public T findLongestPrefix(String path, int end) {
+        T found = isBoundary(path, 0, end) ? root.value : null;
+        Node<T> node = root;
+        int index = 0;
+        while (index < end) {
+            node = node.child(path.charAt(index));
+            if (node == null || node.edge.length() > end - index || !path.startsWith(node.edge, index)) {
+                break;
+            }
+            index += node.edge.length();
+            if (node.value != null && isBoundary(path, index, end)) {
+                found = node.value;
+            }
+        }
+        return found;
+    }
+
+    private static boolean isBoundary(String path, int index, int end) {
+        return index == end || path.charAt(index) == '/';
+    }
+
+    private void put(String namespace, T value) {
+        Node<T> node = root;
+        int index = 0;
+        while (index < namespace.length()) {
+            Node<T> child = node.child(namespace.charAt(index));
+            if (child == null) {
+                node.add(new Node<>(namespace.substring(index), value));
+                return;
+            }
+
+            int common = 0;
+            while (common < child.edge.length() && index + common < namespace.length()
+                    && child.edge.charAt(common) == namespace.charAt(index + common)) {
+                common++;
+            }
+            if (common < child.edge.length()) {
+                // the namespace branches off within the edge, which is split at that point
+                Node<T> split = new Node<>(child.edge.substring(0, common), null);
+                child.edge = child.edge.substring(common);
+                split.add(child);
+                node.replace(split);
+                child = split;
+            }
+            node = child;
+            index += common;
+        }
+        node.value = value;
+    }
+
+    private static final class Node<T> implements Serializable {
+
+        private String edge;
+        private T value;
+        private char[] keys = new char[0];
+        private Node<T>[] children = newArray(0);
+
+        private Node(String edge, T value) {
+            this.edge = edge;
+            this.value = value;
+        }
+
+        private Node<T> child(char key) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] == key) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        private void add(Node<T> child) {
+            keys = Arrays.copyOf(keys, keys.length + 1);
+            children = Arrays.copyOf(children, children.length + 1);
+            keys[keys.length - 1] = child.edge.charAt(0);
+            children[children.length - 1] = child;
+        }
+
+        private void replace(Node<T> child) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] == child.edge.charAt(0)) {
+                    children[i] = child;
+                    return;
+                }
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> Node<T>[] newArray(int length) {
+            return (Node<T>[]) new Node[length];
+        }
+    }
+}
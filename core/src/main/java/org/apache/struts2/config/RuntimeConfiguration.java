@@ -19,6 +19,7 @@
 package org.apache.struts2.config;
 
 import org.apache.struts2.config.entities.ActionConfig;
+import org.apache.struts2.config.entities.PackageConfig;
 
 import java.io.Serializable;
 import java.util.Map;
@@ -53,4 +54,31 @@ public interface RuntimeConfiguration extends Serializable {
      *         should return a valid config for valid namespace/name pairs
      */
     Map<String, Map<String, ActionConfig>> getActionConfigs();
+
+    /**
+     * Namespaces of all the packages, including the abstract ones, as they were when this runtime configuration was
+     * built, to find the namespace of a request without scanning every package.
+     *
+     * @return the first package declared with each namespace or {@code null} if not available
+     * @since 7.0.0
+     */
+    default NamespaceRoutes<PackageConfig> getPackageRoutes() {
+        return null;
+    }
+
+    /**
+     * @return number of lookups served from the cache of action configs resolved by matching wildcards
+     * @since 7.0.0
+     */
+    default long getActionConfigCacheHits() {
+        return 0;
+    }
+
+    /**
+     * @return number of lookups which missed the cache of action configs resolved by matching wildcards
+     * @since 7.0.0
+     */
+    default long getActionConfigCacheMisses() {
+        return 0;
+    }
 }
@@ -20,6 +20,7 @@ package org.apache.struts2.config;
 
 import ognl.MethodAccessor;
 import org.apache.struts2.ActionProxyFactory;
+import org.apache.struts2.ActionTimingListener;
 import org.apache.struts2.FileManager;
 import org.apache.struts2.FileManagerFactory;
 import org.apache.struts2.locale.LocaleProviderFactory;
@@ -340,6 +341,13 @@ import org.apache.struts2.views.util.UrlHelper;
  *     <td>Used across different interceptors to check if given string matches one of the accepted patterns</td>
  *   </tr>
  *   <tr>
+ *     <td>org.apache.struts2.NotExcludedAcceptedPatternsChecker</td>
+ *     <td>struts.notExcludedAcceptedPatterns.checker</td>
+ *     <td>singleton</td>
+ *     <td>Used to check if given expression doesn't match any of the excluded patterns and matches one of the
+ *         accepted patterns, use "singlePass" to check all the patterns with a single combined pattern</td>
+ *   </tr>
+ *   <tr>
  *     <td>org.apache.struts2.util.ContentTypeMatcher</td>
  *     <td>struts.contentTypeMatcher</td>
  *     <td>singleton</td>
@@ -351,6 +359,13 @@ import org.apache.struts2.views.util.UrlHelper;
  *     <td>singleton</td>
  *     <td>Provides access to resource bundles used to localise messages (since 2.5.11)</td>
  *   </tr>
+ *   <tr>
+ *     <td>org.apache.struts2.ActionTimingListener</td>
+ *     <td>struts.actionTimingListener</td>
+ *     <td>singleton</td>
+ *     <td>Notified of the time spent in each interceptor, action and result, disabled by default, use "metrics" to
+ *         record the latencies (since 7.0.0)</td>
+ *   </tr>
  * </table>
  *
  * <!-- END SNIPPET: extensionPoints -->
@@ -450,6 +465,8 @@ public class StrutsBeanSelectionProvider extends AbstractBeanSelectionProvider {
 
         alias(ExecutorProvider.class, StrutsConstants.STRUTS_EXECUTOR_PROVIDER, builder, props, Scope.SINGLETON);
 
+        alias(ActionTimingListener.class, StrutsConstants.STRUTS_ACTION_TIMING_LISTENER, builder, props, Scope.SINGLETON);
+
         switchDevMode(props);
     }
 
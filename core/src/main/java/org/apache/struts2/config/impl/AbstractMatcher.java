@@ -25,7 +25,9 @@ import org.apache.logging.log4j.Logger;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -38,6 +40,9 @@ import java.util.regex.Pattern;
  * project. Patterns will be matched in the order they were added. The first
  * match wins, so more specific patterns should be defined before less specific
  * patterns.
+ * <p>
+ * Once all the patterns have been added, {@link #freeze()} indexes them by their literal prefix, so that matching
+ * only evaluates the patterns which can possibly match the path, still in the order they were added.
  *
  * @since 2.1
  */
@@ -56,6 +61,11 @@ public abstract class AbstractMatcher<E> implements Serializable {
      */
     List<Mapping<E>> compiledPatterns = new ArrayList<>();
 
+    /**
+     * <p> The compiled patterns indexed by their literal prefix, built by {@link #freeze()} </p>
+     */
+    private PrefixNode prefixIndex;
+
     /**
      * This flag controls if passed named params should be appended
      * to the map in {@link #replaceParameters(Map, Map)}
@@ -104,22 +114,40 @@ public abstract class AbstractMatcher<E> implements Serializable {
             LOG.debug("Compiling pattern '{}'", name);
 
             pattern = wildcard.compilePattern(name);
-            compiledPatterns.add(new Mapping<>(name, pattern, target));
+            compiledPatterns.add(new Mapping<>(name, pattern, target, wildcard.literalPrefix(name)));
 
             if (looseMatch) {
                 int lastStar = name.lastIndexOf('*');
                 if (lastStar > 1 && lastStar == name.length() - 1) {
                     if (name.charAt(lastStar - 1) != '*') {
-                        pattern = wildcard.compilePattern(name.substring(0, lastStar - 1));
-                        compiledPatterns.add(new Mapping<>(name, pattern, target));
+                        String looseName = name.substring(0, lastStar - 1);
+                        pattern = wildcard.compilePattern(looseName);
+                        compiledPatterns.add(new Mapping<>(name, pattern, target, wildcard.literalPrefix(looseName)));
                     }
                 }
             }
         }
     }
 
+    /**
+     * <p> Stops accepting new patterns and indexes the compiled patterns by
+     * their literal prefix. Matching a path then only evaluates the patterns
+     * whose prefix the path starts with, so the cost of a lookup depends on
+     * the length of the path rather than on the number of patterns. </p>
+     */
     public void freeze() {
-        compiledPatterns = Collections.unmodifiableList(new ArrayList<>());
+        compiledPatterns = Collections.unmodifiableList(new ArrayList<>(compiledPatterns));
+
+        PrefixNode root = new PrefixNode();
+        for (int i = 0; i < compiledPatterns.size(); i++) {
+            String prefix = compiledPatterns.get(i).prefix();
+            PrefixNode node = root;
+            for (int c = 0; c < prefix.length(); c++) {
+                node = node.children.computeIfAbsent(prefix.charAt(c), key -> new PrefixNode());
+            }
+            node.add(i);
+        }
+        prefixIndex = root;
     }
 
     /**
@@ -135,18 +163,56 @@ public abstract class AbstractMatcher<E> implements Serializable {
             LOG.debug("Attempting to match '{}' to a wildcard pattern, {} available", potentialMatch, compiledPatterns.size());
 
             Map<String, String> vars = new LinkedHashMap<>();
-            for (Mapping<E> m : compiledPatterns) {
+            for (Mapping<E> m : candidates(potentialMatch)) {
                 if (wildcard.match(vars, potentialMatch, m.pattern())) {
                     LOG.debug("Value matches pattern '{}'", m.originalPattern());
                     config = convert(potentialMatch, m.target(), vars);
                     break;
                 }
+                vars.clear();
             }
         }
 
         return config;
     }
 
+    /**
+     * @param potentialMatch The portion of the request URI for selecting a config.
+     * @return The patterns which can match the path, in the order they were added
+     */
+    private List<Mapping<E>> candidates(String potentialMatch) {
+        PrefixNode node = prefixIndex;
+        if (node == null || potentialMatch == null) {
+            return compiledPatterns;
+        }
+
+        List<int[]> matchingNodes = new ArrayList<>();
+        int count = 0;
+        for (int c = 0; node != null; c++) {
+            if (node.mappings.length > 0) {
+                matchingNodes.add(node.mappings);
+                count += node.mappings.length;
+            }
+            node = c < potentialMatch.length() ? node.children.get(potentialMatch.charAt(c)) : null;
+        }
+
+        // merges the positions of the patterns of all the matching prefixes, preserving the order they were added
+        List<Mapping<E>> candidates = new ArrayList<>(count);
+        int[] cursors = new int[matchingNodes.size()];
+        while (candidates.size() < count) {
+            int next = -1;
+            for (int n = 0; n < cursors.length; n++) {
+                int[] mappings = matchingNodes.get(n);
+                if (cursors[n] < mappings.length
+                        && (next < 0 || mappings[cursors[n]] < matchingNodes.get(next)[cursors[next]])) {
+                    next = n;
+                }
+            }
+            candidates.add(compiledPatterns.get(matchingNodes.get(next)[cursors[next]++]));
+        }
+        return candidates;
+    }
+
     /**
      * <p> Clones the target object and its children, replacing various
      * properties with the values of the wildcard-matched strings. </p>
@@ -221,7 +287,22 @@ public abstract class AbstractMatcher<E> implements Serializable {
      * @param originalPattern <p> The original pattern. </p>
      * @param pattern         <p> The compiled pattern. </p>
      * @param target          <p> The original object. </p>
+     * @param prefix          <p> The literal prefix of the pattern. </p>
      */
-    private record Mapping<E>(String originalPattern, Object pattern, E target) implements Serializable {
+    private record Mapping<E>(String originalPattern, Object pattern, E target, String prefix) implements Serializable {
+    }
+
+    /**
+     * <p> Node of the prefix index, holds the positions of the patterns
+     * whose literal prefix ends at this node, in ascending order. </p>
+     */
+    private static final class PrefixNode implements Serializable {
+        private final Map<Character, PrefixNode> children = new HashMap<>();
+        private int[] mappings = new int[0];
+
+        private void add(int position) {
+            mappings = Arrays.copyOf(mappings, mappings.length + 1);
+            mappings[mappings.length - 1] = position;
+        }
     }
 }
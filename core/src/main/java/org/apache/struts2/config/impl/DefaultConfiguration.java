@@ -34,6 +34,7 @@ import org.apache.struts2.config.ConfigurationException;
 import org.apache.struts2.config.ContainerProvider;
 import org.apache.struts2.config.FileManagerFactoryProvider;
 import org.apache.struts2.config.FileManagerProvider;
+import org.apache.struts2.config.NamespaceRoutes;
 import org.apache.struts2.config.PackageProvider;
 import org.apache.struts2.config.RuntimeConfiguration;
 import org.apache.struts2.config.entities.ActionConfig;
@@ -80,8 +81,10 @@ import org.apache.struts2.inject.Factory;
 import org.apache.struts2.inject.Scope;
 import org.apache.struts2.ognl.BeanInfoCacheFactory;
 import org.apache.struts2.ognl.DefaultOgnlBeanInfoCacheFactory;
+import org.apache.struts2.ognl.DefaultOgnlCacheFactory;
 import org.apache.struts2.ognl.DefaultOgnlExpressionCacheFactory;
 import org.apache.struts2.ognl.ExpressionCacheFactory;
+import org.apache.struts2.ognl.OgnlCache;
 import org.apache.struts2.ognl.OgnlCacheFactory;
 import org.apache.struts2.ognl.OgnlReflectionProvider;
 import org.apache.struts2.ognl.OgnlUtil;
@@ -115,6 +118,7 @@ import org.apache.struts2.ognl.StrutsOgnlGuard;
 import org.apache.struts2.ognl.ThreadAllowlist;
 
 import java.io.Serial;
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -125,6 +129,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.atomic.LongAdder;
 
 
 /**
@@ -431,8 +436,10 @@ public class DefaultConfiguration implements Configuration {
     protected synchronized RuntimeConfiguration buildRuntimeConfiguration() throws ConfigurationException {
         Map<String, Map<String, ActionConfig>> namespaceActionConfigs = new LinkedHashMap<>();
         Map<String, String> namespaceConfigs = new LinkedHashMap<>();
+        Map<String, PackageConfig> namespacePackageConfigs = new LinkedHashMap<>();
 
         for (PackageConfig packageConfig : packageContexts.values()) {
+            namespacePackageConfigs.putIfAbsent(packageConfig.getNamespace(), packageConfig);
 
             if (!packageConfig.isAbstract()) {
                 String namespace = packageConfig.getNamespace();
@@ -464,9 +471,13 @@ public class DefaultConfiguration implements Configuration {
         boolean fallbackToEmptyNamespace = Boolean.parseBoolean(
                 Optional.ofNullable(container.getInstance(String.class, StrutsConstants.STRUTS_ACTION_CONFIG_FALLBACK_TO_EMPTY_NAMESPACE)).orElse("true")
         );
+        int cacheMaxSize = Integer.parseInt(
+                Optional.ofNullable(container.getInstance(String.class, StrutsConstants.STRUTS_ACTION_CONFIG_CACHE_MAXSIZE)).orElse("1000")
+        );
 
         return new RuntimeConfigurationImpl(Collections.unmodifiableMap(namespaceActionConfigs),
-                Collections.unmodifiableMap(namespaceConfigs), matcher, appendNamedParameters, fallbackToEmptyNamespace);
+                Collections.unmodifiableMap(namespaceConfigs), matcher, appendNamedParameters, fallbackToEmptyNamespace,
+                cacheMaxSize, new NamespaceRoutes<>(namespacePackageConfigs));
     }
 
     private void setDefaultResults(Map<String, ResultConfig> results, PackageConfig packageContext) {
@@ -538,28 +549,56 @@ public class DefaultConfiguration implements Configuration {
     private static class RuntimeConfigurationImpl implements RuntimeConfiguration {
 
         private final Map<String, Map<String, ActionConfig>> namespaceActionConfigs;
-        private final Map<String, ActionConfigMatcher> namespaceActionConfigMatchers;
+        private final NamespaceRoutes<NamespaceActions> namespaceActions;
+        private final NamespaceRoutes<PackageConfig> packageRoutes;
         private final NamespaceMatcher namespaceMatcher;
-        private final Map<String, String> namespaceConfigs;
         private final boolean fallbackToEmptyNamespace;
 
+        /**
+         * Action configs resolved by matching wildcards or by falling back to a default action, keyed by the requested
+         * namespace and name. Being bound to this instance, the cache is dropped when the runtime configuration is rebuilt.
+         */
+        private final transient OgnlCache<ActionConfigKey, ActionConfig> resolvedActionConfigs;
+        private final LongAdder cacheHits = new LongAdder();
+        private final LongAdder cacheMisses = new LongAdder();
+
         public RuntimeConfigurationImpl(Map<String, Map<String, ActionConfig>> namespaceActionConfigs,
                                         Map<String, String> namespaceConfigs,
                                         PatternMatcher<int[]> matcher,
                                         boolean appendNamedParameters,
                                         boolean fallbackToEmptyNamespace)
+        {
+            this(namespaceActionConfigs, namespaceConfigs, matcher, appendNamedParameters, fallbackToEmptyNamespace, 0, null);
+        }
+
+        public RuntimeConfigurationImpl(Map<String, Map<String, ActionConfig>> namespaceActionConfigs,
+                                        Map<String, String> namespaceConfigs,
+                                        PatternMatcher<int[]> matcher,
+                                        boolean appendNamedParameters,
+                                        boolean fallbackToEmptyNamespace,
+                                        int cacheMaxSize,
+                                        NamespaceRoutes<PackageConfig> packageRoutes)
         {
             this.namespaceActionConfigs = namespaceActionConfigs;
-            this.namespaceConfigs = namespaceConfigs;
+            this.packageRoutes = packageRoutes;
             this.fallbackToEmptyNamespace = fallbackToEmptyNamespace;
+            if (cacheMaxSize > 0) {
+                this.resolvedActionConfigs = new DefaultOgnlCacheFactory<ActionConfigKey, ActionConfig>(
+                        cacheMaxSize, OgnlCacheFactory.CacheType.WTLFU).buildOgnlCache();
+            } else {
+                this.resolvedActionConfigs = null;
+            }
 
-            this.namespaceActionConfigMatchers = new LinkedHashMap<>();
             this.namespaceMatcher = new NamespaceMatcher(matcher, namespaceActionConfigs.keySet(), appendNamedParameters);
+            this.namespaceMatcher.freeze();
 
+            Map<String, NamespaceActions> actions = new LinkedHashMap<>();
             for (Map.Entry<String, Map<String, ActionConfig>> entry : namespaceActionConfigs.entrySet()) {
                 ActionConfigMatcher configMatcher = new ActionConfigMatcher(matcher, entry.getValue(), true, appendNamedParameters);
-                namespaceActionConfigMatchers.put(entry.getKey(), configMatcher);
+                configMatcher.freeze();
+                actions.put(entry.getKey(), new NamespaceActions(entry.getValue(), configMatcher, namespaceConfigs.get(entry.getKey())));
             }
+            this.namespaceActions = new NamespaceRoutes<>(actions);
         }
 
 
@@ -573,6 +612,47 @@ public class DefaultConfiguration implements Configuration {
          */
         @Override
         public ActionConfig getActionConfig(String namespace, String name) {
+            if (resolvedActionConfigs == null) {
+                return resolveActionConfig(namespace, name);
+            }
+
+            NamespaceActions actions = namespaceActions.get(namespace == null ? "" : namespace);
+            ActionConfig config = actions != null ? actions.configs().get(name) : null;
+            if (config != null) {
+                return config;
+            }
+
+            ActionConfigKey key = new ActionConfigKey(namespace == null ? "" : namespace, name);
+            config = resolvedActionConfigs.get(key);
+            if (config != null) {
+                cacheHits.increment();
+                return config;
+            }
+
+            cacheMisses.increment();
+            config = resolveActionConfig(namespace, name);
+            if (config != null) {
+                resolvedActionConfigs.put(key, config);
+            }
+            return config;
+        }
+
+        @Override
+        public NamespaceRoutes<PackageConfig> getPackageRoutes() {
+            return packageRoutes;
+        }
+
+        @Override
+        public long getActionConfigCacheHits() {
+            return cacheHits.sum();
+        }
+
+        @Override
+        public long getActionConfigCacheMisses() {
+            return cacheMisses.sum();
+        }
+
+        private ActionConfig resolveActionConfig(String namespace, String name) {
             ActionConfig config = findActionConfigInNamespace(namespace, name);
 
             // try wildcarded namespaces
@@ -607,18 +687,15 @@ public class DefaultConfiguration implements Configuration {
             if (namespace == null) {
                 namespace = "";
             }
-            Map<String, ActionConfig> actions = namespaceActionConfigs.get(namespace);
+            NamespaceActions actions = namespaceActions.get(namespace);
             if (actions != null) {
-                config = actions.get(name);
+                config = actions.configs().get(name);
                 // Check wildcards
                 if (config == null) {
-                    config = namespaceActionConfigMatchers.get(namespace).match(name);
+                    config = actions.matcher().match(name);
                     // fail over to default action
-                    if (config == null) {
-                        String defaultActionRef = namespaceConfigs.get(namespace);
-                        if (defaultActionRef != null) {
-                            config = actions.get(defaultActionRef);
-                        }
+                    if (config == null && actions.defaultActionRef() != null) {
+                        config = actions.configs().get(actions.defaultActionRef());
                     }
                 }
             }
@@ -651,6 +728,16 @@ public class DefaultConfiguration implements Configuration {
         }
     }
 
+    private record ActionConfigKey(String namespace, String name) {
+    }
+
+    /**
+     * Actions of a namespace, with the matcher of their wildcards and the name of the default action if there is one
+     */
+    private record NamespaceActions(Map<String, ActionConfig> configs, ActionConfigMatcher matcher,
+                                    String defaultActionRef) implements Serializable {
+    }
+
     class ContainerProperties extends LocatableProperties {
         @Serial
         private static final long serialVersionUID = -7320625750836896089L;
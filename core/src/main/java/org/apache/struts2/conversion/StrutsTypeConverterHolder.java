@@ -18,12 +18,13 @@
  */
 package org.apache.struts2.conversion;
 
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Default implementation of {@link TypeConverterHolder}
+ * Default implementation of {@link TypeConverterHolder}, all the mappings are kept in concurrent maps so lookups never
+ * block once the mappings are built.
  */
 public class StrutsTypeConverterHolder implements TypeConverterHolder {
 
@@ -34,7 +35,7 @@ public class StrutsTypeConverterHolder implements TypeConverterHolder {
      * - TypeConverter - instance of TypeConverter
      * </pre>
      */
-    private final HashMap<String, TypeConverter> defaultMappings = new HashMap<>();  // non-action (eg. returned value)
+    private final Map<String, TypeConverter> defaultMappings = new ConcurrentHashMap<>();  // non-action (eg. returned value)
 
     /**
      * Target class conversion Mappings.
@@ -55,12 +56,12 @@ public class StrutsTypeConverterHolder implements TypeConverterHolder {
      *                    Element_property=foo.bar.MyObject
      * </pre>
      */
-    private final HashMap<Class, Map<String, Object>> mappings = new HashMap<>(); // action
+    private final Map<Class, Map<String, Object>> mappings = new ConcurrentHashMap<>(); // action
 
     /**
      * Unavailable target class conversion mappings, serves as a simple cache.
      */
-    private final HashSet<Class> noMapping = new HashSet<>(); // action
+    private final Set<Class> noMapping = ConcurrentHashMap.newKeySet(); // action
 
     /**
      * Record classes that doesn't have conversion mapping defined.
@@ -68,7 +69,7 @@ public class StrutsTypeConverterHolder implements TypeConverterHolder {
      * - String -&gt; classname as String
      * </pre>
      */
-    protected HashSet<String> unknownMappings = new HashSet<>();     // non-action (eg. returned value)
+    protected Set<String> unknownMappings = ConcurrentHashMap.newKeySet();     // non-action (eg. returned value)
 
     @Override
     public void addDefaultMapping(String className, TypeConverter typeConverter) {
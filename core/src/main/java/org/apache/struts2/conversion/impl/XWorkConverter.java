@@ -45,9 +45,11 @@ import java.lang.reflect.Method;
 import java.net.URL;
 import java.text.MessageFormat;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -166,6 +168,11 @@ public class XWorkConverter extends DefaultTypeConverter {
 
     private TypeConverterHolder converterHolder;
 
+    /**
+     * Time in nanoseconds spent on building the converter mapping of each class
+     */
+    private final Map<Class<?>, Long> mappingBuildTimes = new ConcurrentHashMap<>();
+
     protected XWorkConverter() {
     }
 
@@ -414,34 +421,60 @@ public class XWorkConverter extends DefaultTypeConverter {
     protected Object getConverter(Class clazz, String property) {
         LOG.debug("Retrieving convert for class [{}] and property [{}]", clazz, property);
 
-        synchronized (clazz) {
-            if ((property != null) && !converterHolder.containsNoMapping(clazz)) {
-                try {
-                    Map<String, Object> mapping = converterHolder.getMapping(clazz);
-
-                    if (mapping == null) {
-                        mapping = buildConverterMapping(clazz);
-                    } else {
-                        mapping = conditionalReload(clazz, mapping);
-                    }
+        if ((property != null) && !converterHolder.containsNoMapping(clazz)) {
+            try {
+                Map<String, Object> mapping = converterHolder.getMapping(clazz);
 
-                    Object converter = mapping.get(property);
-                    if (converter == null && LOG.isDebugEnabled()) {
-                        LOG.debug("Converter is null for property [{}]. Mapping size [{}]:", property, mapping.size());
-                        for (Map.Entry<String, Object> entry : mapping.entrySet()) {
-                            LOG.debug("{}:{}", entry.getKey(), entry.getValue());
-                        }
+                if (mapping == null || reloadingConfigs) {
+                    mapping = getOrBuildConverterMapping(clazz);
+                }
+
+                Object converter = mapping.get(property);
+                if (converter == null && LOG.isDebugEnabled()) {
+                    LOG.debug("Converter is null for property [{}]. Mapping size [{}]:", property, mapping.size());
+                    for (Map.Entry<String, Object> entry : mapping.entrySet()) {
+                        LOG.debug("{}:{}", entry.getKey(), entry.getValue());
                     }
-                    return converter;
-                } catch (Throwable t) {
-                    LOG.debug("Got exception trying to resolve convert for class [{}] and property [{}]", clazz, property, t);
-                    converterHolder.addNoMapping(clazz);
                 }
+                return converter;
+            } catch (Throwable t) {
+                LOG.debug("Got exception trying to resolve convert for class [{}] and property [{}]", clazz, property, t);
+                converterHolder.addNoMapping(clazz);
             }
         }
         return null;
     }
 
+    /**
+     * Builds the converter mapping of the class once, concurrent lookups of the same class wait for the mapping to be
+     * built, lookups of already built mappings don't lock at all.
+     */
+    private Map<String, Object> getOrBuildConverterMapping(Class clazz) throws Exception {
+        synchronized (clazz) {
+            Map<String, Object> mapping = converterHolder.getMapping(clazz);
+            if (mapping != null) {
+                return conditionalReload(clazz, mapping);
+            }
+            if (converterHolder.containsNoMapping(clazz)) {
+                return Collections.emptyMap();
+            }
+            long start = System.nanoTime();
+            mapping = buildConverterMapping(clazz);
+            long buildTime = System.nanoTime() - start;
+            mappingBuildTimes.put(clazz, buildTime);
+            LOG.debug("Built converter mapping for class [{}] in [{}] ns", clazz, buildTime);
+            return mapping;
+        }
+    }
+
+    /**
+     * @return time in nanoseconds spent on building the converter mapping of each class looked up so far
+     * @since 7.0.0
+     */
+    public Map<Class<?>, Long> getConverterMappingBuildTimes() {
+        return Collections.unmodifiableMap(mappingBuildTimes);
+    }
+
     protected void handleConversionException(Map<String, Object> context, String property, Object value, Object object, Class toClass) {
         if (context != null && (Boolean.TRUE.equals(context.get(REPORT_CONVERSION_ERRORS)))) {
             String realProperty = property;
@@ -463,11 +496,11 @@ public class XWorkConverter extends DefaultTypeConverter {
         }
     }
 
-    public synchronized void registerConverter(String className, TypeConverter converter) {
+    public void registerConverter(String className, TypeConverter converter) {
         converterHolder.addDefaultMapping(className, converter);
     }
 
-    public synchronized void registerConverterNotFound(String className) {
+    public void registerConverterNotFound(String className) {
         converterHolder.addUnknownMapping(className);
     }
 
@@ -32,6 +32,7 @@ import org.apache.struts2.ActionContext;
 import org.apache.struts2.ActionInvocation;
 import org.apache.struts2.ActionProxy;
 import org.apache.struts2.ActionProxyFactory;
+import org.apache.struts2.ActionTimingListener;
 import org.apache.struts2.FileManager;
 import org.apache.struts2.FileManagerFactory;
 import org.apache.struts2.locale.LocaleProviderFactory;
@@ -65,6 +66,7 @@ import org.apache.struts2.inject.Container;
 import org.apache.struts2.inject.ContainerBuilder;
 import org.apache.struts2.inject.Inject;
 import org.apache.struts2.interceptor.Interceptor;
+import org.apache.struts2.metrics.InvocationMetrics;
 import org.apache.struts2.ognl.ThreadAllowlist;
 import org.apache.struts2.result.Result;
 import org.apache.struts2.util.ClassLoaderUtil;
@@ -76,6 +78,7 @@ import org.apache.struts2.util.location.LocatableProperties;
 import org.apache.struts2.util.location.Location;
 import org.apache.struts2.util.location.LocationUtils;
 
+import javax.management.ObjectName;
 import java.io.File;
 import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
@@ -136,6 +139,11 @@ public class Dispatcher {
      */
     private boolean devMode;
 
+    /**
+     * Name of the registered {@link InvocationMetrics} MBean, if any.
+     */
+    private ObjectName invocationMetricsName;
+
     /**
      * Store state of StrutsConstants.DISABLE_REQUEST_ATTRIBUTE_VALUE_STACK_LOOKUP setting.
      */
@@ -481,6 +489,11 @@ public class Dispatcher {
             interceptor.destroy();
         }
 
+        if (invocationMetricsName != null) {
+            InvocationMetrics.unregisterMBean(invocationMetricsName);
+            invocationMetricsName = null;
+        }
+
         // Clear container holder when application is unloaded / server shutdown
         ContainerHolder.clear();
 
@@ -642,6 +655,10 @@ public class Dispatcher {
 
             getContainer(); // Inject this instance
 
+            if (getContainer().getInstance(ActionTimingListener.class) instanceof InvocationMetrics metrics) {
+                invocationMetricsName = metrics.registerMBean(servletContext.getContextPath());
+            }
+
             if (!dispatcherListeners.isEmpty()) {
                 for (DispatcherListener l : dispatcherListeners) {
                     l.dispatcherInitialized(this);
@@ -20,6 +20,7 @@ package org.apache.struts2.dispatcher;
 
 import org.apache.struts2.ActionContext;
 import org.apache.struts2.util.ValueStack;
+import org.apache.struts2.util.ValueStackFactory;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -75,6 +76,7 @@ public class PrepareOperations {
             try {
                 dispatcher.cleanUpRequest(request);
             } finally {
+                dispatcher.getValueStackFactory().requestCompleted(!request.isAsyncStarted());
                 ActionContext.clear();
                 Dispatcher.clearInstance();
                 devModeOverride.remove();
@@ -99,7 +101,9 @@ public class PrepareOperations {
         } else {
             ctx = ServletActionContext.getActionContext(request);   //checks if we are probably in an async
             if (ctx == null) {
-                ValueStack stack = dispatcher.getValueStackFactory().createValueStack();
+                ValueStackFactory valueStackFactory = dispatcher.getValueStackFactory();
+                valueStackFactory.requestStarted();
+                ValueStack stack = valueStackFactory.createValueStack();
                 stack.getContext().putAll(dispatcher.createContextMap(request, response, null));
                 ctx = ActionContext.of(stack.getContext()).bind();
             }
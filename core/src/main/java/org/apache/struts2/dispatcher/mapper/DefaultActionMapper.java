@@ -21,6 +21,8 @@ package org.apache.struts2.dispatcher.mapper;
 import org.apache.struts2.ActionContext;
 import org.apache.struts2.config.Configuration;
 import org.apache.struts2.config.ConfigurationManager;
+import org.apache.struts2.config.NamespaceRoutes;
+import org.apache.struts2.config.RuntimeConfiguration;
 import org.apache.struts2.config.entities.ActionConfig;
 import org.apache.struts2.config.entities.PackageConfig;
 import org.apache.struts2.inject.Container;
@@ -36,10 +38,8 @@ import org.apache.struts2.util.PrefixTrie;
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.regex.Pattern;
 
 /**
@@ -114,6 +114,37 @@ public class DefaultActionMapper implements ActionMapper {
 
     private static final Logger LOG = LogManager.getLogger(DefaultActionMapper.class);
 
+    private static final Pattern DEFAULT_ALLOWED_NAMESPACE_NAMES = Pattern.compile("[a-zA-Z0-9._/\\-]*");
+    private static final Pattern DEFAULT_ALLOWED_ACTION_NAMES = Pattern.compile("[a-zA-Z0-9._!/\\-]*");
+    private static final Pattern DEFAULT_ALLOWED_METHOD_NAMES = Pattern.compile("[a-zA-Z_]*[0-9]*");
+
+    /**
+     * Character classes of the 7-bit characters, used to check names against the default patterns without a regex
+     */
+    private static final byte[] CHAR_CLASSES = new byte[128];
+    private static final byte LETTER = 1;
+    private static final byte DIGIT = 2;
+    private static final byte UNDERSCORE = 4;
+    private static final byte SEPARATOR = 8;
+    private static final byte BANG = 16;
+    private static final int NAMESPACE_CHARS = LETTER | DIGIT | UNDERSCORE | SEPARATOR;
+    private static final int ACTION_CHARS = NAMESPACE_CHARS | BANG;
+
+    static {
+        for (char c = 'a'; c <= 'z'; c++) {
+            CHAR_CLASSES[c] = LETTER;
+            CHAR_CLASSES[Character.toUpperCase(c)] = LETTER;
+        }
+        for (char c = '0'; c <= '9'; c++) {
+            CHAR_CLASSES[c] = DIGIT;
+        }
+        CHAR_CLASSES['_'] = UNDERSCORE;
+        CHAR_CLASSES['.'] = SEPARATOR;
+        CHAR_CLASSES['/'] = SEPARATOR;
+        CHAR_CLASSES['-'] = SEPARATOR;
+        CHAR_CLASSES['!'] = BANG;
+    }
+
     protected static final String METHOD_PREFIX = "method:";
     protected static final String ACTION_PREFIX = "action:";
 
@@ -122,13 +153,13 @@ public class DefaultActionMapper implements ActionMapper {
     protected boolean alwaysSelectFullNamespace = false;
     protected PrefixTrie prefixTrie;
 
-    protected Pattern allowedNamespaceNames = Pattern.compile("[a-zA-Z0-9._/\\-]*");
+    protected Pattern allowedNamespaceNames = DEFAULT_ALLOWED_NAMESPACE_NAMES;
     protected String defaultNamespaceName = "/";
 
-    protected Pattern allowedActionNames = Pattern.compile("[a-zA-Z0-9._!/\\-]*");
+    protected Pattern allowedActionNames = DEFAULT_ALLOWED_ACTION_NAMES;
     protected String defaultActionName = "index";
 
-    protected Pattern allowedMethodNames = Pattern.compile("[a-zA-Z_]*[0-9]*");
+    protected Pattern allowedMethodNames = DEFAULT_ALLOWED_METHOD_NAMES;
     protected String defaultMethodName = "execute";
 
     private boolean allowActionPrefix = false;
@@ -204,7 +235,7 @@ public class DefaultActionMapper implements ActionMapper {
 
     @Inject(value = StrutsConstants.STRUTS_ALLOWED_NAMESPACE_NAMES, required = false)
     public void setAllowedNamespaceNames(String allowedNamespaceNames) {
-        this.allowedNamespaceNames = Pattern.compile(allowedNamespaceNames);
+        this.allowedNamespaceNames = compilePattern(allowedNamespaceNames, DEFAULT_ALLOWED_NAMESPACE_NAMES);
     }
 
     @Inject(value = StrutsConstants.STRUTS_DEFAULT_NAMESPACE_NAME, required = false)
@@ -214,7 +245,7 @@ public class DefaultActionMapper implements ActionMapper {
 
     @Inject(value = StrutsConstants.STRUTS_ALLOWED_ACTION_NAMES, required = false)
     public void setAllowedActionNames(String allowedActionNames) {
-        this.allowedActionNames = Pattern.compile(allowedActionNames);
+        this.allowedActionNames = compilePattern(allowedActionNames, DEFAULT_ALLOWED_ACTION_NAMES);
     }
 
     @Inject(value = StrutsConstants.STRUTS_DEFAULT_ACTION_NAME, required = false)
@@ -224,7 +255,7 @@ public class DefaultActionMapper implements ActionMapper {
 
     @Inject(value = StrutsConstants.STRUTS_ALLOWED_METHOD_NAMES, required = false)
     public void setAllowedMethodNames(String allowedMethodNames) {
-        this.allowedMethodNames = Pattern.compile(allowedMethodNames);
+        this.allowedMethodNames = compilePattern(allowedMethodNames, DEFAULT_ALLOWED_METHOD_NAMES);
     }
 
     @Inject(value = StrutsConstants.STRUTS_DEFAULT_METHOD_NAME, required = false)
@@ -237,6 +268,13 @@ public class DefaultActionMapper implements ActionMapper {
         this.allowActionPrefix = BooleanUtils.toBoolean(allowActionPrefix);
     }
 
+    /**
+     * Reuses the default pattern when the configured one is the same, so names can be checked without the regex
+     */
+    private static Pattern compilePattern(String regex, Pattern defaultPattern) {
+        return defaultPattern.pattern().equals(regex) ? defaultPattern : Pattern.compile(regex);
+    }
+
     @Inject
     public void setContainer(Container container) {
         this.container = container;
@@ -318,20 +356,21 @@ public class DefaultActionMapper implements ActionMapper {
      */
     public void handleSpecialParameters(HttpServletRequest request, ActionMapping mapping) {
         // handle special parameter prefixes.
-        Set<String> uniqueParameters = new HashSet<>();
         Map<String, String[]> parameterMap = request.getParameterMap();
         for (String key : parameterMap.keySet()) {
+            // a key without a special prefix won't have one without the image button location info either
+            if (prefixTrie.get(key) == null) {
+                continue;
+            }
 
             // Strip off the image button location info, if found
             if (key.endsWith(".x") || key.endsWith(".y")) {
                 key = key.substring(0, key.length() - 2);
             }
 
-            // Ensure a parameter doesn't get processed twice
             ParameterAction parameterAction = (ParameterAction) prefixTrie.get(key);
             if (parameterAction != null) {
                 parameterAction.execute(key, mapping);
-                uniqueParameters.add(key);
                 break;
             }
         }
@@ -363,23 +402,37 @@ public class DefaultActionMapper implements ActionMapper {
         } else {
             // Try to find the namespace in those defined, defaulting to ""
             Configuration config = configManager.getConfiguration();
-            String prefix = uri.substring(0, lastSlash);
             actionNamespace = "";
             boolean rootAvailable = false;
-            // Find the longest matching namespace, defaulting to the default
-            for (PackageConfig cfg : config.getPackageConfigs().values()) {
-                String ns = cfg.getNamespace();
-                if (ns != null && prefix.startsWith(ns) && (prefix.length() == ns.length() || prefix.charAt(ns.length()) == '/')) {
-                    if (ns.length() > actionNamespace.length()) {
-                        actionNamespace = ns;
-                    }
+            NamespaceRoutes<PackageConfig> packageRoutes = getPackageRoutes(config);
+            if (packageRoutes != null) {
+                PackageConfig packageConfig = packageRoutes.findLongestPrefix(uri, lastSlash);
+                if (packageConfig != null) {
+                    actionNamespace = packageConfig.getNamespace();
                 }
-                if ("/".equals(ns)) {
-                    rootAvailable = true;
+                rootAvailable = packageRoutes.get("/") != null;
+            } else {
+                // Find the longest matching namespace of the part before the last slash, defaulting to the default
+                for (PackageConfig cfg : config.getPackageConfigs().values()) {
+                    String ns = cfg.getNamespace();
+                    if (ns != null && ns.length() <= lastSlash && uri.startsWith(ns)
+                        && (ns.length() == lastSlash || uri.charAt(ns.length()) == '/')) {
+                        if (ns.length() > actionNamespace.length()) {
+                            actionNamespace = ns;
+                        }
+                    }
+                    if ("/".equals(ns)) {
+                        rootAvailable = true;
+                    }
                 }
             }
 
-            actionName = uri.substring(actionNamespace.length() + 1);
+            if (!allowSlashesInActionNames && lastSlash > actionNamespace.length() && lastSlash < uri.length() - 1) {
+                // only the part after the last slash is used, see below
+                actionName = uri.substring(lastSlash + 1);
+            } else {
+                actionName = uri.substring(actionNamespace.length() + 1);
+            }
 
             // Still none found, use root namespace if found
             if (rootAvailable && actionNamespace.isEmpty()) {
@@ -405,7 +458,9 @@ public class DefaultActionMapper implements ActionMapper {
      * @return safe namespace name
      */
     protected String cleanupNamespaceName(final String rawNamespace) {
-        if (allowedNamespaceNames.matcher(rawNamespace).matches()) {
+        if (allowedNamespaceNames == DEFAULT_ALLOWED_NAMESPACE_NAMES
+            ? hasOnly(rawNamespace, NAMESPACE_CHARS)
+            : allowedNamespaceNames.matcher(rawNamespace).matches()) {
             return rawNamespace;
         } else {
             LOG.warn(
@@ -423,7 +478,9 @@ public class DefaultActionMapper implements ActionMapper {
      * @return safe action name
      */
     protected String cleanupActionName(final String rawActionName) {
-        if (allowedActionNames.matcher(rawActionName).matches()) {
+        if (allowedActionNames == DEFAULT_ALLOWED_ACTION_NAMES
+            ? hasOnly(rawActionName, ACTION_CHARS)
+            : allowedActionNames.matcher(rawActionName).matches()) {
             return rawActionName;
         } else {
             LOG.warn("{} did not match allowed action names {} - default action {} will be used!", rawActionName, allowedActionNames, defaultActionName);
@@ -438,7 +495,9 @@ public class DefaultActionMapper implements ActionMapper {
      * @return safe method name
      */
     protected String cleanupMethodName(final String rawMethodName) {
-        if (allowedMethodNames.matcher(rawMethodName).matches()) {
+        if (allowedMethodNames == DEFAULT_ALLOWED_METHOD_NAMES
+            ? isDefaultMethodName(rawMethodName)
+            : allowedMethodNames.matcher(rawMethodName).matches()) {
             return rawMethodName;
         } else {
             LOG.warn("{} did not match allowed method names {} - default method {} will be used!", rawMethodName, allowedMethodNames, defaultMethodName);
@@ -446,6 +505,34 @@ public class DefaultActionMapper implements ActionMapper {
         }
     }
 
+    /**
+     * @return true if the name consists only of characters of the given classes, same as {@code [...]*} would match
+     */
+    private static boolean hasOnly(String name, int charClasses) {
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c >= CHAR_CLASSES.length || (CHAR_CLASSES[c] & charClasses) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return true if the name matches the default pattern of method names: letters or underscores followed by digits
+     */
+    private static boolean isDefaultMethodName(String name) {
+        int i = 0;
+        while (i < name.length() && name.charAt(i) < CHAR_CLASSES.length
+            && (CHAR_CLASSES[name.charAt(i)] & (LETTER | UNDERSCORE)) != 0) {
+            i++;
+        }
+        while (i < name.length() && name.charAt(i) < CHAR_CLASSES.length && CHAR_CLASSES[name.charAt(i)] == DIGIT) {
+            i++;
+        }
+        return i == name.length();
+    }
+
     /**
      * Reads defined method name for a given action from configuration
      *
@@ -458,22 +545,41 @@ public class DefaultActionMapper implements ActionMapper {
             return;
         }
         String methodName = null;
-        for (PackageConfig cfg : configurationManager.getConfiguration().getPackageConfigs().values()) {
-            if (cfg.getNamespace().equals(mapping.getNamespace())) {
-                ActionConfig actionCfg = cfg.getActionConfigs().get(mapping.getName());
-                if (actionCfg != null) {
-                    methodName = actionCfg.getMethodName();
-                    LOG.trace("Using method: {} for action mapping: {}", methodName, mapping);
-                } else {
-                    LOG.debug("No action config for action mapping: {}", mapping);
+        Configuration config = configurationManager.getConfiguration();
+        NamespaceRoutes<PackageConfig> packageRoutes = getPackageRoutes(config);
+        PackageConfig packageConfig = null;
+        if (packageRoutes != null) {
+            packageConfig = mapping.getNamespace() != null ? packageRoutes.get(mapping.getNamespace()) : null;
+        } else {
+            for (PackageConfig cfg : config.getPackageConfigs().values()) {
+                if (cfg.getNamespace().equals(mapping.getNamespace())) {
+                    packageConfig = cfg;
+                    break;
                 }
-                break;
+            }
+        }
+        if (packageConfig != null) {
+            ActionConfig actionCfg = packageConfig.getActionConfigs().get(mapping.getName());
+            if (actionCfg != null) {
+                methodName = actionCfg.getMethodName();
+                LOG.trace("Using method: {} for action mapping: {}", methodName, mapping);
+            } else {
+                LOG.debug("No action config for action mapping: {}", mapping);
             }
         }
 
         mapping.setMethod(methodName);
     }
 
+    /**
+     * @return namespaces of the packages built along with the runtime configuration or {@code null} if there are none,
+     * in which case the packages have to be scanned
+     */
+    private static NamespaceRoutes<PackageConfig> getPackageRoutes(Configuration config) {
+        RuntimeConfiguration runtimeConfiguration = config.getRuntimeConfiguration();
+        return runtimeConfiguration != null ? runtimeConfiguration.getPackageRoutes() : null;
+    }
+
     /**
      * Drops the extension from the action name, storing it in the mapping for later use
      *
@@ -495,11 +601,10 @@ public class DefaultActionMapper implements ActionMapper {
                     return name;
                 }
             } else {
-                String extension = "." + ext;
-                if (name.endsWith(extension)) {
-                    name = name.substring(0, name.length() - extension.length());
+                int dot = name.length() - ext.length() - 1;
+                if (dot >= 0 && name.charAt(dot) == '.' && name.endsWith(ext)) {
                     mapping.setExtension(ext);
-                    return name;
+                    return name.substring(0, dot);
                 }
             }
         }
@@ -18,14 +18,17 @@
  */
 package org.apache.struts2.factory;
 
+import org.apache.commons.lang3.BooleanUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.struts2.ObjectFactory;
+import org.apache.struts2.StrutsConstants;
 import org.apache.struts2.config.ConfigurationException;
 import org.apache.struts2.config.entities.InterceptorConfig;
 import org.apache.struts2.inject.Inject;
 import org.apache.struts2.interceptor.Interceptor;
 import org.apache.struts2.interceptor.WithLazyParams;
+import org.apache.struts2.util.reflection.ReflectionException;
 import org.apache.struts2.util.reflection.ReflectionProvider;
 
 import java.util.HashMap;
@@ -40,6 +43,8 @@ public class DefaultInterceptorFactory implements InterceptorFactory {
 
     private ObjectFactory objectFactory;
     private ReflectionProvider reflectionProvider;
+    private ParameterSetters parameterSetters;
+    private boolean devMode;
 
     @Inject
     public void setObjectFactory(ObjectFactory objectFactory) {
@@ -49,6 +54,12 @@ public class DefaultInterceptorFactory implements InterceptorFactory {
     @Inject
     public void setReflectionProvider(ReflectionProvider reflectionProvider) {
         this.reflectionProvider = reflectionProvider;
+        this.parameterSetters = new ParameterSetters(reflectionProvider);
+    }
+
+    @Inject(value = StrutsConstants.STRUTS_DEVMODE, required = false)
+    public void setDevMode(String devMode) {
+        this.devMode = BooleanUtils.toBoolean(devMode);
     }
 
     public Interceptor buildInterceptor(InterceptorConfig interceptorConfig, Map<String, String> interceptorRefParams) throws ConfigurationException {
@@ -72,7 +83,7 @@ public class DefaultInterceptorFactory implements InterceptorFactory {
                 LOG.debug("Interceptor {} is marked with interface {} and params will be set during action invocation",
                         interceptorClassName, WithLazyParams.class.getName());
             } else {
-                reflectionProvider.setProperties(params, interceptor);
+                setParameters(interceptor, params);
             }
 
             interceptor.init();
@@ -97,4 +108,26 @@ public class DefaultInterceptorFactory implements InterceptorFactory {
         throw new ConfigurationException(message, cause, interceptorConfig);
     }
 
+    /**
+     * Sets the parameters the same way as {@link ReflectionProvider#setProperties(Map, Object)} does, failures are
+     * ignored and only reported in devMode.
+     */
+    private void setParameters(Interceptor interceptor, Map<String, String> params) {
+        Map<String, String> remaining = new HashMap<>();
+        for (Map.Entry<String, String> param : params.entrySet()) {
+            try {
+                if (!parameterSetters.setParameter(interceptor, param.getKey(), param.getValue())) {
+                    remaining.put(param.getKey(), param.getValue());
+                }
+            } catch (ReflectionException e) {
+                if (devMode) {
+                    LOG.warn(e.getMessage(), e.getCause());
+                }
+            }
+        }
+        if (!remaining.isEmpty()) {
+            reflectionProvider.setProperties(remaining, interceptor);
+        }
+    }
+
 }
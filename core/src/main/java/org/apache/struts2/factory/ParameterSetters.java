@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.factory;
+
+import org.apache.struts2.util.reflection.ReflectionException;
+import org.apache.struts2.util.reflection.ReflectionProvider;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Sets the parameters of results and interceptors, which come from the configuration, through setters resolved once
+ * per class instead of evaluating each parameter with the {@link ReflectionProvider}.
+ * <p>
+ * Only a parameter with a single public setter accepting a String, or a boolean given as "true" or "false", is set
+ * directly, any other parameter must be set by the {@link ReflectionProvider}.
+ */
+final class ParameterSetters {
+
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private static final Setter NONE = new Setter(null, null);
+
+    private final ReflectionProvider reflectionProvider;
+    private final Map<Class<?>, Map<String, Setter>> setters = new ConcurrentHashMap<>();
+
+    ParameterSetters(ReflectionProvider reflectionProvider) {
+        this.reflectionProvider = reflectionProvider;
+    }
+
+    /**
+     * @param target result or interceptor
+     * @param name   name of the parameter
+     * @param value  value of the parameter
+     * @return {@code true} if the parameter has been set, {@code false} if it must be set by the
+     * {@link ReflectionProvider}
+     * @throws ReflectionException if the setter failed, reported the same way as the {@link ReflectionProvider} does
+     */
+    boolean setParameter(Object target, String name, String value) throws ReflectionException {
+        Class<?> targetClass = target.getClass();
+        Map<String, Setter> classSetters = setters.get(targetClass);
+        if (classSetters == null) {
+            classSetters = setters.computeIfAbsent(targetClass, key -> new ConcurrentHashMap<>());
+        }
+        Setter setter = classSetters.get(name);
+        if (setter == null) {
+            setter = resolve(targetClass, name);
+            classSetters.put(name, setter);
+        }
+        if (setter == NONE) {
+            return false;
+        }
+
+        Object converted;
+        if (setter.type == String.class) {
+            converted = value;
+        } else if ("true".equals(value) || "false".equals(value)) {
+            converted = Boolean.valueOf(value);
+        } else {
+            return false;
+        }
+
+        try {
+            setter.handle.invokeExact(target, converted);
+        } catch (Throwable t) {
+            throw new ReflectionException("Error setting property '" + name + "' on type '"
+                    + targetClass.getName() + "'.", t);
+        }
+        return true;
+    }
+
+    private Setter resolve(Class<?> targetClass, String name) {
+        if (!isPropertyName(name) || Map.class.isAssignableFrom(targetClass) || Collection.class.isAssignableFrom(targetClass)) {
+            return NONE;
+        }
+        Method method;
+        try {
+            method = reflectionProvider.getSetMethod(targetClass, name);
+        } catch (Exception e) {
+            return NONE;
+        }
+        if (method == null || Modifier.isStatic(method.getModifiers()) || method.getParameterCount() != 1) {
+            return NONE;
+        }
+        Class<?> type = method.getParameterTypes()[0];
+        if (type != String.class && type != boolean.class && type != Boolean.class) {
+            return NONE;
+        }
+        // an overloaded setter is resolved depending on the value
+        for (Method candidate : targetClass.getMethods()) {
+            if (candidate.getName().equals(method.getName()) && candidate.getParameterCount() == 1 && !candidate.equals(method)) {
+                return NONE;
+            }
+        }
+        try {
+            return new Setter(MethodHandles.publicLookup().unreflect(method).asType(SETTER_TYPE), type);
+        } catch (IllegalAccessException e) {
+            return NONE;
+        }
+    }
+
+    private static boolean isPropertyName(String name) {
+        if (name == null || name.isEmpty() || !Character.isJavaIdentifierStart(name.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < name.length(); i++) {
+            if (!Character.isJavaIdentifierPart(name.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private record Setter(MethodHandle handle, Class<?> type) {
+    }
+}
@@ -37,6 +37,7 @@ public class StrutsResultFactory implements ResultFactory {
 
     protected ObjectFactory objectFactory;
     protected ReflectionProvider reflectionProvider;
+    private ParameterSetters parameterSetters;
 
     @Inject
     public void setObjectFactory(ObjectFactory objectFactory) {
@@ -46,6 +47,7 @@ public class StrutsResultFactory implements ResultFactory {
     @Inject
     public void setReflectionProvider(ReflectionProvider provider) {
         this.reflectionProvider = provider;
+        this.parameterSetters = new ParameterSetters(provider);
     }
 
     @Override
@@ -84,7 +86,9 @@ public class StrutsResultFactory implements ResultFactory {
 
     protected void setParameter(Result result, String name, String value, Map<String, Object> extraContext) {
         if (!(result instanceof ParamNameAwareResult paramNameAwareResult) || paramNameAwareResult.acceptableParameterName(name, value)) {
-            reflectionProvider.setProperty(name, value, result, extraContext, true);
+            if (!parameterSetters.setParameter(result, name, value)) {
+                reflectionProvider.setProperty(name, value, result, extraContext, true);
+            }
         }
     }
 
@@ -83,6 +83,14 @@ class ConstructionContext<T> {
         );
     }
 
+    /**
+     * @return true if the object is a proxy created for a circular dependency
+     */
+    static boolean isProxy(Object object) {
+        return object != null && Proxy.isProxyClass(object.getClass())
+                && Proxy.getInvocationHandler(object) instanceof DelegatingInvocationHandler;
+    }
+
     void setProxyDelegates(T delegate) {
         if (invocationHandlers != null) {
             for (DelegatingInvocationHandler<T> invocationHandler : invocationHandlers) {
@@ -538,6 +538,11 @@ public final class ContainerBuilder {
                 return value;
             }
 
+            @Override
+            public T resolved() {
+                return value;
+            }
+
             @Override
             public Class<? extends T> type() {
                 return (Class<? extends T>) value.getClass();
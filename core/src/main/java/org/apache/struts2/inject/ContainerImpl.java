@@ -19,9 +19,13 @@ import org.apache.struts2.inject.util.ReferenceCache;
 
 import java.io.Serializable;
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Member;
@@ -170,11 +174,36 @@ class ContainerImpl implements Container {
             Modifier.isPublic(member.getDeclaringClass().getModifiers());
     }
 
+    /**
+     * Converts an instance member, already made accessible, into a {@link MethodHandle} of the given type, so it can
+     * be invoked without the reflection overhead.
+     *
+     * @return the handle or {@code null} if the member must be used through reflection
+     */
+    private static MethodHandle toHandle(Member member, MethodType type) {
+        if (isStatic(member)) {
+            return null;
+        }
+        try {
+            if (member instanceof Field field) {
+                return MethodHandles.lookup().unreflectSetter(field).asType(type);
+            }
+            MethodHandle handle = member instanceof Method method
+                ? MethodHandles.lookup().unreflect(method)
+                : MethodHandles.lookup().unreflectConstructor((Constructor<?>) member);
+            return handle.asSpreader(Object[].class, ((Executable) member).getParameterCount()).asType(type);
+        } catch (IllegalAccessException | RuntimeException e) {
+            return null;
+        }
+    }
+
     static class FieldInjector implements Injector {
 
         final Field field;
         final InternalFactory<?> factory;
         final ExternalContext<?> externalContext;
+        final MethodHandle setter;
+        volatile Object resolved;
 
         public FieldInjector(ContainerImpl container, Field field, String name)
             throws MissingDependencyException {
@@ -199,18 +228,32 @@ class ContainerImpl implements Container {
             }
 
             this.externalContext = ExternalContext.newInstance(field, key, container);
+            this.setter = toHandle(field, MethodType.methodType(void.class, Object.class, Object.class));
         }
 
         @Override
         public void inject(InternalContext context, Object o) {
-            final ExternalContext<?> previous = context.getExternalContext();
-            context.setExternalContext(externalContext);
+            Object value = resolved;
+            if (value == null) {
+                final ExternalContext<?> previous = context.getExternalContext();
+                context.setExternalContext(externalContext);
+                try {
+                    value = factory.create(context);
+                } finally {
+                    context.setExternalContext(previous);
+                }
+                resolved = resolvedOf(factory);
+            }
             try {
-                field.set(o, factory.create(context));
-            } catch (IllegalAccessException e) {
+                if (setter != null) {
+                    setter.invokeExact(o, value);
+                } else {
+                    field.set(o, value);
+                }
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
                 throw new AssertionError(e);
-            } finally {
-                context.setExternalContext(previous);
             }
         }
     }
@@ -272,6 +315,7 @@ class ContainerImpl implements Container {
 
         final Method method;
         final ParameterInjector<?>[] parameterInjectors;
+        final MethodHandle invoker;
 
         public MethodInjector(ContainerImpl container, Method method, String name) throws MissingDependencyException {
             this.method = method;
@@ -294,12 +338,23 @@ class ContainerImpl implements Container {
             }
             parameterInjectors = container.getParametersInjectors(
                 method, method.getParameterAnnotations(), parameterTypes, name);
+            invoker = toHandle(method, MethodType.methodType(void.class, Object.class, Object[].class));
         }
 
         @Override
         public void inject(InternalContext context, Object o) {
             try {
-                method.invoke(o, getParameters(method, context, parameterInjectors));
+                final Object[] parameters = getParameters(method, context, parameterInjectors);
+                if (invoker == null) {
+                    method.invoke(o, parameters);
+                    return;
+                }
+                try {
+                    invoker.invokeExact(o, parameters);
+                } catch (Throwable t) {
+                    // reported the same way as reflection does
+                    throw new InvocationTargetException(t);
+                }
             } catch (Exception e) {
                 throw new RuntimeException(e);
             }
@@ -315,10 +370,13 @@ class ContainerImpl implements Container {
 
     static class ConstructorInjector<T> {
 
+        private static final Object[] NO_PARAMETERS = new Object[0];
+
         final Class<T> implementation;
         final List<Injector> injectors;
         final Constructor<T> constructor;
         final ParameterInjector<?>[] parameterInjectors;
+        final MethodHandle instantiator;
 
         ConstructorInjector(ContainerImpl container, Class<T> implementation) {
             this.implementation = implementation;
@@ -355,6 +413,9 @@ class ContainerImpl implements Container {
                 }
             }
             injectors = container.injectors.get(implementation);
+            instantiator = Modifier.isAbstract(implementation.getModifiers())
+                ? null
+                : toHandle(constructor, MethodType.methodType(Object.class, Object[].class));
         }
 
         ParameterInjector<?>[] constructParameterInjector(
@@ -395,6 +456,19 @@ class ContainerImpl implements Container {
             }
         }
 
+        @SuppressWarnings("unchecked")
+        private T newInstance(Object[] parameters) throws InstantiationException, IllegalAccessException, InvocationTargetException {
+            if (instantiator == null) {
+                return constructor.newInstance(parameters);
+            }
+            try {
+                return (T) (Object) instantiator.invokeExact(parameters == null ? NO_PARAMETERS : parameters);
+            } catch (Throwable t) {
+                // reported the same way as reflection does
+                throw new InvocationTargetException(t);
+            }
+        }
+
         /**
          * Construct an instance. Returns {@code Object} instead of {@code T} because it may return a proxy.
          */
@@ -420,7 +494,7 @@ class ContainerImpl implements Container {
                 constructionContext.startConstruction();
                 try {
                     final Object[] parameters = getParameters(constructor, context, parameterInjectors);
-                    t = constructor.newInstance(parameters);
+                    t = newInstance(parameters);
                     constructionContext.setProxyDelegates(t);
                 } finally {
                     constructionContext.finishConstruction();
@@ -448,6 +522,7 @@ class ContainerImpl implements Container {
 
         final ExternalContext<T> externalContext;
         final InternalFactory<? extends T> factory;
+        volatile T resolved;
 
         public ParameterInjector(ExternalContext<T> externalContext, InternalFactory<? extends T> factory) {
             this.externalContext = externalContext;
@@ -455,16 +530,31 @@ class ContainerImpl implements Container {
         }
 
         T inject(Member member, InternalContext context) {
+            T value = resolved;
+            if (value != null) {
+                return value;
+            }
             final ExternalContext<?> previous = context.getExternalContext();
             context.setExternalContext(externalContext);
             try {
-                return factory.create(context);
+                value = factory.create(context);
             } finally {
                 context.setExternalContext(previous);
             }
+            resolved = resolvedOf(factory);
+            return value;
         }
     }
 
+    /**
+     * @return object the factory keeps creating or {@code null} if it cannot be kept by an injector, like a proxy
+     * a singleton still being constructed was resolved to because of a circular dependency
+     */
+    private static <T> T resolvedOf(InternalFactory<? extends T> factory) {
+        T resolved = factory.resolved();
+        return ConstructionContext.isProxy(resolved) ? null : resolved;
+    }
+
     private static Object[] getParameters(Member member, InternalContext context, ParameterInjector<?>[] parameterInjectors) {
         if (parameterInjectors == null) {
             return null;
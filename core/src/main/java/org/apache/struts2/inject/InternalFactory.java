@@ -39,4 +39,14 @@ interface InternalFactory<T> extends Serializable {
      */
     Class<? extends T> type();
 
+    /**
+     * Returns the object this factory keeps creating once it has been created, like a constant or a singleton, so
+     * it can be injected again without calling the factory.
+     *
+     * @return the object or {@code null} if the factory creates new objects or hasn't created the object yet
+     */
+    default T resolved() {
+        return null;
+    }
+
 }
@@ -57,6 +57,11 @@ public enum Scope {
                     return instance;
                 }
 
+                @Override
+                public T resolved() {
+                    return instance;
+                }
+
                 @Override
                 public Class<? extends T> type() {
                     return factory.type();
@@ -24,14 +24,18 @@ import org.apache.logging.log4j.Logger;
 import org.apache.struts2.ActionContext;
 import org.apache.struts2.ActionInvocation;
 import org.apache.struts2.ServletActionContext;
+import org.apache.struts2.StrutsConstants;
 import org.apache.struts2.action.CookiesAware;
 import org.apache.struts2.inject.Inject;
 import org.apache.struts2.security.AcceptedPatternsChecker;
 import org.apache.struts2.security.ExcludedPatternsChecker;
+import org.apache.struts2.security.NotExcludedAcceptedPatternsChecker;
+import org.apache.struts2.security.SinglePassNotExcludedAcceptedPatternsChecker;
 import org.apache.struts2.util.TextParseUtil;
 import org.apache.struts2.util.ValueStack;
 
 import java.io.Serial;
+import java.lang.reflect.Method;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -187,16 +191,57 @@ public class CookieInterceptor extends AbstractInterceptor {
 
     private ExcludedPatternsChecker excludedPatternsChecker;
     private AcceptedPatternsChecker acceptedPatternsChecker;
+    private boolean singlePassNamePatterns;
+    private NotExcludedAcceptedPatternsChecker namePatternsChecker;
 
     @Inject
     public void setExcludedPatternsChecker(ExcludedPatternsChecker excludedPatternsChecker) {
         this.excludedPatternsChecker = excludedPatternsChecker;
+        updateNamePatternsChecker();
     }
 
     @Inject
     public void setAcceptedPatternsChecker(AcceptedPatternsChecker acceptedPatternsChecker) {
         this.acceptedPatternsChecker = acceptedPatternsChecker;
         this.acceptedPatternsChecker.setAcceptedPatterns(ACCEPTED_PATTERN);
+        updateNamePatternsChecker();
+    }
+
+    /**
+     * When {@link StrutsConstants#STRUTS_NOT_EXCLUDED_ACCEPTED_PATTERNS_CHECKER} selects the
+     * {@link SinglePassNotExcludedAcceptedPatternsChecker}, cookie names are first matched against the excluded and
+     * accepted patterns of this interceptor in a single pass. Names which don't pass are still checked with
+     * {@link #isExcluded(String)} and {@link #isAccepted(String)}. The single pass isn't used by subclasses overriding
+     * any of these methods.
+     */
+    @Inject(required = false)
+    public void setNotExcludedAcceptedPatternsChecker(NotExcludedAcceptedPatternsChecker notExcludedAcceptedPatternsChecker) {
+        this.singlePassNamePatterns = notExcludedAcceptedPatternsChecker instanceof SinglePassNotExcludedAcceptedPatternsChecker
+                && !overridesNameChecks(getClass());
+        updateNamePatternsChecker();
+    }
+
+    private void updateNamePatternsChecker() {
+        if (singlePassNamePatterns && excludedPatternsChecker != null && acceptedPatternsChecker != null) {
+            SinglePassNotExcludedAcceptedPatternsChecker checker = new SinglePassNotExcludedAcceptedPatternsChecker();
+            checker.setExcludedPatterns(excludedPatternsChecker);
+            checker.setAcceptedPatterns(acceptedPatternsChecker);
+            namePatternsChecker = checker;
+        } else {
+            namePatternsChecker = null;
+        }
+    }
+
+    private static boolean overridesNameChecks(Class<?> clazz) {
+        for (Class<?> current = clazz; current != CookieInterceptor.class; current = current.getSuperclass()) {
+            for (Method method : current.getDeclaredMethods()) {
+                if (method.getParameterCount() == 1 && method.getParameterTypes()[0] == String.class
+                        && ("isExcluded".equals(method.getName()) || "isAccepted".equals(method.getName()))) {
+                    return true;
+                }
+            }
+        }
+        return false;
     }
 
     /**
@@ -271,6 +316,9 @@ public class CookieInterceptor extends AbstractInterceptor {
      * @return true|false
      */
     protected boolean isAcceptableName(String name) {
+        if (namePatternsChecker != null && namePatternsChecker.isAllowed(name).isAllowed()) {
+            return true;
+        }
         return !isExcluded(name) && isAccepted(name);
     }
 
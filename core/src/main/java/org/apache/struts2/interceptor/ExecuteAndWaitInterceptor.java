@@ -34,6 +34,7 @@ import org.apache.struts2.interceptor.exec.ExecutorProvider;
 import org.apache.struts2.interceptor.exec.StrutsBackgroundProcess;
 import org.apache.struts2.interceptor.exec.StrutsExecutorProvider;
 import org.apache.struts2.util.TokenHelper;
+import org.apache.struts2.util.ValueStackFactory;
 import org.apache.struts2.views.freemarker.FreemarkerResult;
 
 import java.io.Serial;
@@ -215,6 +216,16 @@ public class ExecuteAndWaitInterceptor extends MethodFilterInterceptor {
         return new StrutsBackgroundProcess(actionInvocation, name + "_background-process", threadPriority);
     }
 
+    /**
+     * The background process keeps using the value stack of the invocation after the request completes,
+     * so it must never be recycled.
+     */
+    private void retainValueStack(ActionInvocation actionInvocation) {
+        if (container != null) {
+            container.getInstance(ValueStackFactory.class).retainValueStack(actionInvocation.getStack());
+        }
+    }
+
     /**
      * Returns the name to associate the background process.  Override to change the way background processes
      * are mapped to requests.
@@ -268,6 +279,7 @@ public class ExecuteAndWaitInterceptor extends MethodFilterInterceptor {
             if ((!executeAfterValidationPass || secondTime) && bp == null) {
                 LOG.trace("BackgroundProcess instance is null (create new instance) - executeAfterValidationPass: {}, secondTime: {}.", executeAfterValidationPass, secondTime);
                 bp = getNewBackgroundProcess(name, actionInvocation, threadPriority).prepare();
+                retainValueStack(actionInvocation);
                 session.put(bp_SessionKey, bp);
                 if (executor == null || executor.isShutdown()) {
                     LOG.warn("Executor is shutting down (or null), cannot execute a new process, invoke next ActionInvocation step and return.");
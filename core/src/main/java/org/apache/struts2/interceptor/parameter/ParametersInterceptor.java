@@ -33,10 +33,15 @@ import org.apache.struts2.dispatcher.HttpParameters;
 import org.apache.struts2.dispatcher.Parameter;
 import org.apache.struts2.inject.Inject;
 import org.apache.struts2.interceptor.MethodFilterInterceptor;
+import org.apache.struts2.ognl.DefaultOgnlCacheFactory;
+import org.apache.struts2.ognl.OgnlCache;
+import org.apache.struts2.ognl.OgnlCacheFactory;
 import org.apache.struts2.ognl.ThreadAllowlist;
 import org.apache.struts2.security.AcceptedPatternsChecker;
 import org.apache.struts2.security.DefaultAcceptedPatternsChecker;
 import org.apache.struts2.security.ExcludedPatternsChecker;
+import org.apache.struts2.security.NotExcludedAcceptedPatternsChecker;
+import org.apache.struts2.security.SinglePassNotExcludedAcceptedPatternsChecker;
 import org.apache.struts2.util.ClearableValueStack;
 import org.apache.struts2.util.MemberAccessValueStack;
 import org.apache.struts2.util.TextParseUtil;
@@ -96,8 +101,11 @@ public class ParametersInterceptor extends MethodFilterInterceptor {
     protected ThreadAllowlist threadAllowlist;
     private ExcludedPatternsChecker excludedPatterns;
     private AcceptedPatternsChecker acceptedPatterns;
+    private boolean singlePassNamePatterns;
+    private NotExcludedAcceptedPatternsChecker namePatterns;
     private Set<Pattern> excludedValuePatterns = null;
     private Set<Pattern> acceptedValuePatterns = null;
+    private OgnlCache<AcceptanceKey, AcceptanceDecision> acceptanceCache;
 
     @Inject
     public void setValueStackFactory(ValueStackFactory valueStackFactory) {
@@ -117,6 +125,7 @@ public class ParametersInterceptor extends MethodFilterInterceptor {
     @Inject(value = StrutsConstants.STRUTS_PARAMETERS_REQUIRE_ANNOTATIONS, required = false)
     public void setRequireAnnotations(String requireAnnotations) {
         this.requireAnnotations = BooleanUtils.toBoolean(requireAnnotations);
+        clearAcceptanceCache();
         if (!this.requireAnnotations) {
             String msg = "@StrutsParameter annotation requirement is disabled!" +
                     " We strongly recommend keeping it enabled to protect against critical vulnerabilities." +
@@ -138,16 +147,72 @@ public class ParametersInterceptor extends MethodFilterInterceptor {
     @Inject(value = StrutsConstants.STRUTS_PARAMETERS_REQUIRE_ANNOTATIONS_TRANSITION, required = false)
     public void setRequireAnnotationsTransitionMode(String transitionMode) {
         this.requireAnnotationsTransitionMode = BooleanUtils.toBoolean(transitionMode);
+        clearAcceptanceCache();
+    }
+
+    /**
+     * Decisions about parameter names, which depend only on the action class and the name itself, are remembered up
+     * to the given number of entries, so repeated parameters skip the accepted/excluded patterns and the
+     * {@link StrutsParameter} checks. The cache isn't used in devMode to keep reporting rejected parameters.
+     */
+    @Inject(value = StrutsConstants.STRUTS_PARAMETERS_ACCEPTANCE_CACHE_MAXSIZE, required = false)
+    public void setAcceptanceCacheMaxSize(String acceptanceCacheMaxSize) {
+        int maxSize = Integer.parseInt(acceptanceCacheMaxSize);
+        if (maxSize > 0) {
+            this.acceptanceCache = new DefaultOgnlCacheFactory<AcceptanceKey, AcceptanceDecision>(
+                    maxSize, OgnlCacheFactory.CacheType.WTLFU).buildOgnlCache();
+        } else {
+            this.acceptanceCache = null;
+        }
     }
 
     @Inject
     public void setExcludedPatterns(ExcludedPatternsChecker excludedPatterns) {
         this.excludedPatterns = excludedPatterns;
+        updateNamePatterns();
     }
 
     @Inject
     public void setAcceptedPatterns(AcceptedPatternsChecker acceptedPatterns) {
         this.acceptedPatterns = acceptedPatterns;
+        updateNamePatterns();
+    }
+
+    /**
+     * When {@link StrutsConstants#STRUTS_NOT_EXCLUDED_ACCEPTED_PATTERNS_CHECKER} selects the
+     * {@link SinglePassNotExcludedAcceptedPatternsChecker}, parameter names are first matched against the excluded and
+     * accepted patterns of this interceptor in a single pass. Names which don't pass are still checked with
+     * {@link #isExcluded(String)} and {@link #isAccepted(String)} to report the pattern which rejected them. The single
+     * pass isn't used by subclasses overriding any of these methods.
+     */
+    @Inject(required = false)
+    public void setNotExcludedAcceptedPatterns(NotExcludedAcceptedPatternsChecker notExcludedAcceptedPatterns) {
+        this.singlePassNamePatterns = notExcludedAcceptedPatterns instanceof SinglePassNotExcludedAcceptedPatternsChecker
+                && !overridesNameChecks(getClass());
+        updateNamePatterns();
+    }
+
+    private void updateNamePatterns() {
+        if (singlePassNamePatterns && excludedPatterns != null && acceptedPatterns != null) {
+            SinglePassNotExcludedAcceptedPatternsChecker checker = new SinglePassNotExcludedAcceptedPatternsChecker();
+            checker.setExcludedPatterns(excludedPatterns);
+            checker.setAcceptedPatterns(acceptedPatterns);
+            namePatterns = checker;
+        } else {
+            namePatterns = null;
+        }
+    }
+
+    private static boolean overridesNameChecks(Class<?> clazz) {
+        for (Class<?> current = clazz; current != ParametersInterceptor.class; current = current.getSuperclass()) {
+            for (Method method : current.getDeclaredMethods()) {
+                if (method.getParameterCount() == 1 && method.getParameterTypes()[0] == String.class
+                        && ("isExcluded".equals(method.getName()) || "isAccepted".equals(method.getName()))) {
+                    return true;
+                }
+            }
+        }
+        return false;
     }
 
     @Inject(value = StrutsConstants.STRUTS_ENABLE_DYNAMIC_METHOD_INVOCATION, required = false)
@@ -163,6 +228,7 @@ public class ParametersInterceptor extends MethodFilterInterceptor {
      */
     public void setParamNameMaxLength(int paramNameMaxLength) {
         this.paramNameMaxLength = paramNameMaxLength;
+        clearAcceptanceCache();
     }
 
     static private int countOGNLCharacters(String s) {
@@ -329,9 +395,63 @@ public class ParametersInterceptor extends MethodFilterInterceptor {
      * @return true if parameter is accepted
      */
     protected boolean isAcceptableParameter(String name, Object action) {
+        if (acceptanceCache != null && !devMode) {
+            return isAcceptableParameterCached(name, action);
+        }
         return isAcceptableName(name) && isAcceptableParameterNameAware(name, action) && isParameterAnnotatedAndAllowlist(name, action);
     }
 
+    /**
+     * Same as {@link #isAcceptableParameter(String, Object)} but remembers the outcome of the name and annotation
+     * checks, along with the classes allowlisted by them, which are allowlisted again on every accepted parameter.
+     * {@link ParameterNameAware} depends on the action instance and is always consulted.
+     */
+    private boolean isAcceptableParameterCached(String name, Object action) {
+        AcceptanceKey key = new AcceptanceKey(action.getClass(), name, isModelDrivenParameter(action));
+        AcceptanceDecision decision = acceptanceCache.get(key);
+        if (decision == null) {
+            decision = new AcceptanceDecision(isAcceptableName(name), null, Set.of());
+            acceptanceCache.put(key, decision);
+        }
+        if (!decision.nameAccepted() || !isAcceptableParameterNameAware(name, action)) {
+            return false;
+        }
+        if (decision.annotated() == null) {
+            decision = checkParameterAnnotated(name, action, decision);
+            acceptanceCache.put(key, decision);
+        }
+        if (!decision.annotated()) {
+            return false;
+        }
+        decision.allowlist().forEach(threadAllowlist::allowClass);
+        return true;
+    }
+
+    private AcceptanceDecision checkParameterAnnotated(String name, Object action, AcceptanceDecision decision) {
+        if (!requireAnnotations) {
+            return new AcceptanceDecision(decision.nameAccepted(), true, Set.of());
+        }
+        Set<Class<?>> allowlisted = new HashSet<>(threadAllowlist.getAllowlist());
+        threadAllowlist.clearAllowlist();
+        try {
+            boolean annotated = isParameterAnnotatedAndAllowlist(name, action);
+            return new AcceptanceDecision(decision.nameAccepted(), annotated, Set.copyOf(threadAllowlist.getAllowlist()));
+        } finally {
+            threadAllowlist.clearAllowlist();
+            allowlisted.forEach(threadAllowlist::allowClass);
+        }
+    }
+
+    private boolean isModelDrivenParameter(Object action) {
+        return action instanceof ModelDriven<?> && !ActionContext.getContext().getValueStack().peek().equals(action);
+    }
+
+    private void clearAcceptanceCache() {
+        if (acceptanceCache != null) {
+            acceptanceCache.clear();
+        }
+    }
+
     protected boolean isAcceptableParameterNameAware(String name, Object action) {
         return !(action instanceof ParameterNameAware nameAware) || nameAware.acceptableParameterName(name);
     }
@@ -350,7 +470,7 @@ public class ParametersInterceptor extends MethodFilterInterceptor {
 
         long paramDepth = name.codePoints().mapToObj(c -> (char) c).filter(NESTING_CHARS::contains).count();
 
-        if (action instanceof ModelDriven<?> && !ActionContext.getContext().getValueStack().peek().equals(action)) {
+        if (isModelDrivenParameter(action)) {
             LOG.debug("Model driven Action detected, exempting from @StrutsParameter annotation requirement and OGNL allowlisting model type");
             // (Exempted by annotation on org.apache.struts2.ModelDriven#getModel)
             return hasValidAnnotatedMember("model", action, paramDepth + 1);
@@ -568,13 +688,17 @@ public class ParametersInterceptor extends MethodFilterInterceptor {
             LOG.trace("DMI is enabled, ignoring DMI method: {}", name);
             return false;
         }
-        boolean accepted = isWithinLengthLimit(name) && !isExcluded(name) && isAccepted(name);
+        boolean accepted = isWithinLengthLimit(name) && (isAllowedInSinglePass(name) || !isExcluded(name) && isAccepted(name));
         if (devMode && accepted) {
             LOG.debug("Parameter [{}] was accepted and will be appended to action!", name);
         }
         return accepted;
     }
 
+    private boolean isAllowedInSinglePass(String name) {
+        return namePatterns != null && namePatterns.isAllowed(name).isAllowed();
+    }
+
     private boolean isIgnoredDMI(String name) {
         if (!dmiEnabled) {
             return false;
@@ -728,6 +852,7 @@ public class ParametersInterceptor extends MethodFilterInterceptor {
      */
     public void setAcceptParamNames(String commaDelim) {
         acceptedPatterns.setAcceptedPatterns(commaDelim);
+        clearAcceptanceCache();
     }
 
     /**
@@ -738,6 +863,7 @@ public class ParametersInterceptor extends MethodFilterInterceptor {
      */
     public void setExcludeParams(String commaDelim) {
         excludedPatterns.setExcludedPatterns(commaDelim);
+        clearAcceptanceCache();
     }
 
     /**
@@ -789,4 +915,17 @@ public class ParametersInterceptor extends MethodFilterInterceptor {
             excludedValuePatterns = unmodifiableSet(excludedValuePatterns);
         }
     }
+
+    /**
+     * @param modelDriven whether the parameter targets the model of a {@link ModelDriven} action
+     */
+    private record AcceptanceKey(Class<?> actionClass, String name, boolean modelDriven) {
+    }
+
+    /**
+     * @param annotated {@code null} until the {@link StrutsParameter} checks were done for the parameter
+     * @param allowlist classes allowlisted by the {@link StrutsParameter} checks
+     */
+    private record AcceptanceDecision(boolean nameAccepted, Boolean annotated, Set<Class<?>> allowlist) {
+    }
 }
@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.metrics;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.struts2.ActionInvocation;
+import org.apache.struts2.ActionTimingListener;
+import org.apache.struts2.config.entities.ActionConfig;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * {@link ActionTimingListener} which records the latencies of the interceptors, actions and results into
+ * {@link LatencyHistogram}s.
+ * <p>
+ * Enable it with <code>struts.actionTimingListener=metrics</code>, the metrics are then exposed over JMX and by
+ * the Config Browser plugin.
+ * </p>
+ *
+ * @since 7.0.0
+ */
+public class InvocationMetrics implements ActionTimingListener, InvocationMetricsMXBean {
+
+    private static final Logger LOG = LogManager.getLogger(InvocationMetrics.class);
+
+    private final ConcurrentMap<String, LatencyHistogram> interceptors = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, ConcurrentMap<String, ActionMetrics>> actions = new ConcurrentHashMap<>();
+
+    @Override
+    public void interceptorExecuted(ActionInvocation invocation, String interceptorName, long nanos) {
+        LatencyHistogram histogram = interceptors.get(interceptorName);
+        if (histogram == null) {
+            histogram = interceptors.computeIfAbsent(interceptorName, name -> new LatencyHistogram());
+        }
+        histogram.record(nanos);
+    }
+
+    @Override
+    public void actionExecuted(ActionInvocation invocation, long nanos) {
+        ActionMetrics metrics = getActionMetrics(invocation);
+        if (metrics != null) {
+            metrics.action.record(nanos);
+        }
+    }
+
+    @Override
+    public void resultExecuted(ActionInvocation invocation, String resultCode, long nanos) {
+        ActionMetrics metrics = getActionMetrics(invocation);
+        if (metrics != null && resultCode != null) {
+            LatencyHistogram histogram = metrics.results.get(resultCode);
+            if (histogram == null) {
+                histogram = metrics.results.computeIfAbsent(resultCode, code -> new LatencyHistogram());
+            }
+            histogram.record(nanos);
+        }
+    }
+
+    private ActionMetrics getActionMetrics(ActionInvocation invocation) {
+        ActionConfig config = invocation.getProxy() != null ? invocation.getProxy().getConfig() : null;
+        if (config == null) {
+            return null;
+        }
+        ConcurrentMap<String, ActionMetrics> packageActions = actions.get(config.getPackageName());
+        if (packageActions == null) {
+            packageActions = actions.computeIfAbsent(config.getPackageName(), name -> new ConcurrentHashMap<>());
+        }
+        ActionMetrics metrics = packageActions.get(config.getName());
+        if (metrics == null) {
+            metrics = packageActions.computeIfAbsent(config.getName(), name -> new ActionMetrics());
+        }
+        return metrics;
+    }
+
+    @Override
+    public Map<String, LatencySnapshot> getInterceptorLatencies() {
+        Map<String, LatencySnapshot> snapshots = new TreeMap<>();
+        interceptors.forEach((name, histogram) -> snapshots.put(name, LatencySnapshot.of(histogram)));
+        return snapshots;
+    }
+
+    @Override
+    public Map<String, LatencySnapshot> getActionLatencies() {
+        Map<String, LatencySnapshot> snapshots = new TreeMap<>();
+        actions.forEach((packageName, packageActions) -> packageActions.forEach((actionName, metrics) ->
+                snapshots.put(packageName + "/" + actionName, LatencySnapshot.of(metrics.action))));
+        return snapshots;
+    }
+
+    @Override
+    public Map<String, LatencySnapshot> getResultLatencies() {
+        Map<String, LatencySnapshot> snapshots = new TreeMap<>();
+        actions.forEach((packageName, packageActions) -> packageActions.forEach((actionName, metrics) ->
+                metrics.results.forEach((resultCode, histogram) ->
+                        snapshots.put(packageName + "/" + actionName + ":" + resultCode, LatencySnapshot.of(histogram)))));
+        return snapshots;
+    }
+
+    @Override
+    public void reset() {
+        interceptors.clear();
+        actions.clear();
+    }
+
+    /**
+     * Registers the metrics in the platform MBean server as
+     * <code>org.apache.struts2:type=InvocationMetrics,name=&lt;contextPath&gt;</code>.
+     *
+     * @param contextPath context path of the application, identifies the metrics of the application
+     * @return name of the registered MBean or {@code null} if it couldn't be registered
+     */
+    public ObjectName registerMBean(String contextPath) {
+        try {
+            ObjectName name = new ObjectName("org.apache.struts2:type=InvocationMetrics,name="
+                    + ObjectName.quote(contextPath == null || contextPath.isEmpty() ? "/" : contextPath));
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, name);
+            LOG.debug("Registered invocation metrics as: {}", name);
+            return name;
+        } catch (JMException e) {
+            LOG.warn("Cannot register invocation metrics for context path: {}", contextPath, e);
+            return null;
+        }
+    }
+
+    /**
+     * @param name name returned by {@link #registerMBean(String)}
+     */
+    public static void unregisterMBean(ObjectName name) {
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(name);
+        } catch (JMException e) {
+            LOG.warn("Cannot unregister invocation metrics: {}", name, e);
+        }
+    }
+
+    private static class ActionMetrics {
+        final LatencyHistogram action = new LatencyHistogram();
+        final ConcurrentMap<String, LatencyHistogram> results = new ConcurrentHashMap<>();
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.metrics;
+
+import java.util.Map;
+
+/**
+ * Management interface of {@link InvocationMetrics}, latencies are in milliseconds.
+ *
+ * @since 7.0.0
+ */
+public interface InvocationMetricsMXBean {
+
+    /**
+     * @return latencies of the interceptors by interceptor name, excluding the rest of the invocation they called
+     */
+    Map<String, LatencySnapshot> getInterceptorLatencies();
+
+    /**
+     * @return latencies of the action methods by package and action name, e.g. <code>default/index</code>
+     */
+    Map<String, LatencySnapshot> getActionLatencies();
+
+    /**
+     * @return latencies of the results by package, action name and result code, e.g. <code>default/index:success</code>
+     */
+    Map<String, LatencySnapshot> getResultLatencies();
+
+    /**
+     * Discards all the recorded latencies.
+     */
+    void reset();
+}
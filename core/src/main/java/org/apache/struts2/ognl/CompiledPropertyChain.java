@@ -0,0 +1,239 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.ognl;
+
+import ognl.MemberAccess;
+import ognl.MethodFailedException;
+import ognl.OgnlContext;
+import ognl.OgnlException;
+import ognl.OgnlRuntime;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.struts2.StrutsException;
+import org.apache.struts2.conversion.impl.XWorkConverter;
+import org.apache.struts2.ognl.accessor.ObjectAccessor;
+import org.apache.struts2.util.CompoundRoot;
+import org.apache.struts2.util.reflection.ReflectionContextState;
+
+import java.beans.IntrospectionException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Accessor for a simple property chain expression, such as {@code user.address.city}, evaluated against the top of
+ * a {@link CompoundRoot}. The chain is compiled into direct {@link MethodHandle} calls of the getters resolved by
+ * {@link OgnlRuntime} for the classes observed at compile time, so that subsequent evaluations skip the OGNL tree
+ * walk and the reflective property lookup.
+ * <p>
+ * Access to every getter is checked with the {@link MemberAccess} of the context once, when the chain is compiled.
+ * Evaluation is guarded by the exact class of each intermediate value, any value which doesn't match the compiled
+ * classes or is {@code null} makes the chain report {@link #NOT_HANDLED} and the caller has to fall back to OGNL.
+ *
+ * @since 7.0.0
+ */
+class CompiledPropertyChain {
+
+    private static final Logger LOG = LogManager.getLogger(CompiledPropertyChain.class);
+
+    /**
+     * Returned when the chain cannot evaluate the expression against the given root
+     */
+    static final Object NOT_HANDLED = new Object();
+
+    private static final Pattern PROPERTY_CHAIN = Pattern.compile("[a-zA-Z_$][\\w$]*(\\.[a-zA-Z_$][\\w$]*)*");
+
+    /**
+     * Identifiers which have a special meaning in OGNL and cannot be treated as property names
+     */
+    private static final Set<String> RESERVED_NAMES = Set.of(
+            "top", "this", "root", "context", "true", "false", "null", "new", "and", "or", "not", "in", "instanceof",
+            "eq", "neq", "lt", "lte", "gt", "gte", "shl", "shr", "ushr", "band", "bor", "xor"
+    );
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private final String[] properties;
+    private final Class<?>[] targetClasses;
+    private final MethodHandle[] getters;
+
+    private CompiledPropertyChain(String[] properties, Class<?>[] targetClasses, MethodHandle[] getters) {
+        this.properties = properties;
+        this.targetClasses = targetClasses;
+        this.getters = getters;
+    }
+
+    /**
+     * @param expression OGNL expression
+     * @return property names of the chain or {@code null} if the expression isn't a simple property chain
+     */
+    static String[] toProperties(String expression) {
+        if (expression == null || !PROPERTY_CHAIN.matcher(expression).matches()) {
+            return null;
+        }
+        String[] properties = expression.split("\\.");
+        for (String property : properties) {
+            if (RESERVED_NAMES.contains(property)) {
+                return null;
+            }
+        }
+        return properties;
+    }
+
+    /**
+     * @param root compound root
+     * @return the object against which the first property of a chain will be resolved or {@code null}
+     */
+    static Object topOf(CompoundRoot root) {
+        return root.isEmpty() ? null : root.get(0);
+    }
+
+    /**
+     * Compiles the chain against the current values of the root and evaluates it in the same pass.
+     *
+     * @return compiled chain and the evaluated value or {@code null} if the chain cannot be compiled, in such case
+     * the expression must be evaluated by OGNL
+     */
+    static Compilation compile(String[] properties, Map<String, Object> context, CompoundRoot root) throws OgnlException {
+        if (!(context instanceof OgnlContext ognlContext)) {
+            return null;
+        }
+        MemberAccess memberAccess = ognlContext.getMemberAccess();
+
+        Class<?>[] targetClasses = new Class<?>[properties.length];
+        MethodHandle[] getters = new MethodHandle[properties.length];
+
+        Object currentPath = context.get(ReflectionContextState.CURRENT_PROPERTY_PATH);
+        Object target = topOf(root);
+        for (int i = 0; i < properties.length; i++) {
+            if (target == null) {
+                restorePath(context, currentPath);
+                return null;
+            }
+            MethodHandle getter = toGetter(ognlContext, memberAccess, target, properties[i]);
+            if (getter == null) {
+                restorePath(context, currentPath);
+                return null;
+            }
+            targetClasses[i] = target.getClass();
+            getters[i] = getter;
+            target = invoke(getter, target, properties[i], i, context);
+        }
+        if (target == null) {
+            restorePath(context, currentPath);
+            return null;
+        }
+        return new Compilation(new CompiledPropertyChain(properties, targetClasses, getters), target);
+    }
+
+    private static MethodHandle toGetter(OgnlContext context, MemberAccess memberAccess, Object target, String property) throws OgnlException {
+        Class<?> targetClass = target.getClass();
+        if (!isPlainBean(targetClass)) {
+            LOG.trace("Class [{}] has a custom PropertyAccessor, property chain cannot be compiled", targetClass);
+            return null;
+        }
+        Method getter;
+        try {
+            getter = OgnlRuntime.getGetMethod(context, targetClass, property);
+        } catch (IntrospectionException e) {
+            return null;
+        }
+        if (getter == null || getter.getParameterCount() != 0) {
+            return null;
+        }
+        if (memberAccess == null || !memberAccess.isAccessible(context, target, getter, property)) {
+            LOG.debug("Access to [{}] is not allowed, property chain cannot be compiled", getter);
+            return null;
+        }
+        try {
+            return MethodHandles.publicLookup().unreflect(getter).asType(GETTER_TYPE);
+        } catch (IllegalAccessException e) {
+            LOG.trace("Getter [{}] is not publicly accessible, property chain cannot be compiled", getter);
+            return null;
+        }
+    }
+
+    private static boolean isPlainBean(Class<?> clazz) throws OgnlException {
+        return OgnlRuntime.getPropertyAccessor(clazz) instanceof ObjectAccessor objectAccessor
+                && objectAccessor.getClass() == ObjectAccessor.class;
+    }
+
+    /**
+     * Evaluates the chain against the top of the root.
+     *
+     * @return value of the expression or {@link #NOT_HANDLED}
+     */
+    Object getValue(Map<String, Object> context, CompoundRoot root) throws OgnlException {
+        Object currentPath = context.get(ReflectionContextState.CURRENT_PROPERTY_PATH);
+        Object target = topOf(root);
+        for (int i = 0; i < getters.length; i++) {
+            if (target == null || target.getClass() != targetClasses[i]) {
+                restorePath(context, currentPath);
+                return NOT_HANDLED;
+            }
+            target = invoke(getters[i], target, properties[i], i, context);
+        }
+        if (target == null) {
+            restorePath(context, currentPath);
+            return NOT_HANDLED;
+        }
+        return target;
+    }
+
+    /**
+     * Reverts the property path recorded by a partial evaluation, so OGNL can start over.
+     */
+    private static void restorePath(Map<String, Object> context, Object currentPath) {
+        if (currentPath == null) {
+            context.remove(ReflectionContextState.CURRENT_PROPERTY_PATH);
+        } else {
+            context.put(ReflectionContextState.CURRENT_PROPERTY_PATH, currentPath);
+        }
+    }
+
+    /**
+     * Invokes the getter and updates the context the same way as {@link ObjectAccessor} does, failures are reported
+     * the same way as {@link org.apache.struts2.ognl.accessor.CompoundRootAccessor} and OGNL do.
+     */
+    private static Object invoke(MethodHandle getter, Object target, String property, int index, Map<String, Object> context) throws OgnlException {
+        Object value;
+        try {
+            value = getter.invokeExact(target);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable t) {
+            MethodFailedException e = new MethodFailedException(target, property, t);
+            if (index == 0) {
+                throw new StrutsException("Caught an Ognl exception while getting property " + property, e);
+            }
+            throw e;
+        }
+        context.put(XWorkConverter.LAST_BEAN_CLASS_ACCESSED, target.getClass());
+        context.put(XWorkConverter.LAST_BEAN_PROPERTY_ACCESSED, property);
+        ReflectionContextState.updateCurrentPropertyPath(context, property);
+        return value;
+    }
+
+    record Compilation(CompiledPropertyChain chain, Object value) {
+    }
+}
@@ -22,9 +22,13 @@ import org.apache.struts2.conversion.impl.XWorkConverter;
 import org.apache.struts2.inject.Container;
 import org.apache.struts2.inject.Inject;
 import org.apache.struts2.ognl.accessor.RootAccessor;
+import org.apache.struts2.ognl.accessor.XWorkMethodAccessor;
 import org.apache.struts2.util.CompoundRoot;
+import org.apache.struts2.util.reflection.ReflectionContextState;
 import org.apache.struts2.util.reflection.ReflectionException;
 import ognl.ClassResolver;
+import ognl.MemberAccess;
+import ognl.MethodFailedException;
 import ognl.Ognl;
 import ognl.OgnlContext;
 import ognl.OgnlException;
@@ -41,10 +45,16 @@ import java.beans.BeanInfo;
 import java.beans.IntrospectionException;
 import java.beans.Introspector;
 import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static java.util.Objects.requireNonNull;
 import static org.apache.struts2.ognl.OgnlGuard.EXPR_BLOCKED;
@@ -60,6 +70,8 @@ public class OgnlUtil {
 
     private static final Logger LOG = LogManager.getLogger(OgnlUtil.class);
 
+    private static final MethodType ACTION_METHOD_TYPE = MethodType.methodType(Object.class, Object.class);
+
     private final OgnlCache<String, Object> expressionCache;
     private final OgnlCache<Class<?>, BeanInfo> beanInfoCache;
     private TypeConverter defaultConverter;
@@ -68,8 +80,16 @@ public class OgnlUtil {
     private boolean devMode;
     private boolean enableExpressionCache = true;
     private boolean enableEvalExpression;
+    private boolean enableCompiledAccessors;
+    private int compiledAccessorsThreshold = 100;
+
+    private final Map<String, PropertyChain> propertyChains = new ConcurrentHashMap<>();
+    private int propertyChainsMaxSize = 10000;
+
+    private final Map<Class<?>, Map<String, MethodHandle>> actionMethods = new ConcurrentHashMap<>();
 
     private Container container;
+    private ThreadAllowlist threadAllowlist;
 
     /**
      * Construct a new OgnlUtil instance for use with the framework, with optional cache factories for OGNL Expression
@@ -112,11 +132,31 @@ public class OgnlUtil {
         }
     }
 
+    @Inject(value = StrutsConstants.STRUTS_OGNL_ENABLE_COMPILED_ACCESSORS, required = false)
+    protected void setEnableCompiledAccessors(String enableCompiledAccessors) {
+        this.enableCompiledAccessors = BooleanUtils.toBoolean(enableCompiledAccessors);
+    }
+
+    @Inject(value = StrutsConstants.STRUTS_OGNL_COMPILED_ACCESSORS_THRESHOLD, required = false)
+    protected void setCompiledAccessorsThreshold(String threshold) {
+        this.compiledAccessorsThreshold = Integer.parseInt(threshold);
+    }
+
+    @Inject(value = StrutsConstants.STRUTS_OGNL_EXPRESSION_CACHE_MAXSIZE, required = false)
+    protected void setPropertyChainsMaxSize(String maxSize) {
+        this.propertyChainsMaxSize = Integer.parseInt(maxSize);
+    }
+
     @Inject
     protected void setContainer(Container container) {
         this.container = container;
     }
 
+    @Inject(required = false)
+    protected void setThreadAllowlist(ThreadAllowlist threadAllowlist) {
+        this.threadAllowlist = threadAllowlist;
+    }
+
     /**
      * @param maxLength Injects the Struts OGNL expression maximum length.
      */
@@ -165,6 +205,7 @@ public class OgnlUtil {
      */
     public void clearExpressionCache() {
         expressionCache.clear();
+        propertyChains.clear();
     }
 
     /**
@@ -401,10 +442,153 @@ public class OgnlUtil {
         return ognlGet(name, context, root, null, context, this::checkSimpleMethod);
     }
 
+    /**
+     * Calls a method without arguments of the action, same as {@link #callMethod(String, Map, Object)} with
+     * <code>methodName + "()"</code> does. The method is resolved and the access to it is checked once per action
+     * class, subsequent calls invoke the resolved method directly. A method which cannot be resolved this way, like
+     * a missing or a not accessible one, is always called through OGNL, so it fails the same way.
+     *
+     * @param methodName name of the method
+     * @param context    OGNL context
+     * @param action     the action
+     * @return value returned by the method
+     * @throws OgnlException when the method cannot be called, a {@link MethodFailedException} wraps an exception
+     *                       thrown by the method itself
+     * @since 7.0.0
+     */
+    public Object callActionMethod(final String methodName, final Map<String, Object> context, final Object action) throws OgnlException {
+        MethodHandle method = null;
+        if (context instanceof OgnlContext ognlContext && !ReflectionContextState.isDenyMethodExecution(context)) {
+            method = getActionMethod(methodName, ognlContext, action);
+        }
+        if (method == null) {
+            return callMethod(methodName + "()", context, action);
+        }
+
+        ((OgnlContext) context).setRoot(action);
+        try {
+            return method.invokeExact(action);
+        } catch (Throwable t) {
+            // OGNL reports anything thrown by the method, errors included, as the reason of the failure
+            throw new MethodFailedException(action, methodName, t);
+        }
+    }
+
+    /**
+     * @return the resolved method or {@code null} if the method must be called through OGNL
+     */
+    private MethodHandle getActionMethod(String methodName, OgnlContext context, Object action) throws OgnlException {
+        Class<?> actionClass = action.getClass();
+        Map<String, MethodHandle> methods = actionMethods.get(actionClass);
+        if (methods == null) {
+            methods = actionMethods.computeIfAbsent(actionClass, key -> new ConcurrentHashMap<>());
+        }
+        MethodHandle method = methods.get(methodName);
+        if (method != null) {
+            return method;
+        }
+
+        if (threadAllowlist != null && !threadAllowlist.getAllowlist().isEmpty()) {
+            // access decisions are temporarily relaxed for the current thread, they cannot be remembered
+            return null;
+        }
+        if (OgnlRuntime.getMethodAccessor(actionClass).getClass() != XWorkMethodAccessor.class) {
+            return null;
+        }
+        // applies the same expression checks as calling the method through OGNL does
+        checkSimpleMethod(toTree(methodName + "()"), context);
+
+        Method resolved;
+        try {
+            resolved = actionClass.getMethod(methodName);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+        if (Modifier.isStatic(resolved.getModifiers())) {
+            return null;
+        }
+        MemberAccess memberAccess = context.getMemberAccess();
+        if (memberAccess == null || !memberAccess.isAccessible(context, action, resolved, null)) {
+            return null;
+        }
+        try {
+            method = MethodHandles.publicLookup().unreflect(resolved).asType(ACTION_METHOD_TYPE);
+        } catch (IllegalAccessException e) {
+            LOG.trace("Method [{}] is not publicly accessible, it will be called through OGNL", resolved);
+            return null;
+        }
+        LOG.debug("Resolved action method [{}] of class [{}]", methodName, actionClass);
+        methods.put(methodName, method);
+        return method;
+    }
+
     public Object getValue(final String name, final Map<String, Object> context, final Object root, final Class<?> resultType) throws OgnlException {
+        if (enableCompiledAccessors && root instanceof CompoundRoot compoundRoot) {
+            Object value = getCompiledValue(name, context, compoundRoot);
+            if (value != CompiledPropertyChain.NOT_HANDLED) {
+                if (resultType == null) {
+                    return value;
+                }
+                return ((OgnlContext) context).getTypeConverter().convertValue(context, root, null, null, value, resultType);
+            }
+        }
         return ognlGet(name, context, root, resultType, context, this::checkEnableEvalExpression);
     }
 
+    /**
+     * Evaluates a simple property chain expression using a {@link CompiledPropertyChain}, compiling it once the
+     * expression has been evaluated {@link #compiledAccessorsThreshold} times against the same root class.
+     *
+     * @return value of the expression or {@link CompiledPropertyChain#NOT_HANDLED} if it must be evaluated by OGNL
+     */
+    private Object getCompiledValue(String expr, Map<String, Object> context, CompoundRoot root) throws OgnlException {
+        if (!(context instanceof OgnlContext ognlContext)) {
+            return CompiledPropertyChain.NOT_HANDLED;
+        }
+        if (ognlContext.getMemberAccess() instanceof SecurityMemberAccess sma && sma.hasPropertyPatterns()) {
+            return CompiledPropertyChain.NOT_HANDLED;
+        }
+        Object top = CompiledPropertyChain.topOf(root);
+        if (top == null) {
+            return CompiledPropertyChain.NOT_HANDLED;
+        }
+
+        PropertyChain propertyChain = propertyChains.get(expr);
+        if (propertyChain == null) {
+            if (propertyChains.size() >= propertyChainsMaxSize) {
+                return CompiledPropertyChain.NOT_HANDLED;
+            }
+            propertyChain = propertyChains.computeIfAbsent(expr, key -> new PropertyChain(CompiledPropertyChain.toProperties(key)));
+        }
+        if (propertyChain.properties == null) {
+            return CompiledPropertyChain.NOT_HANDLED;
+        }
+
+        PropertyChainState state = propertyChain.states.computeIfAbsent(top.getClass(), key -> new PropertyChainState());
+        CompiledPropertyChain compiled = state.compiled;
+        if (compiled != null) {
+            return compiled.getValue(context, root);
+        }
+        if (state.evaluations.incrementAndGet() < compiledAccessorsThreshold) {
+            return CompiledPropertyChain.NOT_HANDLED;
+        }
+        if (threadAllowlist != null && !threadAllowlist.getAllowlist().isEmpty()) {
+            // access decisions are temporarily relaxed for the current thread, they cannot be compiled
+            return CompiledPropertyChain.NOT_HANDLED;
+        }
+
+        // applies the same expression checks as OGNL evaluation does
+        compile(expr, context);
+        CompiledPropertyChain.Compilation compilation = CompiledPropertyChain.compile(propertyChain.properties, context, root);
+        if (compilation == null) {
+            state.evaluations.set(0);
+            return CompiledPropertyChain.NOT_HANDLED;
+        }
+        LOG.debug("Compiled property chain expression [{}] for root class [{}]", expr, top.getClass());
+        state.compiled = compilation.chain();
+        return compilation.value();
+    }
+
     public Object compile(String expression) throws OgnlException {
         return compile(expression, null);
     }
@@ -719,6 +903,20 @@ public class OgnlUtil {
         return Ognl.createDefaultContext(root, container.getInstance(SecurityMemberAccess.class), resolver, defaultConverter);
     }
 
+    private static final class PropertyChain {
+        private final String[] properties;
+        private final Map<Class<?>, PropertyChainState> states = new ConcurrentHashMap<>();
+
+        private PropertyChain(String[] properties) {
+            this.properties = properties;
+        }
+    }
+
+    private static final class PropertyChainState {
+        private final AtomicInteger evaluations = new AtomicInteger();
+        private volatile CompiledPropertyChain compiled;
+    }
+
     @FunctionalInterface
     private interface TreeValidator {
         void validate(Object tree, Map<String, Object> context) throws OgnlException;
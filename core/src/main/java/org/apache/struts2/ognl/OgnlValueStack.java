@@ -42,6 +42,7 @@ import org.apache.struts2.StrutsException;
 
 import java.io.Serial;
 import java.io.Serializable;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
@@ -512,6 +513,39 @@ public class OgnlValueStack implements Serializable, ValueStack, ClearableValueS
         ((OgnlContext) context).getValues().clear();
     }
 
+    /**
+     * Drops all the values of the stack and its context, so it can be reused by {@link OgnlValueStackFactory}
+     * for another request of the same thread, see {@link #reuse(ValueStack, TextProvider)}.
+     *
+     * @since 7.0.0
+     */
+    protected void recycle() {
+        root.clear();
+        ((OgnlContext) context).clear();
+        securityMemberAccess.useAcceptProperties(Collections.emptySet());
+        securityMemberAccess.useExcludeProperties(Collections.emptySet());
+        defaultType = null;
+        overrides = null;
+    }
+
+    /**
+     * Prepares a recycled stack the same way the constructor prepares a new one.
+     *
+     * @param vs   an existing stack to include or null
+     * @param prov the text provider to push or null
+     * @since 7.0.0
+     */
+    protected void reuse(ValueStack vs, TextProvider prov) {
+        if (vs != null) {
+            root.addAll(vs.getRoot());
+        }
+        ((OgnlContext) context).setRoot(root);
+        context.put(VALUE_STACK, this);
+        if (prov != null) {
+            push(prov);
+        }
+    }
+
     @Override
     public void useAcceptProperties(Set<Pattern> acceptedProperties) {
         securityMemberAccess.useAcceptProperties(acceptedProperties);
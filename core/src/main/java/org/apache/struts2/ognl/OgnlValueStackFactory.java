@@ -30,10 +30,15 @@ import org.apache.struts2.util.ValueStackFactory;
 import ognl.MethodAccessor;
 import ognl.OgnlRuntime;
 import ognl.PropertyAccessor;
+import org.apache.commons.lang3.BooleanUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.struts2.StrutsConstants;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -48,6 +53,14 @@ public class OgnlValueStackFactory implements ValueStackFactory {
     protected TextProvider textProvider;
     protected Container container;
 
+    /**
+     * Maximum number of value stacks kept by a thread for reuse
+     */
+    private static final int MAX_RECYCLED_STACKS = 8;
+
+    private boolean recycleValueStacks;
+    private final ThreadLocal<RecyclingState> recyclingState = ThreadLocal.withInitial(RecyclingState::new);
+
     @Inject
     protected void setXWorkConverter(XWorkConverter converter) {
         this.xworkConverter = converter;
@@ -70,6 +83,11 @@ public class OgnlValueStackFactory implements ValueStackFactory {
         this.textProvider = textProvider;
     }
 
+    @Inject(value = StrutsConstants.STRUTS_OGNL_RECYCLE_VALUE_STACKS, required = false)
+    protected void setRecycleValueStacks(String recycleValueStacks) {
+        this.recycleValueStacks = BooleanUtils.toBoolean(recycleValueStacks);
+    }
+
     @Override
     public ValueStack createValueStack() {
         return createValueStack(null, true);
@@ -81,12 +99,63 @@ public class OgnlValueStackFactory implements ValueStackFactory {
     }
 
     protected ValueStack createValueStack(ValueStack stack, boolean useTextProvider) {
+        RecyclingState state = recycleValueStacks ? recyclingState.get() : null;
+        if (state != null && state.active) {
+            return state.lease(this, stack, useTextProvider ? textProvider : null);
+        }
         ValueStack newStack = new OgnlValueStack(
                 stack, xworkConverter, compoundRootAccessor, useTextProvider ? textProvider : null, container.getInstance(SecurityMemberAccess.class));
         container.inject(newStack);
         return newStack.getActionContext().withContainer(container).withValueStack(newStack).getValueStack();
     }
 
+    /**
+     * When recycling is enabled, value stacks created by the current thread from now on are tracked and reused
+     * for later requests of the same thread, once the request is completed.
+     */
+    @Override
+    public void requestStarted() {
+        if (recycleValueStacks) {
+            RecyclingState state = recyclingState.get();
+            if (state.active) {
+                LOG.debug("Previous request of this thread hasn't been completed, its value stacks won't be recycled");
+                state.leased.clear();
+            }
+            state.active = true;
+            state.retained = false;
+        }
+    }
+
+    @Override
+    public void requestCompleted(boolean recyclable) {
+        if (recycleValueStacks) {
+            RecyclingState state = recyclingState.get();
+            if (state.active && recyclable && !state.retained) {
+                for (OgnlValueStack stack : state.leased) {
+                    if (state.recycled.size() >= MAX_RECYCLED_STACKS) {
+                        break;
+                    }
+                    stack.recycle();
+                    state.recycled.push(stack);
+                }
+            }
+            state.leased.clear();
+            state.active = false;
+            state.retained = false;
+        }
+    }
+
+    @Override
+    public void retainValueStack(ValueStack stack) {
+        if (recycleValueStacks) {
+            RecyclingState state = recyclingState.get();
+            if (state.active) {
+                LOG.debug("Value stacks of the current request are retained and won't be recycled");
+                state.retained = true;
+            }
+        }
+    }
+
     /**
      * {@link PropertyAccessor}'s, {@link MethodAccessor}'s and {@link NullHandler}'s are registered on a per-class
      * basis by defining a bean adhering to the corresponding interface with a name corresponding to the class it is
@@ -158,4 +227,27 @@ public class OgnlValueStackFactory implements ValueStackFactory {
             LOG.debug("Registered custom OGNL PropertyAccessor [{}] for class [{}]", propertyAccessor.getClass().getName(), cls.getName());
         }
     }
+
+    /**
+     * Value stacks created by a thread during the current request and the ones ready for reuse
+     */
+    private static class RecyclingState {
+        private final Deque<OgnlValueStack> recycled = new ArrayDeque<>();
+        private final List<OgnlValueStack> leased = new ArrayList<>();
+        private boolean active;
+        private boolean retained;
+
+        private ValueStack lease(OgnlValueStackFactory factory, ValueStack stack, TextProvider prov) {
+            OgnlValueStack newStack = recycled.poll();
+            if (newStack != null) {
+                newStack.reuse(stack, prov);
+            } else {
+                newStack = new OgnlValueStack(stack, factory.xworkConverter, factory.compoundRootAccessor, prov,
+                        factory.container.getInstance(SecurityMemberAccess.class));
+                factory.container.inject(newStack);
+            }
+            leased.add(newStack);
+            return newStack.getActionContext().withContainer(factory.container).withValueStack(newStack).getValueStack();
+        }
+    }
 }
@@ -428,6 +428,14 @@ public class SecurityMemberAccess implements MemberAccess {
         this.acceptProperties = acceptedProperties;
     }
 
+    /**
+     * @return {@code true} if access decisions depend on accepted or excluded property patterns
+     * @since 7.0.0
+     */
+    public boolean hasPropertyPatterns() {
+        return !excludeProperties.isEmpty() || !acceptProperties.isEmpty();
+    }
+
     @Inject(value = StrutsConstants.STRUTS_ALLOW_STATIC_FIELD_ACCESS, required = false)
     public void useAllowStaticFieldAccess(String allowStaticFieldAccess) {
         this.allowStaticFieldAccess = BooleanUtils.toBoolean(allowStaticFieldAccess);
@@ -80,6 +80,7 @@ public class CompoundRootAccessor implements RootAccessor {
     private static final Map<MethodCall, Boolean> invalidMethods = new ConcurrentHashMap<>();
     private boolean devMode;
     private boolean disallowCustomOgnlMap;
+    private boolean cacheMissingProperties = true;
     private static final Set<String> ALLOWED_MAP_CLASSES = Set.of(
             HashMap.class.getName(), TreeMap.class.getName(), LinkedHashMap.class.getName());
 
@@ -93,6 +94,11 @@ public class CompoundRootAccessor implements RootAccessor {
         this.disallowCustomOgnlMap = BooleanUtils.toBoolean(disallowCustomOgnlMap);
     }
 
+    @Inject(value = StrutsConstants.STRUTS_OGNL_CACHE_MISSING_PROPERTIES, required = false)
+    public void setCacheMissingProperties(String cacheMissingProperties) {
+        this.cacheMissingProperties = BooleanUtils.toBoolean(cacheMissingProperties);
+    }
+
     @Override
     public void setProperty(Map context, Object target, Object name, Object value) throws OgnlException {
         CompoundRoot root = (CompoundRoot) target;
@@ -164,7 +170,7 @@ public class CompoundRootAccessor implements RootAccessor {
                 }
 
                 try {
-                    if ((OgnlRuntime.hasGetProperty(ognlContext, o, name)) || ((o instanceof Map) && ((Map) o).containsKey(name))) {
+                    if ((hasGetProperty(ognlContext, o, name)) || ((o instanceof Map) && ((Map) o).containsKey(name))) {
                         return OgnlRuntime.getProperty(ognlContext, o, name);
                     }
                 } catch (OgnlException e) {
@@ -187,6 +193,13 @@ public class CompoundRootAccessor implements RootAccessor {
         }
     }
 
+    private boolean hasGetProperty(OgnlContext context, Object target, Object name) throws IntrospectionException, OgnlException {
+        if (cacheMissingProperties && MissingPropertyCache.isMissing(target.getClass(), name)) {
+            return false;
+        }
+        return OgnlRuntime.hasGetProperty(context, target, name);
+    }
+
     @Override
     public Object callMethod(Map context, Object target, String name, Object[] objects) throws MethodFailedException {
         CompoundRoot root = (CompoundRoot) target;
@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.ognl.accessor;
+
+import ognl.NoSuchPropertyException;
+import ognl.OgnlException;
+import ognl.OgnlRuntime;
+
+import java.beans.IntrospectionException;
+import java.io.Serial;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers per class which property names cannot be read from it, so repeated lookups of missing properties
+ * don't have to go through the OGNL reflection and the member access checks again.
+ * <p>
+ * A property is considered missing only when the class doesn't declare any method or field the property could be
+ * resolved to, the outcome never depends on the member access in use and can be safely shared by all the contexts.
+ *
+ * @since 7.0.0
+ */
+final class MissingPropertyCache {
+
+    /**
+     * Maximum number of property names remembered per class
+     */
+    private static final int MAX_PROPERTIES_PER_CLASS = 1024;
+
+    private static final ClassValue<Map<String, Boolean>> MISSING_PROPERTIES = new ClassValue<>() {
+        @Override
+        protected Map<String, Boolean> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private MissingPropertyCache() {
+    }
+
+    /**
+     * @param clazz the class of the target object
+     * @param name  the name of the property
+     * @return {@code true} if the property cannot exist on the given class
+     */
+    static boolean isMissing(Class<?> clazz, Object name) {
+        if (!(name instanceof String property) || property.isEmpty()) {
+            return false;
+        }
+        Map<String, Boolean> properties = MISSING_PROPERTIES.get(clazz);
+        Boolean missing = properties.get(property);
+        if (missing == null) {
+            missing = !hasReadableMember(clazz, property);
+            if (properties.size() < MAX_PROPERTIES_PER_CLASS) {
+                properties.put(property, missing);
+            }
+        }
+        return missing;
+    }
+
+    /**
+     * Creates the exception OGNL throws for a missing property, without filling in the stack trace, for callers
+     * which only use it to signal the expression cannot be evaluated.
+     */
+    static NoSuchPropertyException newException(Object target, Object name) {
+        return new MissingPropertyException(target, name);
+    }
+
+    /**
+     * Looks for any getter, boolean getter, method named after the property or field (of any visibility), which
+     * is a superset of what {@link ognl.ObjectPropertyAccessor} can use to resolve the property.
+     */
+    private static boolean hasReadableMember(Class<?> clazz, String property) {
+        try {
+            if (OgnlRuntime.getPropertyDescriptor(clazz, property) != null) {
+                return true;
+            }
+        } catch (IntrospectionException | OgnlException e) {
+            return true;
+        }
+
+        String getter = "get" + property;
+        String booleanGetter = "is" + property;
+        for (Method method : clazz.getMethods()) {
+            if (isReadMethod(method, property, getter, booleanGetter)) {
+                return true;
+            }
+        }
+        for (Field field : clazz.getFields()) {
+            if (field.getName().equals(property)) {
+                return true;
+            }
+        }
+        for (Class<?> current = clazz; current != null; current = current.getSuperclass()) {
+            for (Method method : current.getDeclaredMethods()) {
+                if (isReadMethod(method, property, getter, booleanGetter)) {
+                    return true;
+                }
+            }
+            for (Field field : current.getDeclaredFields()) {
+                if (field.getName().equals(property)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean isReadMethod(Method method, String property, String getter, String booleanGetter) {
+        String name = method.getName();
+        return name.equals(property) || name.equalsIgnoreCase(getter) || name.equalsIgnoreCase(booleanGetter);
+    }
+
+    private static class MissingPropertyException extends NoSuchPropertyException {
+        @Serial
+        private static final long serialVersionUID = 4281634935413862531L;
+
+        MissingPropertyException(Object target, Object name) {
+            super(target, name);
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+}
@@ -18,7 +18,12 @@
  */
 package org.apache.struts2.ognl.accessor;
 
+import org.apache.commons.lang3.BooleanUtils;
+import org.apache.struts2.StrutsConstants;
 import org.apache.struts2.conversion.impl.XWorkConverter;
+import org.apache.struts2.inject.Inject;
+import org.apache.struts2.ognl.OgnlValueStack;
+import org.apache.struts2.util.ValueStack;
 import org.apache.struts2.util.reflection.ReflectionContextState;
 import ognl.ObjectPropertyAccessor;
 import ognl.OgnlException;
@@ -26,8 +31,19 @@ import ognl.OgnlException;
 import java.util.Map;
 
 public class ObjectAccessor extends ObjectPropertyAccessor {
+
+    private boolean cacheMissingProperties = true;
+
+    @Inject(value = StrutsConstants.STRUTS_OGNL_CACHE_MISSING_PROPERTIES, required = false)
+    public void setCacheMissingProperties(String cacheMissingProperties) {
+        this.cacheMissingProperties = BooleanUtils.toBoolean(cacheMissingProperties);
+    }
+
     @Override
     public Object getProperty(Map map, Object o, Object o1) throws OgnlException {
+        if (cacheMissingProperties && isValueStackLookup(map) && MissingPropertyCache.isMissing(o.getClass(), o1)) {
+            throw MissingPropertyCache.newException(o, o1);
+        }
         Object obj = super.getProperty(map, o, o1);
 
         map.put(XWorkConverter.LAST_BEAN_CLASS_ACCESSED, o.getClass());
@@ -36,6 +52,16 @@ public class ObjectAccessor extends ObjectPropertyAccessor {
         return obj;
     }
 
+    /**
+     * Value stack lookups handle a missing property internally, without reporting the exception, unless asked to
+     * throw it or when setting a value.
+     */
+    private boolean isValueStackLookup(Map map) {
+        return map.containsKey(ValueStack.VALUE_STACK)
+                && !map.containsKey(OgnlValueStack.THROW_EXCEPTION_ON_FAILURE)
+                && !map.containsKey(XWorkConverter.CONVERSION_PROPERTY_FULLNAME);
+    }
+
     @Override
     public void setProperty(Map map, Object o, Object o1, Object o2) throws OgnlException {
         super.setProperty(map, o, o1, o2);
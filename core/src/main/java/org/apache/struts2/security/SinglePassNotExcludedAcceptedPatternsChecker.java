@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.security;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Checks the excluded and accepted patterns with a single regular expression combining all of them, in a form of
+ * {@code (?!(?:excluded1|excluded2)\z)(?:(accepted1)|(accepted2))}, so an allowed value is matched in one pass
+ * instead of being matched against every pattern in turn.
+ * <p>
+ * The combined expression is rebuilt whenever the patterns of the underlying checkers change. When a value isn't
+ * allowed the check falls back to {@link DefaultNotExcludedAcceptedPatternsChecker} to report the exact pattern which
+ * rejected the value. Patterns using different flags, back references, quotations or comments aren't combined at all
+ * and are always checked one by one.
+ * <p>
+ * Use {@code struts.notExcludedAcceptedPatterns.checker=singlePass} to enable this checker. The
+ * {@link org.apache.struts2.interceptor.parameter.ParametersInterceptor} and
+ * {@link org.apache.struts2.interceptor.CookieInterceptor} then combine their own excluded and accepted patterns the
+ * same way.
+ *
+ * @since 7.0.0
+ */
+public class SinglePassNotExcludedAcceptedPatternsChecker extends DefaultNotExcludedAcceptedPatternsChecker {
+
+    private static final Logger LOG = LogManager.getLogger(SinglePassNotExcludedAcceptedPatternsChecker.class);
+
+    /**
+     * Constructs which cannot be safely wrapped into a group or which depend on the position of groups
+     */
+    private static final Pattern NOT_COMBINABLE = Pattern.compile("\\\\([1-9]|k<|Q)|\\(\\?[a-zA-Z-]*x");
+
+    private volatile CombinedPattern combinedPattern;
+
+    @Override
+    public IsAllowed isAllowed(String value) {
+        CombinedPattern combined = getCombinedPattern();
+        if (combined.pattern() != null) {
+            Matcher matcher = combined.pattern().matcher(value);
+            if (matcher.matches()) {
+                return IsAllowed.yes(combined.matchedPattern(matcher));
+            }
+        }
+        return super.isAllowed(value);
+    }
+
+    private CombinedPattern getCombinedPattern() {
+        Set<Pattern> excluded = getExcludedPatterns();
+        Set<Pattern> accepted = getAcceptedPatterns();
+        CombinedPattern combined = combinedPattern;
+        if (combined == null || combined.excluded() != excluded || combined.accepted() != accepted) {
+            combined = CombinedPattern.of(excluded, accepted);
+            combinedPattern = combined;
+        }
+        return combined;
+    }
+
+    /**
+     * @param excluded         excluded patterns the combined pattern was built of
+     * @param accepted         accepted patterns the combined pattern was built of
+     * @param pattern          combined pattern or {@code null} if the patterns cannot be combined
+     * @param groups           index of the group wrapping each of the accepted patterns
+     * @param acceptedPatterns accepted patterns in the same order as the groups
+     */
+    private record CombinedPattern(Set<Pattern> excluded, Set<Pattern> accepted, Pattern pattern, int[] groups,
+                                   Pattern[] acceptedPatterns) {
+
+        static CombinedPattern of(Set<Pattern> excluded, Set<Pattern> accepted) {
+            if (excluded == null || accepted == null || accepted.isEmpty() || !isCombinable(excluded, accepted)) {
+                return new CombinedPattern(excluded, accepted, null, null, null);
+            }
+
+            StringBuilder regex = new StringBuilder();
+            // groups of the excluded patterns come first
+            int group = 1;
+            if (!excluded.isEmpty()) {
+                regex.append("(?!(?:");
+                boolean first = true;
+                for (Pattern pattern : excluded) {
+                    if (!first) {
+                        regex.append('|');
+                    }
+                    regex.append("(?:").append(pattern.pattern()).append(')');
+                    group += pattern.matcher("").groupCount();
+                    first = false;
+                }
+                regex.append(")\\z)");
+            }
+
+            Pattern[] acceptedPatterns = accepted.toArray(new Pattern[0]);
+            int[] groups = new int[acceptedPatterns.length];
+            regex.append("(?:");
+            for (int i = 0; i < acceptedPatterns.length; i++) {
+                if (i > 0) {
+                    regex.append('|');
+                }
+                regex.append('(').append(acceptedPatterns[i].pattern()).append(')');
+                groups[i] = group;
+                group += 1 + acceptedPatterns[i].matcher("").groupCount();
+            }
+            regex.append(')');
+
+            try {
+                Pattern pattern = Pattern.compile(regex.toString(), acceptedPatterns[0].flags());
+                LOG.debug("Combined excluded patterns {} and accepted patterns {} into [{}]", excluded, accepted, pattern);
+                return new CombinedPattern(excluded, accepted, pattern, groups, acceptedPatterns);
+            } catch (PatternSyntaxException e) {
+                LOG.debug("Cannot combine excluded patterns {} and accepted patterns {}, checking them one by one",
+                        excluded, accepted, e);
+                return new CombinedPattern(excluded, accepted, null, null, null);
+            }
+        }
+
+        private static boolean isCombinable(Set<Pattern> excluded, Set<Pattern> accepted) {
+            int flags = accepted.iterator().next().flags();
+            return (flags & Pattern.COMMENTS) == 0 && isCombinable(excluded, flags) && isCombinable(accepted, flags);
+        }
+
+        private static boolean isCombinable(Set<Pattern> patterns, int flags) {
+            for (Pattern pattern : patterns) {
+                if (pattern.flags() != flags || NOT_COMBINABLE.matcher(pattern.pattern()).find()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        String matchedPattern(Matcher matcher) {
+            for (int i = 0; i < groups.length; i++) {
+                if (matcher.group(groups[i]) != null) {
+                    return acceptedPatterns[i].toString();
+                }
+            }
+            return accepted.toString();
+        }
+    }
+}
@@ -24,6 +24,9 @@ import org.apache.logging.log4j.Logger;
 import org.apache.struts2.ActionContext;
 import org.apache.struts2.StrutsConstants;
 import org.apache.struts2.inject.Inject;
+import org.apache.struts2.ognl.DefaultOgnlCacheFactory;
+import org.apache.struts2.ognl.OgnlCache;
+import org.apache.struts2.ognl.OgnlCacheFactory;
 import org.apache.struts2.util.TextParseUtil;
 import org.apache.struts2.util.ValueStack;
 
@@ -35,7 +38,6 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.MissingResourceException;
-import java.util.Objects;
 import java.util.ResourceBundle;
 import java.util.Set;
 import java.util.StringTokenizer;
@@ -56,13 +58,15 @@ abstract class AbstractLocalizedTextProvider implements LocalizedTextProvider {
     private static final String TOMCAT_WEBAPP_CLASSLOADER = "org.apache.catalina.loader.WebappClassLoader";
     private static final String TOMCAT_WEBAPP_CLASSLOADER_BASE = "org.apache.catalina.loader.WebappClassLoaderBase";
     private static final String RELOADED = "org.apache.struts2.util.LocalizedTextProvider.reloaded";
+    private static final int DEFAULT_MESSAGE_FORMAT_CACHE_MAXSIZE = 10000;
 
     protected final ConcurrentMap<String, ResourceBundle> bundlesMap = new ConcurrentHashMap<>();
     protected boolean devMode = false;
     protected boolean reloadBundles = false;
     protected boolean searchDefaultBundlesFirst = false;  // Search default resource bundles first.  Note: This flag may not be meaningful to all implementations.
 
-    private final ConcurrentMap<MessageFormatKey, MessageFormat> messageFormats = new ConcurrentHashMap<>();
+    private transient OgnlCache<MessageFormatKey, MessageTemplate> messageFormats = buildMessageFormatsCache(DEFAULT_MESSAGE_FORMAT_CACHE_MAXSIZE);
+    private final boolean legacyMessageFormat = overridesMessageFormatHooks(getClass());
     private final ConcurrentMap<Integer, List<String>> classLoaderMap = new ConcurrentHashMap<>();
     private final Set<String> missingBundles = ConcurrentHashMap.newKeySet();
     private final ConcurrentMap<Integer, ClassLoader> delegatedClassLoaderMap = new ConcurrentHashMap<>();
@@ -136,8 +140,7 @@ abstract class AbstractLocalizedTextProvider implements LocalizedTextProvider {
     public String findDefaultText(String textKey, Locale locale, Object[] params) {
         String defaultText = findDefaultText(textKey, locale);
         if (defaultText != null) {
-            MessageFormat mf = buildMessageFormat(defaultText, locale);
-            return formatWithNullDetection(mf, params);
+            return formatMessage(defaultText, locale, params);
         }
         return null;
     }
@@ -149,9 +152,7 @@ abstract class AbstractLocalizedTextProvider implements LocalizedTextProvider {
             reloadBundles(valueStack.getContext());
 
             String message = TextParseUtil.translateVariables(bundle.getString(textKey), valueStack);
-            MessageFormat mf = buildMessageFormat(message, locale);
-
-            return formatWithNullDetection(mf, args);
+            return formatMessage(message, locale, args);
         } catch (MissingResourceException ex) {
             if (devMode) {
                 LOG.warn("Missing key [{}] in bundle [{}]!", textKey, bundle);
@@ -188,6 +189,7 @@ abstract class AbstractLocalizedTextProvider implements LocalizedTextProvider {
         final String key = createMissesKey(String.valueOf(getCurrentThreadContextClassLoader().hashCode()), bundleName, locale);
         final ResourceBundle removedBundle = bundlesMap.remove(key);
         LOG.debug("Clearing resource bundle [{}], locale [{}], result: [{}].", bundleName, locale, removedBundle != null);
+        bundlesCleared();
     }
 
     /**
@@ -205,6 +207,15 @@ abstract class AbstractLocalizedTextProvider implements LocalizedTextProvider {
     protected void clearMissingBundlesCache() {
         missingBundles.clear();
         LOG.debug("Cleared the missing bundles cache.");
+        bundlesCleared();
+    }
+
+    /**
+     * Called whenever cached bundles have been cleared or reloaded, so descendants can drop anything derived from them.
+     *
+     * @since 7.0.0
+     */
+    protected void bundlesCleared() {
     }
 
     protected void reloadBundles() {
@@ -227,6 +238,7 @@ abstract class AbstractLocalizedTextProvider implements LocalizedTextProvider {
                     // now, for the true and utter hack, if we're running in tomcat, clear
                     // it's class loader resource cache as well.
                     clearTomcatCache();
+                    bundlesCleared();
                     if (context != null) {
                         context.put(RELOADED, true);
                     }
@@ -333,21 +345,84 @@ abstract class AbstractLocalizedTextProvider implements LocalizedTextProvider {
         }
     }
 
+    /**
+     * @deprecated since 7.0.0, {@link MessageFormat} isn't thread-safe, use {@link #buildMessageTemplate(String, Locale)}
+     * instead. Returns a new instance on each call. Messages are still formatted with this method and
+     * {@link #formatWithNullDetection(MessageFormat, Object[])}, without caching the parsed patterns, when a subclass
+     * overrides any of them.
+     */
+    @Deprecated
     protected MessageFormat buildMessageFormat(String pattern, Locale locale) {
+        MessageFormat format = new MessageFormat(pattern);
+        format.setLocale(locale);
+        format.applyPattern(pattern);
+        return format;
+    }
+
+    /**
+     * Returns a parsed message pattern, patterns are cached up to {@link StrutsConstants#STRUTS_I18N_MESSAGE_FORMAT_CACHE_MAXSIZE}
+     *
+     * @param pattern a {@link MessageFormat} pattern
+     * @param locale  locale used to format the arguments
+     * @return template of the pattern which can be shared between threads
+     * @since 7.0.0
+     */
+    protected MessageTemplate buildMessageTemplate(String pattern, Locale locale) {
+        if (messageFormats == null) {
+            return MessageTemplate.of(pattern, locale);
+        }
         MessageFormatKey key = new MessageFormatKey(pattern, locale);
-        MessageFormat format = messageFormats.get(key);
-        if (format == null) {
-            format = new MessageFormat(pattern);
-            format.setLocale(locale);
-            format.applyPattern(pattern);
-            messageFormats.put(key, format);
+        MessageTemplate template = messageFormats.get(key);
+        if (template == null) {
+            template = MessageTemplate.of(pattern, locale);
+            messageFormats.put(key, template);
         }
-
-        return format;
+        return template;
     }
 
+    /**
+     * @deprecated since 7.0.0, use {@link #formatWithNullDetection(MessageTemplate, Object[])} instead, see
+     * {@link #buildMessageFormat(String, Locale)} for when it's still used
+     */
+    @Deprecated
     protected String formatWithNullDetection(MessageFormat mf, Object[] args) {
-        String message = mf.format(args);
+        return nullIfNullText(mf.format(args));
+    }
+
+    /**
+     * @since 7.0.0
+     */
+    protected String formatWithNullDetection(MessageTemplate mf, Object[] args) {
+        return nullIfNullText(mf.format(args));
+    }
+
+    private String formatMessage(String pattern, Locale locale, Object[] args) {
+        if (legacyMessageFormat) {
+            return formatWithNullDetection(buildMessageFormat(pattern, locale), args);
+        }
+        return formatWithNullDetection(buildMessageTemplate(pattern, locale), args);
+    }
+
+    private static boolean overridesMessageFormatHooks(Class<?> clazz) {
+        for (Class<?> current = clazz; current != AbstractLocalizedTextProvider.class; current = current.getSuperclass()) {
+            if (declaresMethod(current, "buildMessageFormat", String.class, Locale.class)
+                    || declaresMethod(current, "formatWithNullDetection", MessageFormat.class, Object[].class)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean declaresMethod(Class<?> clazz, String name, Class<?>... parameterTypes) {
+        try {
+            clazz.getDeclaredMethod(name, parameterTypes);
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    private static String nullIfNullText(String message) {
         if ("null".equals(message)) {
             return null;
         } else {
@@ -355,6 +430,24 @@ abstract class AbstractLocalizedTextProvider implements LocalizedTextProvider {
         }
     }
 
+    /**
+     * Maximum number of parsed message patterns, per pattern and locale, to keep, 0 disables the cache.
+     *
+     * @since 7.0.0
+     */
+    @Inject(value = StrutsConstants.STRUTS_I18N_MESSAGE_FORMAT_CACHE_MAXSIZE, required = false)
+    public void setMessageFormatCacheMaxSize(String messageFormatCacheMaxSize) {
+        this.messageFormats = buildMessageFormatsCache(Integer.parseInt(messageFormatCacheMaxSize));
+    }
+
+    private static OgnlCache<MessageFormatKey, MessageTemplate> buildMessageFormatsCache(int maxSize) {
+        if (maxSize <= 0) {
+            return null;
+        }
+        return new DefaultOgnlCacheFactory<MessageFormatKey, MessageTemplate>(
+                maxSize, OgnlCacheFactory.CacheType.WTLFU).buildOgnlCache();
+    }
+
     @Inject(value = StrutsConstants.STRUTS_I18N_RELOAD, required = false)
     public void setReloadBundles(String reloadBundles) {
         this.reloadBundles = Boolean.parseBoolean(reloadBundles);
@@ -461,9 +554,7 @@ abstract class AbstractLocalizedTextProvider implements LocalizedTextProvider {
 
             // defaultMessage may be null
             if (message != null) {
-                MessageFormat mf = buildMessageFormat(TextParseUtil.translateVariables(message, valueStack), locale);
-
-                String msg = formatWithNullDetection(mf, args);
+                String msg = formatMessage(TextParseUtil.translateVariables(message, valueStack), locale, args);
                 result = new GetDefaultMessageReturnArg(msg, found);
             }
         }
@@ -523,8 +614,7 @@ abstract class AbstractLocalizedTextProvider implements LocalizedTextProvider {
             if (valueStack != null) {
                 message = TextParseUtil.translateVariables(bundle.getString(key), valueStack);
             }
-            MessageFormat mf = buildMessageFormat(message, locale);
-            return formatWithNullDetection(mf, args);
+            return formatMessage(message, locale, args);
         } catch (MissingResourceException e) {
             LOG.debug("Missing key [{}] in bundle [{}]!", key, bundleName);
             return null;
@@ -629,33 +719,7 @@ abstract class AbstractLocalizedTextProvider implements LocalizedTextProvider {
         }
     }
 
-    static class MessageFormatKey {
-        String pattern;
-        Locale locale;
-
-        MessageFormatKey(String pattern, Locale locale) {
-            this.pattern = pattern;
-            this.locale = locale;
-        }
-
-
-        @Override
-        public boolean equals(Object o) {
-            if (this == o) return true;
-            if (o == null || getClass() != o.getClass()) return false;
-
-            MessageFormatKey that = (MessageFormatKey) o;
-
-            if (!Objects.equals(pattern, that.pattern)) return false;
-            return Objects.equals(locale, that.locale);
-        }
-
-        @Override
-        public int hashCode() {
-            int result = pattern != null ? pattern.hashCode() : 0;
-            result = 31 * result + (locale != null ? locale.hashCode() : 0);
-            return result;
-        }
+    record MessageFormatKey(String pattern, Locale locale) {
     }
 
     static class GetDefaultMessageReturnArg {
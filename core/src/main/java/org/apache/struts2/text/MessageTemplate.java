@@ -0,0 +1,212 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.text;
+
+import java.text.ChoiceFormat;
+import java.text.DateFormat;
+import java.text.Format;
+import java.text.MessageFormat;
+import java.text.NumberFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Immutable, pre-parsed representation of a {@link MessageFormat} pattern which can be safely shared between threads.
+ * <p>
+ * A pattern without arguments is formatted once, when the template is created. Other patterns are split into literal
+ * text and arguments, simple arguments are formatted the same way {@link MessageFormat} does without any shared
+ * state, only an argument using an explicit format, like {@code {0,number,#.##}}, gets its own copy of the format.
+ * If a pattern cannot be split up exactly as {@link MessageFormat} would parse it, each call is delegated to a copy
+ * of the parsed {@link MessageFormat}.
+ *
+ * @since 7.0.0
+ */
+public final class MessageTemplate {
+
+    private final Locale locale;
+    private final String literal;
+    private final Object[] segments;
+    private final MessageFormat messageFormat;
+
+    private MessageTemplate(Locale locale, String literal, Object[] segments, MessageFormat messageFormat) {
+        this.locale = locale;
+        this.literal = literal;
+        this.segments = segments;
+        this.messageFormat = messageFormat;
+    }
+
+    /**
+     * @param pattern a {@link MessageFormat} pattern
+     * @param locale  locale used to format the arguments
+     * @return template of the given pattern
+     * @throws IllegalArgumentException if the pattern is invalid
+     */
+    public static MessageTemplate of(String pattern, Locale locale) {
+        MessageFormat messageFormat = new MessageFormat(pattern);
+        messageFormat.setLocale(locale);
+        messageFormat.applyPattern(pattern);
+
+        Format[] formats = messageFormat.getFormats();
+        if (formats.length == 0) {
+            return new MessageTemplate(locale, messageFormat.format(null), null, null);
+        }
+
+        Object[] segments = parse(pattern, formats);
+        if (segments != null) {
+            MessageTemplate template = new MessageTemplate(locale, null, segments, null);
+            // the arguments aren't formatted at all without values, which exposes how the pattern was split up
+            if (template.format(null).equals(messageFormat.format(null))) {
+                return template;
+            }
+        }
+        return new MessageTemplate(locale, null, null, messageFormat);
+    }
+
+    /**
+     * @param args arguments of the message, can be {@code null}
+     * @return formatted message, same as {@link MessageFormat#format(Object)} would produce
+     */
+    public String format(Object[] args) {
+        if (literal != null) {
+            return literal;
+        }
+        if (segments == null) {
+            return ((MessageFormat) messageFormat.clone()).format(args);
+        }
+
+        StringBuilder result = new StringBuilder();
+        for (Object segment : segments) {
+            if (segment instanceof Argument argument) {
+                argument.format(args, locale, result);
+            } else {
+                result.append((String) segment);
+            }
+        }
+        return result.toString();
+    }
+
+    /**
+     * Splits the pattern following the rules of {@link MessageFormat#applyPattern(String)}
+     *
+     * @return literal text and {@link Argument}s or {@code null} if the pattern cannot be split up
+     */
+    private static Object[] parse(String pattern, Format[] formats) {
+        List<Object> segments = new ArrayList<>();
+        StringBuilder text = new StringBuilder();
+        boolean inQuote = false;
+        int argumentCount = 0;
+
+        for (int i = 0; i < pattern.length(); i++) {
+            char ch = pattern.charAt(i);
+            if (ch == '\'') {
+                if (i + 1 < pattern.length() && pattern.charAt(i + 1) == '\'') {
+                    text.append('\'');
+                    i++;
+                } else {
+                    inQuote = !inQuote;
+                }
+            } else if (ch == '{' && !inQuote) {
+                int end = argumentEnd(pattern, i + 1);
+                if (end < 0 || argumentCount >= formats.length) {
+                    return null;
+                }
+                String argument = pattern.substring(i + 1, end);
+                int comma = argument.indexOf(',');
+                int index;
+                try {
+                    index = Integer.parseInt(comma < 0 ? argument : argument.substring(0, comma));
+                } catch (NumberFormatException e) {
+                    return null;
+                }
+                if (!text.isEmpty()) {
+                    segments.add(text.toString());
+                    text.setLength(0);
+                }
+                segments.add(new Argument(index, formats[argumentCount++]));
+                i = end;
+            } else {
+                text.append(ch);
+            }
+        }
+        if (argumentCount != formats.length) {
+            return null;
+        }
+        if (!text.isEmpty()) {
+            segments.add(text.toString());
+        }
+        return segments.toArray();
+    }
+
+    /**
+     * @return index of the closing brace of the argument starting at the given index or -1 if there is none
+     */
+    private static int argumentEnd(String pattern, int start) {
+        int braces = 0;
+        boolean inQuote = false;
+        for (int i = start; i < pattern.length(); i++) {
+            char ch = pattern.charAt(i);
+            if (ch == '\'') {
+                inQuote = !inQuote;
+            } else if (!inQuote && ch == '{') {
+                braces++;
+            } else if (!inQuote && ch == '}') {
+                if (braces == 0) {
+                    return i;
+                }
+                braces--;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @param index  index of the argument
+     * @param format explicit format of the argument, never used directly as formats aren't thread-safe
+     */
+    private record Argument(int index, Format format) {
+
+        void format(Object[] args, Locale locale, StringBuilder result) {
+            if (args == null || index >= args.length) {
+                result.append('{').append(index).append('}');
+                return;
+            }
+
+            Object arg = args[index];
+            if (arg == null) {
+                result.append("null");
+            } else if (format != null) {
+                String text = ((Format) format.clone()).format(arg);
+                if (format instanceof ChoiceFormat && text.indexOf('{') >= 0) {
+                    text = new MessageFormat(text, locale).format(args);
+                }
+                result.append(text);
+            } else if (arg instanceof Number) {
+                result.append(NumberFormat.getInstance(locale).format(arg));
+            } else if (arg instanceof Date) {
+                result.append(DateFormat.getDateTimeInstance(DateFormat.SHORT, DateFormat.SHORT, locale).format(arg));
+            } else if (arg instanceof String string) {
+                result.append(string);
+            } else {
+                result.append(arg);
+            }
+        }
+    }
+}
@@ -23,8 +23,12 @@ import org.apache.logging.log4j.Logger;
 import org.apache.struts2.ActionContext;
 import org.apache.struts2.ActionInvocation;
 import org.apache.struts2.ModelDriven;
+import org.apache.struts2.StrutsConstants;
 import org.apache.struts2.conversion.impl.XWorkConverter;
 import org.apache.struts2.inject.Inject;
+import org.apache.struts2.ognl.DefaultOgnlCacheFactory;
+import org.apache.struts2.ognl.OgnlCache;
+import org.apache.struts2.ognl.OgnlCacheFactory;
 import org.apache.struts2.util.ValueStack;
 import org.apache.struts2.util.reflection.ReflectionProvider;
 
@@ -41,6 +45,12 @@ public class StrutsLocalizedTextProvider extends AbstractLocalizedTextProvider {
     private static final Logger LOG = LogManager.getLogger(StrutsLocalizedTextProvider.class);
     private transient ReflectionProvider reflectionProvider;
 
+    /**
+     * Bundle and key under which a text was found by searching the class or package hierarchy, or
+     * {@link ResolvedText#MISSING}
+     */
+    private transient OgnlCache<ResolvedTextKey, ResolvedText> resolvedTexts;
+
     public StrutsLocalizedTextProvider() {
         addDefaultResourceBundle(XWORK_MESSAGES_BUNDLE);
         addDefaultResourceBundle(STRUTS_MESSAGES_BUNDLE);
@@ -82,7 +92,7 @@ public class StrutsLocalizedTextProvider extends AbstractLocalizedTextProvider {
         }
 
         // search up class hierarchy
-        String msg = findMessage(startClazz, textKey, indexedTextName, locale, args, null, valueStack);
+        String msg = findClassHierarchyMessage(startClazz, textKey, indexedTextName, locale, args, valueStack);
 
         if (msg != null) {
             return msg;
@@ -109,28 +119,10 @@ public class StrutsLocalizedTextProvider extends AbstractLocalizedTextProvider {
         }
 
         // nothing still? alright, search the package hierarchy now
-        for (Class<?> clazz = startClazz;
-             (clazz != null) && !clazz.equals(Object.class);
-             clazz = clazz.getSuperclass()) {
-
-            String basePackageName = clazz.getName();
-            while (basePackageName.lastIndexOf('.') != -1) {
-                basePackageName = basePackageName.substring(0, basePackageName.lastIndexOf('.'));
-                String packageName = basePackageName + ".package";
-                msg = getMessage(packageName, locale, textKey, valueStack, args);
-
-                if (msg != null) {
-                    return msg;
-                }
+        msg = findPackageHierarchyMessage(startClazz, textKey, indexedTextName, locale, args, valueStack);
 
-                if (indexedTextName != null) {
-                    msg = getMessage(packageName, locale, indexedTextName, valueStack, args);
-
-                    if (msg != null) {
-                        return msg;
-                    }
-                }
-            }
+        if (msg != null) {
+            return msg;
         }
 
         // see if it's a child property
@@ -194,6 +186,156 @@ public class StrutsLocalizedTextProvider extends AbstractLocalizedTextProvider {
         return result != null ? result.message : null;
     }
 
+    private String findClassHierarchyMessage(Class<?> startClazz, String textKey, String indexedTextName, Locale locale,
+                                             Object[] args, ValueStack valueStack) {
+        ResolvedText resolved = getResolvedText(startClazz, textKey, indexedTextName, locale, false);
+        if (resolved != null) {
+            String msg = getResolvedMessage(resolved, locale, valueStack, args);
+            if (msg != null || resolved == ResolvedText.MISSING) {
+                return msg;
+            }
+        }
+        return findMessage(startClazz, textKey, indexedTextName, locale, args, null, valueStack);
+    }
+
+    private String findPackageHierarchyMessage(Class<?> startClazz, String textKey, String indexedTextName, Locale locale,
+                                               Object[] args, ValueStack valueStack) {
+        ResolvedText resolved = getResolvedText(startClazz, textKey, indexedTextName, locale, true);
+        if (resolved != null) {
+            String msg = getResolvedMessage(resolved, locale, valueStack, args);
+            if (msg != null || resolved == ResolvedText.MISSING) {
+                return msg;
+            }
+        }
+
+        for (Class<?> clazz = startClazz;
+             (clazz != null) && !clazz.equals(Object.class);
+             clazz = clazz.getSuperclass()) {
+
+            String basePackageName = clazz.getName();
+            while (basePackageName.lastIndexOf('.') != -1) {
+                basePackageName = basePackageName.substring(0, basePackageName.lastIndexOf('.'));
+                String packageName = basePackageName + ".package";
+                String msg = getMessage(packageName, locale, textKey, valueStack, args);
+
+                if (msg != null) {
+                    return msg;
+                }
+
+                if (indexedTextName != null) {
+                    msg = getMessage(packageName, locale, indexedTextName, valueStack, args);
+
+                    if (msg != null) {
+                        return msg;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return where the text can be found, {@link ResolvedText#MISSING} if it cannot be found in the hierarchy
+     * or {@code null} if the hierarchy must be searched without using the cache
+     */
+    private ResolvedText getResolvedText(Class<?> startClazz, String textKey, String indexedTextName, Locale locale,
+                                         boolean packageHierarchy) {
+        if (resolvedTexts == null || reloadBundles) {
+            return null;
+        }
+        ResolvedTextKey key = new ResolvedTextKey(startClazz, textKey, locale, packageHierarchy,
+                getCurrentThreadContextClassLoader().hashCode());
+        ResolvedText resolved = resolvedTexts.get(key);
+        if (resolved == null) {
+            if (packageHierarchy) {
+                resolved = locateInPackageHierarchy(startClazz, textKey, indexedTextName, locale);
+            } else {
+                resolved = locateInClassHierarchy(startClazz, textKey, indexedTextName, locale);
+            }
+            resolvedTexts.put(key, resolved);
+        }
+        return resolved;
+    }
+
+    /**
+     * Formats the resolved text, the result can be {@code null} if the text itself formats as {@code null}, in such
+     * case the hierarchy has to be searched for the next text
+     */
+    private String getResolvedMessage(ResolvedText resolved, Locale locale, ValueStack valueStack, Object[] args) {
+        if (resolved == ResolvedText.MISSING) {
+            return null;
+        }
+        return getMessage(resolved.bundleName(), locale, resolved.key(), valueStack, args);
+    }
+
+    /**
+     * Follows the same order as {@link #findMessage(Class, String, String, Locale, Object[], java.util.Set, ValueStack)}
+     */
+    private ResolvedText locateInClassHierarchy(Class<?> clazz, String key, String indexedKey, Locale locale) {
+        ResolvedText resolved = locate(clazz.getName(), key, indexedKey, locale);
+        if (resolved != ResolvedText.MISSING) {
+            return resolved;
+        }
+
+        for (Class<?> anInterface : clazz.getInterfaces()) {
+            resolved = locate(anInterface.getName(), key, indexedKey, locale);
+            if (resolved != ResolvedText.MISSING) {
+                return resolved;
+            }
+        }
+
+        if (clazz.isInterface()) {
+            for (Class<?> anInterface : clazz.getInterfaces()) {
+                resolved = locateInClassHierarchy(anInterface, key, indexedKey, locale);
+                if (resolved != ResolvedText.MISSING) {
+                    return resolved;
+                }
+            }
+        } else if (!clazz.equals(Object.class) && !clazz.isPrimitive()) {
+            return locateInClassHierarchy(clazz.getSuperclass(), key, indexedKey, locale);
+        }
+
+        return ResolvedText.MISSING;
+    }
+
+    private ResolvedText locateInPackageHierarchy(Class<?> startClazz, String key, String indexedKey, Locale locale) {
+        for (Class<?> clazz = startClazz;
+             (clazz != null) && !clazz.equals(Object.class);
+             clazz = clazz.getSuperclass()) {
+
+            String basePackageName = clazz.getName();
+            while (basePackageName.lastIndexOf('.') != -1) {
+                basePackageName = basePackageName.substring(0, basePackageName.lastIndexOf('.'));
+                ResolvedText resolved = locate(basePackageName + ".package", key, indexedKey, locale);
+                if (resolved != ResolvedText.MISSING) {
+                    return resolved;
+                }
+            }
+        }
+        return ResolvedText.MISSING;
+    }
+
+    private ResolvedText locate(String bundleName, String key, String indexedKey, Locale locale) {
+        ResourceBundle bundle = findResourceBundle(bundleName, locale);
+        if (bundle == null) {
+            return ResolvedText.MISSING;
+        }
+        if (bundle.containsKey(key)) {
+            return new ResolvedText(bundleName, key);
+        }
+        if (indexedKey != null && bundle.containsKey(indexedKey)) {
+            return new ResolvedText(bundleName, indexedKey);
+        }
+        return ResolvedText.MISSING;
+    }
+
+    @Override
+    protected void bundlesCleared() {
+        if (resolvedTexts != null) {
+            resolvedTexts.clear();
+        }
+    }
+
     @Override
     public String findText(ResourceBundle bundle, String textKey, Locale locale) {
         return findText(bundle, textKey, locale, textKey, new Object[0]);
@@ -210,4 +352,30 @@ public class StrutsLocalizedTextProvider extends AbstractLocalizedTextProvider {
         this.reflectionProvider = reflectionProvider;
     }
 
+    /**
+     * Texts found by searching the class and package hierarchy are remembered up to the given number of entries, so
+     * subsequent lookups of the same class, key and locale go straight to the bundle. Not used when bundles are
+     * reloaded.
+     *
+     * @since 7.0.0
+     */
+    @Inject(value = StrutsConstants.STRUTS_I18N_RESOLVED_TEXT_CACHE_MAXSIZE, required = false)
+    public void setResolvedTextCacheMaxSize(String resolvedTextCacheMaxSize) {
+        int maxSize = Integer.parseInt(resolvedTextCacheMaxSize);
+        if (maxSize > 0) {
+            this.resolvedTexts = new DefaultOgnlCacheFactory<ResolvedTextKey, ResolvedText>(
+                    maxSize, OgnlCacheFactory.CacheType.WTLFU).buildOgnlCache();
+        } else {
+            this.resolvedTexts = null;
+        }
+    }
+
+    private record ResolvedTextKey(Class<?> startClazz, String textKey, Locale locale, boolean packageHierarchy,
+                                   int classLoaderHash) {
+    }
+
+    private record ResolvedText(String bundleName, String key) {
+        static final ResolvedText MISSING = new ResolvedText(null, null);
+    }
+
 }
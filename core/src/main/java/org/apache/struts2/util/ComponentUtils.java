@@ -51,4 +51,42 @@ public class ComponentUtils {
         return expr != null && expr.contains("%{") && expr.contains("}");
     }
 
+    /**
+     * Check if the value of a tag attribute is a literal of the given type, a value which evaluates to itself and
+     * doesn't have to be evaluated against the value stack: any text without an expression if a String is expected,
+     * only <code>true</code> or <code>false</code> if a Boolean is expected.
+     *
+     * @param value  value of the attribute
+     * @param toType the type expected
+     * @return true if the value can be converted with {@link #toLiteral(String, Class)}
+     * @since 7.0.0
+     */
+    public static boolean isLiteral(String value, Class<?> toType) {
+        if (value == null) {
+            return false;
+        }
+        if (toType == String.class) {
+            return !containsExpression(value);
+        }
+        if (toType == Boolean.class || toType == boolean.class) {
+            return "true".equals(value) || "false".equals(value);
+        }
+        return false;
+    }
+
+    /**
+     * Converts a literal value of a tag attribute, see {@link #isLiteral(String, Class)}
+     *
+     * @param value  literal value of the attribute
+     * @param toType the type expected
+     * @return the converted value
+     * @since 7.0.0
+     */
+    public static Object toLiteral(String value, Class<?> toType) {
+        if (toType == String.class) {
+            return value;
+        }
+        return Boolean.valueOf(value);
+    }
+
 }
@@ -20,6 +20,7 @@ package org.apache.struts2.util;
 
 import org.apache.struts2.ActionContext;
 import org.apache.struts2.ActionInvocation;
+import org.apache.struts2.inject.Container;
 
 import java.io.Serial;
 import java.io.Serializable;
@@ -82,6 +83,12 @@ public class InvocationSessionStore {
      * @param invocation the action invocation
      */
     public static void storeInvocation(String key, String token, ActionInvocation invocation) {
+        // the stored invocation keeps using its value stack in later requests, so it must never be recycled
+        Container container = ActionContext.getContext().getContainer();
+        if (container != null && invocation.getStack() != null) {
+            container.getInstance(ValueStackFactory.class).retainValueStack(invocation.getStack());
+        }
+
         InvocationContext invocationContext = new InvocationContext(invocation, token);
         Map<String, Object> invocationMap = getInvocationMap();
         invocationMap.put(key, invocationContext);
@@ -70,6 +70,15 @@ public class NamedVariablePatternMatcher implements PatternMatcher<NamedVariable
         return (pattern == null || pattern.indexOf('{') == -1);
     }
 
+    /**
+     * Returns the text preceding the first variable of the pattern.
+     */
+    @Override
+    public String literalPrefix(String pattern) {
+        int end = pattern.indexOf('{');
+        return end < 0 ? pattern : pattern.substring(0, end);
+    }
+
     /**
      * Compiles the pattern.
      *
@@ -19,25 +19,73 @@
 package org.apache.struts2.util;
 
 import org.apache.commons.lang3.StringUtils;
+import org.apache.struts2.StrutsConstants;
+import org.apache.struts2.inject.Inject;
+import org.apache.struts2.ognl.DefaultOgnlCacheFactory;
+import org.apache.struts2.ognl.OgnlCache;
+import org.apache.struts2.ognl.OgnlCacheFactory;
+
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * OGNL implementation of {@link TextParser}
  */
 public class OgnlTextParser implements TextParser {
 
+    private OgnlCache<ParsedTextKey, ParsedText> parsedTexts;
+
+    /**
+     * Texts are split up into literal text and expressions once and remembered up to the given number of entries,
+     * so subsequent evaluations of the same text only evaluate the expressions.
+     *
+     * @since 7.0.0
+     */
+    @Inject(value = StrutsConstants.STRUTS_EXPRESSION_PARSED_TEXT_CACHE_MAXSIZE, required = false)
+    public void setParsedTextCacheMaxSize(String parsedTextCacheMaxSize) {
+        int maxSize = Integer.parseInt(parsedTextCacheMaxSize);
+        if (maxSize > 0) {
+            this.parsedTexts = new DefaultOgnlCacheFactory<ParsedTextKey, ParsedText>(
+                    maxSize, OgnlCacheFactory.CacheType.WTLFU).buildOgnlCache();
+        } else {
+            this.parsedTexts = null;
+        }
+    }
+
     public Object evaluate(char[] openChars, String expression, TextParseUtil.ParsedValueEvaluator evaluator, int maxLoopCount) {
         // deal with the "pure" expressions first!
         //expression = expression.trim();
-        Object result = expression = (expression == null) ? "" : expression;
-        int pos = 0;
+        expression = (expression == null) ? "" : expression;
 
-        for (char open : openChars) {
+        if (parsedTexts != null) {
+            ParsedTextKey key = new ParsedTextKey(new String(openChars), expression);
+            ParsedText parsedText = parsedTexts.get(key);
+            if (parsedText == null) {
+                parsedText = ParsedText.parse(openChars, expression);
+                parsedTexts.put(key, parsedText);
+            }
+            if (parsedText == ParsedText.LITERAL) {
+                return expression;
+            }
+            // a parsed text reproduces a single evaluation pass, the recursive evaluation always re-scans the text
+            if (parsedText != ParsedText.UNPARSED && maxLoopCount == DEFAULT_LOOP_COUNT) {
+                return parsedText.evaluate(openChars, expression, evaluator);
+            }
+        }
+
+        return evaluate(openChars, 0, new Evaluation(expression), evaluator, maxLoopCount);
+    }
+
+    private static Object evaluate(char[] openChars, int openIndex, Evaluation evaluation,
+                                   TextParseUtil.ParsedValueEvaluator evaluator, int maxLoopCount) {
+        for (int i = openIndex; i < openChars.length; i++) {
             int loopCount = 1;
             //this creates an implicit StringBuffer and shouldn't be used in the inner loop
-            final String lookupChars = open + "{";
+            final String lookupChars = openChars[i] + "{";
 
             while (true) {
-                int start = expression.indexOf(lookupChars, pos);
+                String expression = evaluation.expression;
+                int start = expression.indexOf(lookupChars, evaluation.pos);
                 if (start == -1) {
                     loopCount++;
                     start = expression.indexOf(lookupChars);
@@ -46,56 +94,206 @@ public class OgnlTextParser implements TextParser {
                     // translateVariables prevent infinite loop / expression recursive evaluation
                     break;
                 }
-                int length = expression.length();
-                int x = start + 2;
-                int end;
-                char c;
-                int count = 1;
-                while (start != -1 && x < length && count != 0) {
-                    c = expression.charAt(x++);
-                    if (c == '{') {
-                        count++;
-                    } else if (c == '}') {
-                        count--;
-                    }
-                }
-                end = x - 1;
+                int end = closingBrace(expression, start);
 
-                if ((start != -1) && (end != -1) && (count == 0)) {
+                if (end != -1) {
                     String var = expression.substring(start + 2, end);
 
                     Object o = evaluator.evaluate(var);
 
-                    String left = expression.substring(0, start);
-                    String right = expression.substring(end + 1);
-                    String middle = null;
-                    if (o != null) {
-                        middle = o.toString();
-                        if (StringUtils.isEmpty(left)) {
-                            result = o;
-                        } else {
-                            result = left.concat(middle);
-                        }
-
-                        if (StringUtils.isNotEmpty(right)) {
-                            result = result.toString().concat(right);
-                        }
-
-                        expression = left.concat(middle).concat(right);
-                    } else {
-                        // the variable doesn't exist, so don't display anything
-                        expression = left.concat(right);
-                        result = expression;
-                    }
-                    pos = (!left.isEmpty() ? left.length() - 1: 0) +
-                            (middle != null && !middle.isEmpty() ? middle.length() - 1: 0) +
-                            1;
-                    pos = Math.max(pos, 1);
+                    evaluation.substitute(start, end, o, o != null ? o.toString() : null);
                 } else {
                     break;
                 }
             }
         }
-        return result;
+        return evaluation.result;
+    }
+
+    /**
+     * @return index of the brace closing the expression starting at the given index or -1 if there is none
+     */
+    private static int closingBrace(String expression, int start) {
+        if (start == -1) {
+            return -1;
+        }
+        int length = expression.length();
+        int x = start + 2;
+        int count = 1;
+        while (x < length && count != 0) {
+            char c = expression.charAt(x++);
+            if (c == '{') {
+                count++;
+            } else if (c == '}') {
+                count--;
+            }
+        }
+        return count == 0 ? x - 1 : -1;
+    }
+
+    private static boolean isOpenChar(char[] openChars, char c) {
+        for (char open : openChars) {
+            if (open == c) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * State of the evaluation of a text, the text with all the expressions found so far replaced by their values.
+     */
+    private static final class Evaluation {
+
+        private String expression;
+        private Object result;
+        private int pos;
+
+        Evaluation(String expression) {
+            this.expression = expression;
+            this.result = expression;
+        }
+
+        void substitute(int start, int end, Object o, String middle) {
+            String left = expression.substring(0, start);
+            String right = expression.substring(end + 1);
+            if (o != null) {
+                if (StringUtils.isEmpty(left)) {
+                    result = o;
+                } else {
+                    result = left.concat(middle);
+                }
+
+                if (StringUtils.isNotEmpty(right)) {
+                    result = result.toString().concat(right);
+                }
+
+                expression = left.concat(middle).concat(right);
+            } else {
+                // the variable doesn't exist, so don't display anything
+                expression = left.concat(right);
+                result = expression;
+            }
+            pos = (!left.isEmpty() ? left.length() - 1: 0) +
+                    (middle != null && !middle.isEmpty() ? middle.length() - 1: 0) +
+                    1;
+            pos = Math.max(pos, 1);
+        }
+    }
+
+    private record ParsedTextKey(String openChars, String expression) {
+    }
+
+    /**
+     * A text split up into literal text and the expressions found by a single evaluation pass, as long as no value
+     * of an expression can form a new expression with the surrounding text.
+     */
+    private static final class ParsedText {
+
+        static final ParsedText LITERAL = new ParsedText(-1, null, null, null);
+        static final ParsedText UNPARSED = new ParsedText(-1, null, null, null);
+
+        private final int openIndex;
+        private final int[] starts;
+        private final int[] ends;
+        private final String[] vars;
+
+        private ParsedText(int openIndex, int[] starts, int[] ends, String[] vars) {
+            this.openIndex = openIndex;
+            this.starts = starts;
+            this.ends = ends;
+            this.vars = vars;
+        }
+
+        static ParsedText parse(char[] openChars, String expression) {
+            int openIndex = -1;
+            for (int i = 0; i < openChars.length; i++) {
+                if (expression.indexOf(openChars[i] + "{") != -1) {
+                    if (openIndex != -1) {
+                        // expressions of different kinds are evaluated in separate passes
+                        return UNPARSED;
+                    }
+                    openIndex = i;
+                }
+            }
+            if (openIndex == -1) {
+                return LITERAL;
+            }
+
+            String lookupChars = openChars[openIndex] + "{";
+            List<int[]> expressions = new ArrayList<>();
+            int pos = 0;
+            while (true) {
+                int start = expression.indexOf(lookupChars, pos);
+                int end = closingBrace(expression, start);
+                if (end == -1) {
+                    break;
+                }
+                expressions.add(new int[]{start, end});
+                pos = end + 1;
+            }
+            if (expressions.isEmpty()) {
+                return LITERAL;
+            }
+
+            int[] starts = new int[expressions.size()];
+            int[] ends = new int[expressions.size()];
+            String[] vars = new String[expressions.size()];
+            for (int i = 0; i < vars.length; i++) {
+                starts[i] = expressions.get(i)[0];
+                ends[i] = expressions.get(i)[1];
+                vars[i] = expression.substring(starts[i] + 2, ends[i]);
+            }
+            return new ParsedText(openIndex, starts, ends, vars);
+        }
+
+        Object evaluate(char[] openChars, String expression, TextParseUtil.ParsedValueEvaluator evaluator) {
+            StringBuilder text = new StringBuilder(expression.length());
+            Object value = null;
+            int pos = 0;
+            for (int i = 0; i < vars.length; i++) {
+                text.append(expression, pos, starts[i]);
+                pos = ends[i] + 1;
+
+                Object o = evaluator.evaluate(vars[i]);
+                String middle = o != null ? o.toString() : null;
+
+                if (!isSafe(openChars, text, middle, pos < expression.length())) {
+                    // continues exactly the way the text would be evaluated without being parsed
+                    Evaluation evaluation = new Evaluation(text + expression.substring(starts[i]));
+                    evaluation.substitute(text.length(), text.length() + ends[i] - starts[i], o, middle);
+                    return OgnlTextParser.evaluate(openChars, openIndex, evaluation, evaluator, DEFAULT_LOOP_COUNT);
+                }
+
+                value = text.isEmpty() ? o : null;
+                if (middle != null) {
+                    text.append(middle);
+                }
+            }
+            if (value != null && pos == expression.length()) {
+                return value;
+            }
+            return text.append(expression, pos, expression.length()).toString();
+        }
+
+        /**
+         * @return true if the value of an expression cannot form a new expression with the surrounding text and
+         * doesn't change where the following expressions are looked up
+         */
+        private static boolean isSafe(char[] openChars, StringBuilder left, String middle, boolean hasRight) {
+            if (middle == null || middle.isEmpty()) {
+                if (left.isEmpty()) {
+                    return !hasRight;
+                }
+                return !isOpenChar(openChars, left.charAt(left.length() - 1));
+            }
+            for (int i = 0; i < middle.length(); i++) {
+                char c = middle.charAt(i);
+                if (c == '{' || isOpenChar(openChars, c)) {
+                    return false;
+                }
+            }
+            return true;
+        }
     }
 }
@@ -55,4 +55,16 @@ public interface PatternMatcher<E> {
      */
     boolean match(Map<String,String> map, String data, E expr);
 
+    /**
+     * Returns the literal text every value matched by the pattern must start with. It is used to index compiled
+     * patterns, so only the patterns which can possibly match a value have to be evaluated.
+     *
+     * @param pattern The string pattern
+     * @return The literal prefix of the pattern, an empty string if unknown
+     * @since 7.0.0
+     */
+    default String literalPrefix(String pattern) {
+        return "";
+    }
+
 }
@@ -50,6 +50,8 @@ import java.util.regex.Pattern;
  */
 public class RegexPatternMatcher implements PatternMatcher<RegexPatternMatcherExpression> {
     private static final Pattern PATTERN = Pattern.compile("\\{(.*?)}");
+    private static final String REGEX_METACHARACTERS = "\\^$.|?*+()[]{}";
+    private static final String REGEX_QUANTIFIERS = "?*{";
 
     public RegexPatternMatcherExpression compilePattern(String data) {
         Map<Integer, String> params = new HashMap<>();
@@ -88,6 +90,25 @@ public class RegexPatternMatcher implements PatternMatcher<RegexPatternMatcherEx
         return (pattern == null || pattern.indexOf('{') == -1);
     }
 
+    /**
+     * Returns the text preceding the first placeholder or regular expression metacharacter of the pattern, without
+     * the character right before a quantifier as it is optional, or an empty string if the pattern has alternatives.
+     */
+    @Override
+    public String literalPrefix(String pattern) {
+        if (pattern.indexOf('|') >= 0) {
+            return "";
+        }
+        int end = 0;
+        while (end < pattern.length() && REGEX_METACHARACTERS.indexOf(pattern.charAt(end)) == -1) {
+            end++;
+        }
+        if (end > 0 && end < pattern.length() && REGEX_QUANTIFIERS.indexOf(pattern.charAt(end)) >= 0) {
+            end--;
+        }
+        return pattern.substring(0, end);
+    }
+
     public boolean match(Map<String, String> map, String data, RegexPatternMatcherExpression expr) {
         Matcher matcher = expr.getPattern().matcher(data);
         Map<Integer, String> params = expr.getParams();
@@ -38,4 +38,33 @@ public interface ValueStackFactory {
      */
     ValueStack createValueStack(ValueStack stack);
 
+    /**
+     * Marks the beginning of a request processed by the current thread. Implementations which recycle value stacks
+     * may reuse the stacks created until {@link #requestCompleted(boolean)} for a later request of the same thread.
+     *
+     * @since 7.0.0
+     */
+    default void requestStarted() {
+    }
+
+    /**
+     * Marks the end of the request processed by the current thread.
+     *
+     * @param recyclable false if the value stacks created during the request can still be in use after the request
+     *                   completed, e.g. by an asynchronous request
+     * @since 7.0.0
+     */
+    default void requestCompleted(boolean recyclable) {
+    }
+
+    /**
+     * Marks the value stacks of the current request as used beyond the request, e.g. by a background process, so they
+     * are never recycled.
+     *
+     * @param stack the stack which escapes the request
+     * @since 7.0.0
+     */
+    default void retainValueStack(ValueStack stack) {
+    }
+
 }
@@ -63,6 +63,21 @@ public class WildcardHelper implements PatternMatcher<int[]> {
         return (pattern == null || pattern.indexOf('*') == -1);
     }
 
+    /**
+     * Returns the text preceding the first '*' or '\' character of the pattern.
+     *
+     * @param pattern The pattern
+     * @return The literal prefix of the pattern
+     */
+    @Override
+    public String literalPrefix(String pattern) {
+        int end = 0;
+        while (end < pattern.length() && pattern.charAt(end) != '*' && pattern.charAt(end) != '\\') {
+            end++;
+        }
+        return pattern.substring(0, end);
+    }
+
     /**
      * <p> Translate the given <code>String</code> into a <code>int []</code>
      * representing the pattern matchable by this class. <br> This function
@@ -35,13 +35,11 @@ import java.net.URL;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
-
-import static java.util.Collections.synchronizedMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * <p>
@@ -67,8 +65,12 @@ public class DefaultActionValidatorManager implements ActionValidatorManager {
      */
     protected static final String VALIDATION_CONFIG_SUFFIX = "-validation.xml";
 
-    protected final Map<String, List<ValidatorConfig>> validatorCache = synchronizedMap(new HashMap<>());
-    protected final Map<String, List<ValidatorConfig>> validatorFileCache = synchronizedMap(new HashMap<>());
+    protected final Map<String, List<ValidatorConfig>> validatorCache = new ConcurrentHashMap<>();
+    protected final Map<String, List<ValidatorConfig>> validatorFileCache = new ConcurrentHashMap<>();
+    /**
+     * Validator configs of each validator key already filtered by the method, to only instantiate validators of them
+     */
+    private final Map<ValidatorChainKey, List<ValidatorConfig>> validatorChainCache = new ConcurrentHashMap<>();
     private static final Logger LOG = LogManager.getLogger(DefaultActionValidatorManager.class);
 
     protected ValidatorFactory validatorFactory;
@@ -137,28 +139,55 @@ public class DefaultActionValidatorManager implements ActionValidatorManager {
     }
 
     @Override
-    public synchronized List<Validator> getValidators(Class<?> clazz, String context, String method) {
+    public List<Validator> getValidators(Class<?> clazz, String context, String method) {
+        List<ValidatorConfig> configs = getValidatorChain(clazz, context, method);
+
+        ValueStack stack = ActionContext.getContext().getValueStack();
+        List<Validator> validators = new ArrayList<>(configs.size());
+        for (ValidatorConfig config : configs) {
+            validators.add(getValidatorFromValidatorConfig(config, stack));
+        }
+        return validators;
+    }
+
+    /**
+     * Validator configs are built once per validator key and method, validators themselves are stateful and must be
+     * created for each validation.
+     *
+     * @return immutable list of validator configs applicable to the method
+     */
+    private List<ValidatorConfig> getValidatorChain(Class<?> clazz, String context, String method) {
         String validatorKey = buildValidatorKey(clazz, context);
 
-        if (!validatorCache.containsKey(validatorKey)) {
-            validatorCache.put(validatorKey, buildValidatorConfigs(clazz, context, false, null));
-        } else if (reloadingConfigs) {
-            validatorCache.put(validatorKey, buildValidatorConfigs(clazz, context, true, null));
+        if (reloadingConfigs) {
+            boolean checkFile = validatorCache.containsKey(validatorKey);
+            List<ValidatorConfig> configs = List.copyOf(buildValidatorConfigs(clazz, context, checkFile, null));
+            validatorCache.put(validatorKey, configs);
+            return filterByMethod(configs, method);
         }
 
-        ValueStack stack = ActionContext.getContext().getValueStack();
-        List<ValidatorConfig> configs = validatorCache.get(validatorKey);
-        List<Validator> validators = new ArrayList<>();
+        return validatorChainCache.computeIfAbsent(new ValidatorChainKey(validatorKey, method), key -> {
+            List<ValidatorConfig> configs = validatorCache.computeIfAbsent(validatorKey,
+                    k -> List.copyOf(buildValidatorConfigs(clazz, context, false, null)));
+            return filterByMethod(configs, method);
+        });
+    }
+
+    private List<ValidatorConfig> filterByMethod(List<ValidatorConfig> configs, String method) {
+        if (method == null) {
+            return configs;
+        }
+        List<ValidatorConfig> filtered = new ArrayList<>(configs.size());
         for (ValidatorConfig config : configs) {
-            if (method == null || method.equals(config.getParams().get("methodName"))) {
-                validators.add(getValidatorFromValidatorConfig(config, stack));
+            if (method.equals(config.getParams().get("methodName"))) {
+                filtered.add(config);
             }
         }
-        return validators;
+        return List.copyOf(filtered);
     }
 
     @Override
-    public synchronized List<Validator> getValidators(Class<?> clazz, String context) {
+    public List<Validator> getValidators(Class<?> clazz, String context) {
         return getValidators(clazz, context, null);
     }
 
@@ -348,4 +377,7 @@ public class DefaultActionValidatorManager implements ActionValidatorManager {
 
         return retList;
     }
+
+    private record ValidatorChainKey(String validatorKey, String method) {
+    }
 }
@@ -47,6 +47,12 @@ import java.util.Locale;
 
 /**
  * Renders a view using the Freemarker template engine.
+ * <p>
+ * By default the output is buffered until the template is completed when the template exception handler rethrows
+ * errors (see {@link #setWriteIfCompleted(Boolean)}), so an error page can still be rendered. With the
+ * <code>chunkSize</code> parameter the output is streamed instead and sent to the client each time the given number
+ * of characters has been rendered.
+ * </p>
  */
 public class FreemarkerResult extends StrutsResultSupport {
 
@@ -61,6 +67,7 @@ public class FreemarkerResult extends StrutsResultSupport {
     protected FreemarkerManager freemarkerManager;
     private Writer writer;
     private Boolean writeIfCompleted = null;
+    private int chunkSize;
 
     /*
      * Struts results are constructed for each result execution
@@ -70,6 +77,7 @@ public class FreemarkerResult extends StrutsResultSupport {
     protected String location;
     private String pContentType = "text/html";
     private static final String PARENT_TEMPLATE_WRITER = FreemarkerResult.class.getName() + ".parentWriter";
+    private static final String PARENT_CHUNKED_WRITER = FreemarkerResult.class.getName() + ".parentChunkedWriter";
 
     public FreemarkerResult() {
         super();
@@ -152,7 +160,12 @@ public class FreemarkerResult extends StrutsResultSupport {
 
                 // Process the template
                 Writer writer = getWriter();
-                if (willWriteIfCompleted) {
+                if (req.getAttribute(PARENT_CHUNKED_WRITER) instanceof Writer parentChunkedWriter) {
+                    // a nested result, e.g. of the action tag, follows the output still buffered by the parent
+                    template.process(model, parentChunkedWriter);
+                } else if (chunkSize > 0 && req.getAttribute(PARENT_TEMPLATE_WRITER) == null) {
+                    processInChunks(template, model, writer);
+                } else if (willWriteIfCompleted) {
                     CharArrayWriter parentCharArrayWriter = (CharArrayWriter) req.getAttribute(PARENT_TEMPLATE_WRITER);
                     boolean isTopTemplate;
                     if (isTopTemplate = (parentCharArrayWriter == null)) {
@@ -190,6 +203,44 @@ public class FreemarkerResult extends StrutsResultSupport {
         }
     }
 
+    /**
+     * Processes the template and sends the output each time {@link #getChunkSize()} characters have been rendered
+     * or the template flushes its output. If the template fails before anything was sent, the output is discarded
+     * and the error can be handled the same way as with {@link #isWriteIfCompleted()}, otherwise the output rendered
+     * up to the error is sent. Results nested in the template, e.g. by the action tag, are rendered into the same
+     * chunks.
+     *
+     * @param template the freemarker template
+     * @param model    the template model
+     * @param writer   the writer to send the output to
+     * @throws IOException       in case of IO errors
+     * @throws TemplateException in case of freemarker template errors
+     * @since 7.0.0
+     */
+    protected void processInChunks(Template template, TemplateModel model, Writer writer) throws IOException, TemplateException {
+        ChunkedWriter chunkedWriter = new ChunkedWriter(writer, chunkSize);
+        HttpServletRequest req = invocation.getInvocationContext().getServletRequest();
+        req.setAttribute(PARENT_CHUNKED_WRITER, chunkedWriter);
+        try {
+            template.process(model, chunkedWriter);
+            chunkedWriter.flush();
+        } catch (TemplateException | IOException e) {
+            if (chunkedWriter.isSent()) {
+                LOG.error("Error processing Freemarker result, the output was already partially sent!", e);
+                try {
+                    chunkedWriter.flush();
+                } catch (IOException flushError) {
+                    e.addSuppressed(flushError);
+                }
+            } else {
+                LOG.error("Error processing Freemarker result!", e);
+            }
+            throw e;
+        } finally {
+            req.removeAttribute(PARENT_CHUNKED_WRITER);
+        }
+    }
+
     /**
      * <p>
      * This method is called from {@link #doExecute(String, ActionInvocation)} to obtain the
@@ -363,4 +414,93 @@ public class FreemarkerResult extends StrutsResultSupport {
     public void setWriteIfCompleted(Boolean writeIfCompleted) {
         this.writeIfCompleted = writeIfCompleted;
     }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * @param chunkSize number of characters rendered before the output is sent to the client, 0 (the default)
+     *                  disables streaming. A template nested in a buffered template is always buffered.
+     * @since 7.0.0
+     */
+    public void setChunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Collects the output up to the chunk size, then writes it to the underlying writer and flushes it.
+     */
+    private static final class ChunkedWriter extends Writer {
+
+        private final Writer out;
+        private final char[] buffer;
+        private int count;
+        private boolean sent;
+
+        ChunkedWriter(Writer out, int chunkSize) {
+            this.out = out;
+            this.buffer = new char[chunkSize];
+        }
+
+        boolean isSent() {
+            return sent;
+        }
+
+        @Override
+        public void write(int c) throws IOException {
+            if (count == buffer.length) {
+                flush();
+            }
+            buffer[count++] = (char) c;
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) throws IOException {
+            while (len > 0) {
+                int n = Math.min(len, buffer.length - count);
+                System.arraycopy(cbuf, off, buffer, count, n);
+                count += n;
+                off += n;
+                len -= n;
+                if (count == buffer.length) {
+                    flush();
+                }
+            }
+        }
+
+        @Override
+        public void write(String str, int off, int len) throws IOException {
+            while (len > 0) {
+                int n = Math.min(len, buffer.length - count);
+                str.getChars(off, off + n, buffer, count);
+                count += n;
+                off += n;
+                len -= n;
+                if (count == buffer.length) {
+                    flush();
+                }
+            }
+        }
+
+        /**
+         * Sends the buffered output, the underlying writer isn't flushed when nothing is buffered as that would commit
+         * the response before anything was sent.
+         */
+        @Override
+        public void flush() throws IOException {
+            if (count > 0) {
+                sent = true;
+                out.write(buffer, 0, count);
+                count = 0;
+                out.flush();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            // the response writer is closed by the container
+            flush();
+        }
+    }
 }
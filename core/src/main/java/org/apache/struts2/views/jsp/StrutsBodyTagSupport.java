@@ -53,6 +53,9 @@ public class StrutsBodyTagSupport extends BodyTagSupport {
     }
 
     protected Object findValue(String expr, Class<?> toType) {
+        if (ComponentUtils.isLiteral(expr, toType)) {
+            return ComponentUtils.toLiteral(expr, toType);
+        }
         if (toType == String.class) {
             return TextParseUtil.translateVariables('%', expr, getStack());
         } else {
@@ -24,6 +24,7 @@ import org.apache.struts2.config.entities.InterceptorMapping;
 import org.apache.struts2.config.entities.ResultConfig;
 import org.apache.struts2.config.providers.XmlConfigurationProvider;
 import org.apache.struts2.dispatcher.HttpParameters;
+import org.apache.struts2.interceptor.AbstractInterceptor;
 import org.apache.struts2.interceptor.Interceptor;
 import org.apache.struts2.mock.MockActionProxy;
 import org.apache.struts2.mock.MockInterceptor;
@@ -35,7 +36,9 @@ import org.apache.struts2.util.ValueStackFactory;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Callable;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
@@ -482,6 +485,52 @@ public class DefaultActionInvocationTest extends XWorkTestCase {
         assertEquals("exceptionHandled", result);
     }
 
+    public void testActionTimingListener() throws Exception {
+        List<InterceptorMapping> interceptorMappings = new ArrayList<>();
+        interceptorMappings.add(new InterceptorMapping("outer", new AbstractInterceptor() {
+            @Override
+            public String intercept(ActionInvocation invocation) throws Exception {
+                Thread.sleep(50);
+                return invocation.invoke();
+            }
+        }));
+        interceptorMappings.add(new InterceptorMapping("inner", new AbstractInterceptor() {
+            @Override
+            public String intercept(ActionInvocation invocation) throws Exception {
+                return invocation.invoke();
+            }
+        }));
+
+        DefaultActionInvocation defaultActionInvocation = new DefaultActionInvocationTester(interceptorMappings);
+        container.inject(defaultActionInvocation);
+        defaultActionInvocation.stack = container.getInstance(ValueStackFactory.class).createValueStack();
+        Map<String, Long> timings = new LinkedHashMap<>();
+        defaultActionInvocation.setActionTimingListener(new ActionTimingListener() {
+            @Override
+            public void interceptorExecuted(ActionInvocation invocation, String interceptorName, long nanos) {
+                timings.put(interceptorName, nanos);
+            }
+
+            @Override
+            public void actionExecuted(ActionInvocation invocation, long nanos) {
+                timings.put("action", nanos);
+            }
+
+            @Override
+            public void resultExecuted(ActionInvocation invocation, String resultCode, long nanos) {
+                timings.put("result:" + resultCode, nanos);
+            }
+        });
+
+        defaultActionInvocation.invoke();
+
+        // then
+        assertEquals(List.of("action", "inner", "outer"), new ArrayList<>(timings.keySet()));
+        // only the time spent in the interceptor itself is reported
+        assertTrue(timings.get("outer") >= TimeUnit.MILLISECONDS.toNanos(50));
+        assertTrue(timings.get("inner") < TimeUnit.MILLISECONDS.toNanos(50));
+    }
+
     public void testActionChainResult() throws Exception {
         ActionProxy actionProxy = actionProxyFactory.createActionProxy("", "Foo", null, new HashMap<>());
         DefaultActionInvocation defaultActionInvocation = (DefaultActionInvocation) actionProxy.getInvocation();
@@ -31,6 +31,7 @@ import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.mock.web.MockHttpSession;
 
+import java.io.StringWriter;
 import java.util.Collections;
 import java.util.Map;
 
@@ -454,4 +455,127 @@ public class UIBeanTest extends StrutsInternalTestCase {
         assertNull(bean.name);
     }
 
+    public void testLazyParametersAreEvaluatedWhenRead() {
+        ValueStack stack = ActionContext.getContext().getValueStack();
+        MockHttpServletRequest req = new MockHttpServletRequest();
+        MockHttpServletResponse res = new MockHttpServletResponse();
+        ActionContext.getContext().withServletRequest(req);
+        Counter counter = new Counter();
+        stack.push(counter);
+
+        TextField txtFld = new TextField(stack, req, res);
+        txtFld.setLazyParameters("true");
+        txtFld.setCssClass("%{next()}");
+        txtFld.setTitle("%{nothing}");
+        txtFld.setDisabled("true");
+        txtFld.evaluateParams();
+
+        assertEquals(0, counter.count);
+        assertEquals("1", txtFld.getAttributes().get("cssClass"));
+        assertEquals("1", txtFld.getAttributes().get("cssClass"));
+        assertTrue(txtFld.getAttributes().containsKey("cssClass"));
+        assertEquals(1, counter.count);
+
+        assertEquals(Boolean.TRUE, txtFld.getAttributes().get("disabled"));
+        assertEquals("", txtFld.getAttributes().get("title"));
+
+        txtFld.addLazyParameter("nothing", counter::getNothing);
+        assertFalse(txtFld.getAttributes().containsKey("nothing"));
+        txtFld.addLazyParameter("nothing", counter::getNothing);
+        assertFalse(txtFld.getAttributes().containsValue(null));
+        assertFalse(txtFld.getAttributes().keySet().contains("nothing"));
+    }
+
+    public void testLazyParametersResolveAllEntries() {
+        ValueStack stack = ActionContext.getContext().getValueStack();
+        MockHttpServletRequest req = new MockHttpServletRequest();
+        MockHttpServletResponse res = new MockHttpServletResponse();
+        ActionContext.getContext().withServletRequest(req);
+
+        TextField eager = new TextField(stack, req, res);
+        TextField lazy = new TextField(stack, req, res);
+        lazy.setLazyParameters("true");
+        for (TextField txtFld : new TextField[]{eager, lazy}) {
+            txtFld.setName("foo");
+            txtFld.setKey("foo.label");
+            txtFld.setAccesskey("%{'a' + 'k'}");
+            txtFld.setRequiredLabel("%{true}");
+            txtFld.setOnclick("alert()");
+            txtFld.evaluateParams();
+        }
+
+        assertEquals("foo.label", lazy.getAttributes().get("label"));
+        assertEquals(eager.getAttributes(), lazy.getAttributes());
+        assertEquals(eager.getAttributes().keySet(), lazy.getAttributes().keySet());
+    }
+
+    public void testLazyParametersAreEvaluatedAgainstTheStackOfTheTag() {
+        ValueStack stack = ActionContext.getContext().getValueStack();
+        MockHttpServletRequest req = new MockHttpServletRequest();
+        MockHttpServletResponse res = new MockHttpServletResponse();
+        ActionContext.getContext()
+                .withServletRequest(req)
+                .withServletResponse(res)
+                .withServletContext(servletContext);
+        stack.push(new Item("42"));
+
+        TextField txtFld = new TextField(stack, req, res);
+        container.inject(txtFld);
+        txtFld.setLazyParameters("true");
+        txtFld.setId("field");
+        txtFld.setName("item");
+        txtFld.setOnclick("edit(%{id})");
+        txtFld.setTitle("Item %{id}");
+
+        // the tag is pushed onto the stack while its template is rendered
+        StringWriter writer = new StringWriter();
+        txtFld.start(writer);
+        txtFld.end(writer, "");
+
+        assertTrue(writer.toString(), writer.toString().contains("onclick=\"edit(42)\""));
+        assertTrue(writer.toString(), writer.toString().contains("title=\"Item 42\""));
+        assertTrue(stack.peek() instanceof Item);
+    }
+
+    public void testParametersAreEagerByDefault() {
+        ValueStack stack = ActionContext.getContext().getValueStack();
+        MockHttpServletRequest req = new MockHttpServletRequest();
+        MockHttpServletResponse res = new MockHttpServletResponse();
+        ActionContext.getContext().withServletRequest(req);
+        Counter counter = new Counter();
+        stack.push(counter);
+
+        TextField txtFld = new TextField(stack, req, res);
+        container.inject(txtFld);
+        txtFld.setCssClass("%{next()}");
+        txtFld.evaluateParams();
+
+        assertEquals(1, counter.count);
+        assertEquals("1", txtFld.getAttributes().get("cssClass"));
+    }
+
+    public static class Item {
+        private final String id;
+
+        public Item(String id) {
+            this.id = id;
+        }
+
+        public String getId() {
+            return id;
+        }
+    }
+
+    public static class Counter {
+        private int count;
+
+        public int next() {
+            return ++count;
+        }
+
+        public String getNothing() {
+            return null;
+        }
+    }
+
 }
@@ -0,0 +1,192 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.components.template;
+
+import freemarker.cache.StringTemplateLoader;
+import freemarker.template.Configuration;
+import freemarker.template.ObjectWrapper;
+import freemarker.template.TemplateNotFoundException;
+import jakarta.servlet.ServletContext;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.apache.struts2.ActionContext;
+import org.apache.struts2.ServletActionContext;
+import org.apache.struts2.StrutsInternalTestCase;
+import org.apache.struts2.components.TextField;
+import org.apache.struts2.util.ValueStack;
+import org.apache.struts2.util.ValueStackFactory;
+import org.apache.struts2.views.freemarker.FreemarkerManager;
+import org.apache.struts2.views.freemarker.ScopesHashModel;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.StringWriter;
+import java.util.Map;
+import java.util.Properties;
+
+public class FreemarkerTemplateEngineTest extends StrutsInternalTestCase {
+
+    private CountingTemplateLoader loader;
+    private int modelBuilds;
+    private FreemarkerTemplateEngine engine;
+
+    public void testResolvedTemplateIsRemembered() throws Exception {
+        assertEquals("simple text", render(new Template("template", "css_xhtml", "text")));
+        assertEquals(3, loader.lookups);
+
+        loader.lookups = 0;
+        assertEquals("simple text", render(new Template("template", "css_xhtml", "text")));
+        assertEquals(1, loader.lookups);
+
+        loader.lookups = 0;
+        assertEquals("xhtml checkbox", render(new Template("template", "css_xhtml", "checkbox")));
+        assertEquals(2, loader.lookups);
+    }
+
+    public void testMissingTemplateIsRemembered() throws Exception {
+        assertNotFound(new Template("template", "css_xhtml", "missing"));
+        assertEquals(3, loader.lookups);
+
+        loader.lookups = 0;
+        assertNotFound(new Template("template", "css_xhtml", "missing"));
+        assertEquals(0, loader.lookups);
+    }
+
+    public void testNotRememberedInDevMode() throws Exception {
+        engine.setDevMode("true");
+
+        assertEquals("simple text", render(new Template("template", "css_xhtml", "text")));
+        loader.lookups = 0;
+        assertEquals("simple text", render(new Template("template", "css_xhtml", "text")));
+        assertEquals(3, loader.lookups);
+    }
+
+    public void testNotRememberedWhenDisabled() throws Exception {
+        engine.setTemplateResolutionCacheMaxSize("0");
+
+        assertEquals("simple text", render(new Template("template", "css_xhtml", "text")));
+        loader.lookups = 0;
+        assertEquals("simple text", render(new Template("template", "css_xhtml", "text")));
+        assertEquals(3, loader.lookups);
+    }
+
+    public void testTagModelIsReusedWithinRequest() throws Exception {
+        ValueStack stack = ActionContext.getContext().getValueStack();
+        Template template = new Template("template", "simple", "attributes");
+
+        assertEquals("first: bar", render(template, stack, Map.of("name", "first", "foo", "bar")));
+        assertEquals("second: baz", render(template, stack, Map.of("name", "second", "foo", "baz")));
+        assertEquals(1, modelBuilds);
+
+        // a new session requires a new model
+        ServletActionContext.getRequest().getSession(true);
+        assertEquals("third: qux", render(template, stack, Map.of("name", "third", "foo", "qux")));
+        assertEquals(2, modelBuilds);
+    }
+
+    public void testTagModelIsNotReusedWhenDisabled() throws Exception {
+        engine.setReuseTagModel("false");
+        ValueStack stack = ActionContext.getContext().getValueStack();
+        Template template = new Template("template", "simple", "attributes");
+
+        assertEquals("first: bar", render(template, stack, Map.of("name", "first", "foo", "bar")));
+        assertEquals("second: baz", render(template, stack, Map.of("name", "second", "foo", "baz")));
+        assertEquals(2, modelBuilds);
+    }
+
+    private String render(Template template) throws Exception {
+        return render(template, container.getInstance(ValueStackFactory.class).createValueStack(), Map.of());
+    }
+
+    private String render(Template template, ValueStack stack, Map<String, Object> attributes) throws Exception {
+        TextField tag = new TextField(stack, new MockHttpServletRequest(), new MockHttpServletResponse());
+        tag.getAttributes().putAll(attributes);
+        StringWriter writer = new StringWriter();
+        engine.renderTemplate(new TemplateRenderingContext(template, writer, stack, tag.getAttributes(), tag));
+        return writer.toString();
+    }
+
+    private void assertNotFound(Template template) throws Exception {
+        try {
+            render(template);
+            fail("Template " + template + " was found");
+        } catch (TemplateNotFoundException e) {
+            // expected
+        }
+    }
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        ActionContext.getContext()
+                .withServletRequest(new MockHttpServletRequest())
+                .withServletResponse(new MockHttpServletResponse());
+
+        loader = new CountingTemplateLoader();
+        loader.putTemplate("template/simple/text.ftl", "simple text");
+        loader.putTemplate("template/simple/checkbox.ftl", "simple checkbox");
+        loader.putTemplate("template/xhtml/checkbox.ftl", "xhtml checkbox");
+        loader.putTemplate("template/simple/attributes.ftl", "${tag.attributes.name}: ${attributes.foo}");
+
+        Configuration configuration = new Configuration(Configuration.VERSION_2_3_33);
+        configuration.setTemplateLoader(loader);
+        // checks the template loader once per lookup
+        configuration.setTemplateUpdateDelayMilliseconds(0);
+        configuration.setLocalizedLookup(false);
+
+        engine = new FreemarkerTemplateEngine() {
+            private final Map<String, String> parents = Map.of("css_xhtml", "xhtml", "xhtml", "simple");
+
+            @Override
+            public Map getThemeProps(Template template) {
+                Properties props = new Properties();
+                if (parents.containsKey(template.getTheme())) {
+                    props.setProperty("parent", parents.get(template.getTheme()));
+                }
+                return props;
+            }
+        };
+        engine.setFreemarkerManager(new FreemarkerManager() {
+            @Override
+            public synchronized Configuration getConfiguration(ServletContext servletContext) {
+                return configuration;
+            }
+
+            @Override
+            public ScopesHashModel buildTemplateModel(ValueStack stack, Object action, ServletContext servletContext,
+                                                      HttpServletRequest request, HttpServletResponse response,
+                                                      ObjectWrapper wrapper) {
+                modelBuilds++;
+                return new ScopesHashModel(wrapper, servletContext, request, stack);
+            }
+        });
+        engine.setTemplateResolutionCacheMaxSize("100");
+    }
+
+    private static class CountingTemplateLoader extends StringTemplateLoader {
+
+        int lookups;
+
+        @Override
+        public Object findTemplateSource(String name) {
+            lookups++;
+            return super.findTemplateSource(name);
+        }
+    }
+}
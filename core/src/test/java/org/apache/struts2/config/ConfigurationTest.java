@@ -25,6 +25,7 @@ import org.apache.struts2.ActionProxy;
 import org.apache.struts2.SimpleAction;
 import org.apache.struts2.XWorkTestCase;
 import org.apache.struts2.config.entities.ActionConfig;
+import org.apache.struts2.config.entities.PackageConfig;
 import org.apache.struts2.config.providers.MockConfigurationProvider;
 import org.apache.struts2.config.providers.XmlConfigurationProvider;
 import org.apache.struts2.inject.ContainerBuilder;
@@ -115,6 +116,58 @@ public class ConfigurationTest extends XWorkTestCase {
         assertEquals("Wrong parameter, " + p.get("1"), "dog", p.get("1"));
     }
 
+    public void testWildcardActionConfigIsCached() {
+        RuntimeConfiguration configuration = configurationManager.getConfiguration().getRuntimeConfiguration();
+
+        ActionConfig config = configuration.getActionConfig("", "WildCard/Simple/input");
+        assertSame(config, configuration.getActionConfig("", "WildCard/Simple/input"));
+        assertSame(config, configuration.getActionConfig(null, "WildCard/Simple/input"));
+        assertEquals(2, configuration.getActionConfigCacheHits());
+        assertEquals(1, configuration.getActionConfigCacheMisses());
+
+        ActionConfig other = configuration.getActionConfig("", "WildCard/Simple/execute");
+        assertNotSame(config, other);
+        assertEquals("execute", other.getMethodName());
+        assertEquals(2, configuration.getActionConfigCacheMisses());
+
+        // exact names are not cached
+        assertNotNull(configuration.getActionConfig("includeTest", "Foo"));
+        assertEquals(2, configuration.getActionConfigCacheHits());
+        assertEquals(2, configuration.getActionConfigCacheMisses());
+
+        configurationManager.getConfiguration().rebuildRuntimeConfiguration();
+        RuntimeConfiguration rebuilt = configurationManager.getConfiguration().getRuntimeConfiguration();
+        assertNotSame(config, rebuilt.getActionConfig("", "WildCard/Simple/input"));
+        assertEquals(0, rebuilt.getActionConfigCacheHits());
+        assertEquals(1, rebuilt.getActionConfigCacheMisses());
+    }
+
+    public void testWildcardActionConfigCacheDisabled() {
+        setStrutsConstant(StrutsConstants.STRUTS_ACTION_CONFIG_CACHE_MAXSIZE, "0");
+        RuntimeConfiguration configuration = configurationManager.getConfiguration().getRuntimeConfiguration();
+
+        ActionConfig config = configuration.getActionConfig("", "WildCard/Simple/input");
+        assertNotSame(config, configuration.getActionConfig("", "WildCard/Simple/input"));
+        assertEquals(0, configuration.getActionConfigCacheHits());
+        assertEquals(0, configuration.getActionConfigCacheMisses());
+    }
+
+    public void testPackageRoutes() {
+        Configuration configuration = configurationManager.getConfiguration();
+        NamespaceRoutes<PackageConfig> routes = configuration.getRuntimeConfiguration().getPackageRoutes();
+
+        Map<String, PackageConfig> expected = new HashMap<>();
+        for (PackageConfig packageConfig : configuration.getPackageConfigs().values()) {
+            expected.putIfAbsent(packageConfig.getNamespace(), packageConfig);
+        }
+        assertFalse(expected.isEmpty());
+        for (Map.Entry<String, PackageConfig> entry : expected.entrySet()) {
+            assertSame(entry.getKey(), entry.getValue(), routes.get(entry.getKey()));
+            assertSame(entry.getKey(), entry.getValue(), routes.findLongestPrefix(entry.getKey() + "/index", entry.getKey().length()));
+        }
+        assertNull(routes.get("/no/such/namespace"));
+    }
+
     public void testGlobalResults() {
         try {
             ActionProxy proxy = actionProxyFactory.createActionProxy("", "Foo", null, null);
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.config;
+
+import junit.framework.TestCase;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class NamespaceRoutesTest extends TestCase {
+
+    private NamespaceRoutes<String> routes;
+
+    public void testGet() {
+        assertEquals("empty", routes.get(""));
+        assertEquals("root", routes.get("/"));
+        assertEquals("foo", routes.get("/foo"));
+        assertEquals("foobar", routes.get("/foobar"));
+        assertEquals("foo/bar", routes.get("/foo/bar"));
+        assertEquals("fo", routes.get("/fo"));
+
+        assertNull(routes.get("/f"));
+        assertNull(routes.get("/foo/"));
+        assertNull(routes.get("/foo/ba"));
+        assertNull(routes.get("/foo/bar/baz"));
+        assertNull(routes.get("/other"));
+    }
+
+    public void testFindLongestPrefix() {
+        assertEquals("foo/bar", findLongestPrefix("/foo/bar/index"));
+        assertEquals("foo/bar", findLongestPrefix("/foo/bar/baz/index"));
+        assertEquals("foo", findLongestPrefix("/foo/ba/index"));
+        assertEquals("foo", findLongestPrefix("/foo/barbaz/index"));
+        assertEquals("foobar", findLongestPrefix("/foobar/index"));
+        assertEquals("fo", findLongestPrefix("/fo/index"));
+        assertEquals("empty", findLongestPrefix("/f/index"));
+        assertEquals("empty", findLongestPrefix("/other/index"));
+        assertEquals("root", findLongestPrefix("//index"));
+        assertNull(findLongestPrefix("foo/index"));
+    }
+
+    public void testFindLongestPrefixWithoutEmptyNamespace() {
+        NamespaceRoutes<String> routes = new NamespaceRoutes<>(Map.of("/foo", "foo"));
+
+        assertEquals("foo", routes.findLongestPrefix("/foo/index", 4));
+        assertNull(routes.findLongestPrefix("/other/index", 6));
+        assertNull(routes.findLongestPrefix("/fo/index", 3));
+    }
+
+    public void testSameAsScanningNamespaces() {
+        String[] paths = {"/foo/bar/index", "/foo/ba/index", "/foobar/x/index", "/fo/index", "//index", "/a/b/c/index",
+            "/foo//index", "/foo/bar/"};
+        for (String path : paths) {
+            int end = path.lastIndexOf('/');
+            String expected = null;
+            String longest = null;
+            for (Map.Entry<String, String> route : namespaces().entrySet()) {
+                String ns = route.getKey();
+                if (path.substring(0, end).startsWith(ns) && (end == ns.length() || path.charAt(ns.length()) == '/')
+                    && (longest == null || ns.length() > longest.length())) {
+                    longest = ns;
+                    expected = route.getValue();
+                }
+            }
+            assertEquals(path, expected, routes.findLongestPrefix(path, end));
+        }
+    }
+
+    private String findLongestPrefix(String path) {
+        return routes.findLongestPrefix(path, path.lastIndexOf('/'));
+    }
+
+    private static Map<String, String> namespaces() {
+        Map<String, String> namespaces = new LinkedHashMap<>();
+        namespaces.put("/foo/bar", "foo/bar");
+        namespaces.put("/foobar", "foobar");
+        namespaces.put("/foo", "foo");
+        namespaces.put("", "empty");
+        namespaces.put("/", "root");
+        namespaces.put("/fo", "fo");
+        return namespaces;
+    }
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        routes = new NamespaceRoutes<>(namespaces());
+    }
+}
@@ -23,10 +23,13 @@ import org.apache.struts2.config.entities.ActionConfig;
 import org.apache.struts2.config.entities.ExceptionMappingConfig;
 import org.apache.struts2.config.entities.InterceptorMapping;
 import org.apache.struts2.config.entities.ResultConfig;
+import org.apache.struts2.util.NamedVariablePatternMatcher;
+import org.apache.struts2.util.PatternMatcher;
 import org.apache.struts2.util.WildcardHelper;
 import org.apache.struts2.util.RegexPatternMatcher;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 public class ActionConfigMatcherTest extends XWorkTestCase {
@@ -143,6 +146,87 @@ public class ActionConfigMatcherTest extends XWorkTestCase {
 
     }
 
+    public void testFrozenMatcherMatchesAsUnfrozen() {
+        configMap.put("*!*", configMap.get("bar/*/**"));
+        ActionConfigMatcher unfrozen = new ActionConfigMatcher(new WildcardHelper(), configMap, true);
+        ActionConfigMatcher frozen = new ActionConfigMatcher(new WildcardHelper(), configMap, true);
+        frozen.freeze();
+
+        String[] paths = {"foo/class/method", "foo/class", "bar/class/method/more", "class!method", "class",
+                "addEvent!start", "addEvent", "noWildcard", "test", "", "foo", "foo/", "bar/x/"};
+        for (String path : paths) {
+            ActionConfig expected = unfrozen.match(path);
+            ActionConfig actual = frozen.match(path);
+            if (expected == null) {
+                assertNull("Path [" + path + "] shouldn't be matched", actual);
+            } else {
+                assertNotNull("Path [" + path + "] should be matched", actual);
+                assertEquals(expected.getClassName(), actual.getClassName());
+                assertEquals(expected.getMethodName(), actual.getMethodName());
+                assertEquals(expected.getPackageName(), actual.getPackageName());
+                assertEquals(expected.getParams(), actual.getParams());
+            }
+        }
+    }
+
+    public void testFrozenMatcherKeepsPatternOrder() {
+        Map<String, ActionConfig> map = new LinkedHashMap<>();
+        map.put("user/*/list", new ActionConfig.Builder("package", "user/*/list", "ListAction").build());
+        map.put("*/*/*", new ActionConfig.Builder("package", "*/*/*", "{3}Action").build());
+        map.put("user/*/*", new ActionConfig.Builder("package", "user/*/*", "UserAction").build());
+        map.put("user/*", new ActionConfig.Builder("package", "user/*", "User{1}Action").build());
+
+        ActionConfigMatcher frozen = new ActionConfigMatcher(new WildcardHelper(), map, false);
+        frozen.freeze();
+
+        assertEquals("ListAction", frozen.match("user/admin/list").getClassName());
+        assertEquals("editAction", frozen.match("user/admin/edit").getClassName());
+        assertEquals("UseradminAction", frozen.match("user/admin").getClassName());
+        assertNull(frozen.match("users"));
+        assertNull(frozen.match("other"));
+    }
+
+    public void testFrozenRegexMatcherKeepsPatternOrder() {
+        Map<String, ActionConfig> map = new LinkedHashMap<>();
+        map.put("{id}/view", new ActionConfig.Builder("package", "{id}/view", "View{1}Action").build());
+        map.put("user/{id}", new ActionConfig.Builder("package", "user/{id}", "User{1}Action").build());
+        map.put("user.{id:[0-9]+}", new ActionConfig.Builder("package", "user.{id:[0-9]+}", "Dot{1}Action").build());
+
+        ActionConfigMatcher frozen = new ActionConfigMatcher(new RegexPatternMatcher(), map, false);
+        frozen.freeze();
+
+        assertEquals("Viewuser/1Action", frozen.match("user/1/view").getClassName());
+        assertEquals("User1Action", frozen.match("user/1").getClassName());
+        assertEquals("Dot1Action", frozen.match("user.1").getClassName());
+        assertEquals("regex metacharacters are not part of the prefix", "Dot1Action", frozen.match("userX1").getClassName());
+        assertNull(frozen.match("admin"));
+    }
+
+    public void testFrozenMatcherMatchesAsUnfrozenWithQuantifiers() {
+        String[] paths = {"user/5", "users/5", "user", "users", "use/5", "usr/5", "userss/5", "admin/5", "user?/5",
+                "user*/5", "a/5", "b/5", "ab/5", "userrr/5"};
+
+        assertFrozenMatchesAsUnfrozen(new RegexPatternMatcher(), paths,
+                "users?/{id}", "user*/{id}", "users{0,2}/{id}", "a/{id}|b/{id}", "(ab)?/{id}", "users+/{id}");
+        assertFrozenMatchesAsUnfrozen(new WildcardHelper(), paths, "users?/*", "user*/*", "use*/*");
+        assertFrozenMatchesAsUnfrozen(new NamedVariablePatternMatcher(), paths, "users?/{id}", "user*/{id}", "user/{id}");
+    }
+
+    private void assertFrozenMatchesAsUnfrozen(PatternMatcher<?> patternMatcher, String[] paths, String... patterns) {
+        for (String pattern : patterns) {
+            Map<String, ActionConfig> map = new LinkedHashMap<>();
+            map.put(pattern, new ActionConfig.Builder("package", pattern, "Action").build());
+            ActionConfigMatcher unfrozen = new ActionConfigMatcher(patternMatcher, map, false);
+            ActionConfigMatcher frozen = new ActionConfigMatcher(patternMatcher, map, false);
+            frozen.freeze();
+
+            for (String path : paths) {
+                assertEquals("Pattern [" + pattern + "] and path [" + path + "]",
+                        unfrozen.match(path) != null, frozen.match(path) != null);
+            }
+        }
+    }
+
     /**
      * Test to make sure the {@link AbstractMatcher#replaceParameters(Map, Map)} method isn't adding values to the
      * return value.
@@ -47,6 +47,10 @@ import java.text.DateFormat;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.junit.Assert.assertArrayEquals;
 
@@ -505,6 +509,40 @@ public class XWorkConverterTest extends XWorkTestCase {
         assertEquals("blah", bar.getTitle());
     }
 
+    public void testConverterMappingIsBuiltOnceUnderConcurrentLookups() throws Exception {
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Object>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return converter.getConverter(Cat.class, "foo.number");
+                }));
+            }
+            start.countDown();
+
+            Object expected = results.get(0).get();
+            assertTrue(expected instanceof FooNumberConverter);
+            for (Future<Object> result : results) {
+                assertSame(expected, result.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertTrue(converter.getConverterMappingBuildTimes().containsKey(Cat.class));
+        assertNull(converter.getConverter(Cat.class, "unknown"));
+    }
+
+    public void testConverterMappingBuildTimeOfClassWithoutMapping() {
+        assertNull(converter.getConverter(StringBuilder.class, "length"));
+        assertTrue(converter.getConverterMappingBuildTimes().containsKey(StringBuilder.class));
+
+        assertNull(converter.getConverter(StringBuilder.class, "length"));
+    }
+
     public void testStringToPrimitiveWrappers() {
         assertEquals(123L, converter.convertValue(context, null, null, null, "123", Long.class));
         assertEquals(123, converter.convertValue(context, null, null, null, "123", Integer.class));
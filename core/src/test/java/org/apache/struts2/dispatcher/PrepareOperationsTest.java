@@ -21,11 +21,17 @@ package org.apache.struts2.dispatcher;
 import org.apache.struts2.ActionContext;
 import org.apache.struts2.StubValueStack;
 import org.apache.struts2.ServletActionContext;
+import org.apache.struts2.StrutsConstants;
 import org.apache.struts2.StrutsInternalTestCase;
+import org.apache.struts2.mock.MockActionInvocation;
+import org.apache.struts2.util.InvocationSessionStore;
+import org.apache.struts2.util.ValueStack;
 import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpSession;
 
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
+import java.util.Map;
 import java.util.stream.IntStream;
 
 public class PrepareOperationsTest extends StrutsInternalTestCase {
@@ -81,4 +87,94 @@ public class PrepareOperationsTest extends StrutsInternalTestCase {
         // Assert org.apache.struts2.dispatcher.Dispatcher#cleanUpRequest has run after final #cleanupWrappedRequest
         assertNull(ContainerHolder.get());
     }
+
+    public void testValueStacksAreNotRecycledByDefault() {
+        PrepareOperations prepare = new PrepareOperations(dispatcher);
+        ActionContext.clear();
+
+        ValueStack first = createAndCleanupActionContext(prepare, new MockHttpServletRequest());
+        ValueStack second = createAndCleanupActionContext(prepare, new MockHttpServletRequest());
+
+        assertNotSame(first, second);
+    }
+
+    public void testRecycleValueStacks() {
+        initDispatcher(Map.of(StrutsConstants.STRUTS_OGNL_RECYCLE_VALUE_STACKS, "true"));
+        PrepareOperations prepare = new PrepareOperations(dispatcher);
+        ActionContext.clear();
+
+        HttpServletRequest req = new MockHttpServletRequest();
+        prepare.trackRecursion(req);
+        ValueStack first = prepare.createActionContext(req, null).getValueStack();
+        first.push(new Object());
+        first.getContext().put("foo", "bar");
+        int initialRootSize = first.getRoot().size() - 1;
+        prepare.cleanupRequest(req);
+
+        req = new MockHttpServletRequest();
+        prepare.trackRecursion(req);
+        ValueStack second = prepare.createActionContext(req, null).getValueStack();
+
+        assertSame(first, second);
+        assertEquals(initialRootSize, second.getRoot().size());
+        assertNull(second.getContext().get("foo"));
+        assertSame(second, second.getActionContext().getValueStack());
+        assertSame(second.getContext(), ActionContext.getContext().getContextMap());
+        prepare.cleanupRequest(req);
+    }
+
+    public void testValueStacksOfAsyncRequestAreNotRecycled() {
+        initDispatcher(Map.of(StrutsConstants.STRUTS_OGNL_RECYCLE_VALUE_STACKS, "true"));
+        PrepareOperations prepare = new PrepareOperations(dispatcher);
+        ActionContext.clear();
+
+        MockHttpServletRequest req = new MockHttpServletRequest();
+        req.setAsyncSupported(true);
+        prepare.trackRecursion(req);
+        ValueStack first = prepare.createActionContext(req, null).getValueStack();
+        req.startAsync();
+        prepare.cleanupRequest(req);
+
+        assertNotSame(first, createAndCleanupActionContext(prepare, new MockHttpServletRequest()));
+    }
+
+    public void testRetainedValueStacksAreNotRecycled() {
+        initDispatcher(Map.of(StrutsConstants.STRUTS_OGNL_RECYCLE_VALUE_STACKS, "true"));
+        PrepareOperations prepare = new PrepareOperations(dispatcher);
+        ActionContext.clear();
+
+        HttpServletRequest req = new MockHttpServletRequest();
+        prepare.trackRecursion(req);
+        ValueStack first = prepare.createActionContext(req, null).getValueStack();
+        dispatcher.getValueStackFactory().retainValueStack(first);
+        prepare.cleanupRequest(req);
+
+        assertNotSame(first, createAndCleanupActionContext(prepare, new MockHttpServletRequest()));
+    }
+
+    public void testValueStacksOfStoredInvocationsAreNotRecycled() {
+        initDispatcher(Map.of(StrutsConstants.STRUTS_OGNL_RECYCLE_VALUE_STACKS, "true"));
+        PrepareOperations prepare = new PrepareOperations(dispatcher);
+        ActionContext.clear();
+
+        MockHttpServletRequest req = new MockHttpServletRequest();
+        req.setSession(new MockHttpSession());
+        prepare.trackRecursion(req);
+        ValueStack first = prepare.createActionContext(req, null).getValueStack();
+        first.getContext().put("foo", "bar");
+        MockActionInvocation invocation = new MockActionInvocation();
+        invocation.setStack(first);
+        InvocationSessionStore.storeInvocation("key", "token", invocation);
+        prepare.cleanupRequest(req);
+
+        assertNotSame(first, createAndCleanupActionContext(prepare, new MockHttpServletRequest()));
+        assertEquals("bar", first.getContext().get("foo"));
+    }
+
+    private ValueStack createAndCleanupActionContext(PrepareOperations prepare, HttpServletRequest req) {
+        prepare.trackRecursion(req);
+        ValueStack stack = prepare.createActionContext(req, null).getValueStack();
+        prepare.cleanupRequest(req);
+        return stack;
+    }
 }
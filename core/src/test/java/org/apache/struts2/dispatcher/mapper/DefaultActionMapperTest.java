@@ -22,6 +22,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.regex.Pattern;
 
 import org.apache.struts2.ServletActionContext;
 import org.apache.struts2.StrutsInternalTestCase;
@@ -346,6 +347,27 @@ public class DefaultActionMapperTest extends StrutsInternalTestCase {
     // === test name & namespace ===
     // =============================
 
+    public void testParseNameAndNamespaceWithPackageRoutes() {
+        Configuration configuration = configurationManager.getConfiguration();
+        assertNotNull(configuration.getRuntimeConfiguration().getPackageRoutes());
+
+        DefaultActionMapper mapper = new DefaultActionMapper();
+        for (PackageConfig packageConfig : configuration.getPackageConfigs().values()) {
+            String namespace = packageConfig.getNamespace();
+            if (namespace.length() > 1) {
+                ActionMapping mapping = new ActionMapping();
+                mapper.parseNameAndNamespace(namespace + "/unknown/someAction", mapping, configurationManager);
+                assertEquals(namespace, mapping.getNamespace());
+                assertEquals("someAction", mapping.getName());
+            }
+        }
+
+        ActionMapping mapping = new ActionMapping();
+        mapper.parseNameAndNamespace("/unknown/someAction", mapping, configurationManager);
+        assertEquals(configuration.getRuntimeConfiguration().getPackageRoutes().get("/") != null ? "/" : "",
+                mapping.getNamespace());
+    }
+
     public void testParseNameAndNamespace1() {
         ActionMapping actionMapping = new ActionMapping();
 
@@ -905,6 +927,25 @@ public class DefaultActionMapperTest extends StrutsInternalTestCase {
         assertEquals(mapper.defaultMethodName, mapper.cleanupMethodName("${#foo='method',#foo}"));
     }
 
+    public void testDefaultPatternsAreCheckedWithoutRegex() {
+        DefaultActionMapper mapper = new DefaultActionMapper();
+        // configuring the default patterns keeps them checked by the character table
+        mapper.setAllowedNamespaceNames("[a-zA-Z0-9._/\\-]*");
+        mapper.setAllowedActionNames("[a-zA-Z0-9._!/\\-]*");
+        mapper.setAllowedMethodNames("[a-zA-Z_]*[0-9]*");
+
+        Pattern namespaces = Pattern.compile("[a-zA-Z0-9._/\\-]*");
+        Pattern actions = Pattern.compile("[a-zA-Z0-9._!/\\-]*");
+        Pattern methods = Pattern.compile("[a-zA-Z_]*[0-9]*");
+        String[] names = {"", "/", "a", "Z9", "_x1", "x1y", "1x", "/ns/sub-1.0", "name!method", "a b", "a\u007f",
+            "\u00e9t\u00e9", "\u0660", "a\n", "name;jsessionid", "%{x}", "method_12", "Method__", "12"};
+        for (String name : names) {
+            assertEquals(name, namespaces.matcher(name).matches(), name.equals(mapper.cleanupNamespaceName(name)));
+            assertEquals(name, actions.matcher(name).matches(), name.equals(mapper.cleanupActionName(name)));
+            assertEquals(name, methods.matcher(name).matches(), name.equals(mapper.cleanupMethodName(name)));
+        }
+    }
+
     public void testTestAllowedNamespaceName() {
         // give
         DefaultActionMapper mapper = new DefaultActionMapper();
@@ -24,8 +24,12 @@ import org.apache.struts2.StrutsInternalTestCase;
 import org.apache.struts2.config.entities.ResultConfig;
 import org.apache.struts2.result.ParamNameAwareResult;
 import org.apache.struts2.result.Result;
+import org.apache.struts2.util.reflection.ReflectionException;
+import org.apache.struts2.util.reflection.ReflectionExceptionHandler;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 public class StrutsResultFactoryTest extends StrutsInternalTestCase {
@@ -48,6 +52,49 @@ public class StrutsResultFactoryTest extends StrutsInternalTestCase {
         assertEquals("ok", ((MyResult)result).getReject());
     }
 
+    public void testTypedParams() throws Exception {
+        // given
+        initDispatcherWithConfigs("struts-default.xml");
+        StrutsResultFactory builder = (StrutsResultFactory) container.getInstance(ResultFactory.class);
+
+        Map<String, String> params = new HashMap<>();
+        params.put("location", "/index.jsp");
+        params.put("enabled", "true");
+        params.put("wrapped", "false");
+        params.put("size", "42");
+        ResultConfig config = new ResultConfig.Builder("struts", TypedResult.class.getName()).addParams(params).build();
+
+        for (int i = 0; i < 2; i++) {
+            // when
+            TypedResult result = (TypedResult) builder.buildResult(config, ActionContext.getContext().getContextMap());
+
+            // then
+            assertEquals("/index.jsp", result.location);
+            assertTrue(result.enabled);
+            assertEquals(Boolean.FALSE, result.wrapped);
+            assertEquals(42, result.size);
+        }
+    }
+
+    public void testFailingParamIsReported() throws Exception {
+        // given
+        initDispatcherWithConfigs("struts-default.xml");
+        StrutsResultFactory builder = (StrutsResultFactory) container.getInstance(ResultFactory.class);
+
+        Map<String, String> params = new HashMap<>();
+        params.put("location", "invalid");
+        params.put("missing", "value");
+        ResultConfig config = new ResultConfig.Builder("struts", TypedResult.class.getName()).addParams(params).build();
+
+        // when
+        TypedResult result = (TypedResult) builder.buildResult(config, ActionContext.getContext().getContextMap());
+
+        // then
+        assertEquals(2, result.failures.size());
+        assertTrue(result.failures.get(0) instanceof ReflectionException);
+        assertTrue(result.failures.get(1) instanceof ReflectionException);
+    }
+
     public void testUseCustomResultBuilder() throws Exception {
         // given
         initDispatcherWithConfigs("struts-default.xml,struts-object-factory-result-builder.xml");
@@ -59,6 +106,41 @@ public class StrutsResultFactoryTest extends StrutsInternalTestCase {
         assertTrue(actual instanceof MyResultFactory);
     }
 
+    public static class TypedResult implements Result, ReflectionExceptionHandler {
+
+        private String location;
+        private boolean enabled;
+        private Boolean wrapped;
+        private int size;
+        private final List<ReflectionException> failures = new ArrayList<>();
+
+        public void execute(ActionInvocation invocation) throws Exception {
+        }
+
+        public void setLocation(String location) {
+            if ("invalid".equals(location)) {
+                throw new IllegalArgumentException("Invalid location");
+            }
+            this.location = location;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public void setWrapped(Boolean wrapped) {
+            this.wrapped = wrapped;
+        }
+
+        public void setSize(int size) {
+            this.size = size;
+        }
+
+        public void handle(ReflectionException ex) {
+            failures.add(ex);
+        }
+    }
+
     public static class MyResult implements Result, ParamNameAwareResult {
 
         private String accept;
@@ -23,12 +23,14 @@ import org.apache.commons.lang3.SystemUtils;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.lang.reflect.InvocationTargetException;
 import java.security.Permission;
 import java.util.concurrent.Callable;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assume.assumeTrue;
@@ -180,6 +182,114 @@ public class ContainerImplTest {
         assertEquals(testScopeStrategy.wizardInitializable, initializableCheck3.getWizardInitializable());
     }
 
+    @Test
+    public void testSingletonsAreInjectedRepeatedly() throws Exception {
+        Initializable singleton = c.getInstance(Initializable.class);
+
+        for (int i = 0; i < 3; i++) {
+            InjectionCheck check = c.inject(InjectionCheck.class);
+            assertSame(singleton, check.constructorInitializable);
+            assertSame(singleton, check.fieldInitializable);
+            assertSame(singleton, check.methodInitializable);
+            assertEquals("Lukasz", check.name);
+        }
+
+        InjectionCheck first = c.inject(InjectionCheck.class);
+        InjectionCheck second = c.inject(InjectionCheck.class);
+        assertNotSame("prototypes should being instantiated for each injection",
+                first.prototypeInitializable, second.prototypeInitializable);
+    }
+
+    @Test
+    public void testFailingInjectionMethod() throws Exception {
+        RuntimeException e = assertThrows(RuntimeException.class, () -> c.inject(new FailingMethodCheck()));
+        assertTrue(e.getCause() instanceof InvocationTargetException);
+        assertEquals("method failed", e.getCause().getCause().getMessage());
+    }
+
+    @Test
+    public void testFailingInjectionConstructor() throws Exception {
+        RuntimeException e = assertThrows(RuntimeException.class, () -> c.inject(FailingConstructorCheck.class));
+        Throwable cause = e.getCause().getCause();
+        assertTrue(cause instanceof InvocationTargetException);
+        assertEquals("constructor failed", cause.getCause().getMessage());
+    }
+
+    @Test
+    public void testCircularDependencyProxiesAreNotReused() throws Exception {
+        ContainerBuilder cb = new ContainerBuilder();
+        cb.factory(CircularDependency.class, CircularSingleton.class, Scope.SINGLETON);
+        cb.factory(CircularPrototype.class, CircularPrototype.class, Scope.PROTOTYPE);
+        Container container = cb.create(false);
+
+        CircularDependency singleton = container.getInstance(CircularDependency.class);
+        // the singleton is still being constructed when the prototype it depends on is created
+        assertNotSame(singleton, ((CircularSingleton) singleton).prototype.dependency);
+
+        for (int i = 0; i < 3; i++) {
+            assertSame(singleton, container.getInstance(CircularPrototype.class).dependency);
+        }
+    }
+
+    public interface CircularDependency {
+    }
+
+    public static class CircularSingleton implements CircularDependency {
+        private final CircularPrototype prototype;
+
+        @Inject
+        public CircularSingleton(CircularPrototype prototype) {
+            this.prototype = prototype;
+        }
+    }
+
+    public static class CircularPrototype {
+        private final CircularDependency dependency;
+
+        @Inject
+        public CircularPrototype(CircularDependency dependency) {
+            this.dependency = dependency;
+        }
+    }
+
+    public static class InjectionCheck {
+
+        private final Initializable constructorInitializable;
+        @Inject
+        private Initializable fieldInitializable;
+        @Inject("prototypeInitializable")
+        private Initializable prototypeInitializable;
+        @Inject("fieldCheck.name")
+        private String name;
+        private Initializable methodInitializable;
+
+        @Inject
+        public InjectionCheck(@Inject Initializable constructorInitializable) {
+            this.constructorInitializable = constructorInitializable;
+        }
+
+        @Inject
+        private void setMethodInitializable(Initializable methodInitializable) {
+            this.methodInitializable = methodInitializable;
+        }
+    }
+
+    public static class FailingMethodCheck {
+
+        @Inject
+        public void setInitializable(Initializable initializable) {
+            throw new IllegalStateException("method failed");
+        }
+    }
+
+    public static class FailingConstructorCheck {
+
+        @Inject
+        public FailingConstructorCheck(@Inject Initializable initializable) {
+            throw new IllegalStateException("constructor failed");
+        }
+    }
+
     public static class FieldCheck {
 
         @Inject("fieldCheck.name")
@@ -25,6 +25,7 @@ import org.apache.struts2.ActionSupport;
 import org.apache.struts2.mock.MockActionInvocation;
 import org.apache.struts2.security.DefaultAcceptedPatternsChecker;
 import org.apache.struts2.security.DefaultExcludedPatternsChecker;
+import org.apache.struts2.security.SinglePassNotExcludedAcceptedPatternsChecker;
 import jakarta.servlet.http.Cookie;
 import org.apache.struts2.ServletActionContext;
 import org.apache.struts2.StrutsInternalTestCase;
@@ -35,6 +36,7 @@ import org.springframework.mock.web.MockHttpServletRequest;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.easymock.EasyMock.createMock;
 import static org.easymock.EasyMock.expect;
@@ -453,6 +455,44 @@ public class CookieInterceptorTest extends StrutsInternalTestCase {
         assertFalse(excludedName.get(reqCookieName));
     }
 
+    public void testSinglePassChecksCookieNamesWithOwnPatterns() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(
+            new Cookie("cookie1", "value1"),
+            new Cookie("cookie2", "value2"),
+            new Cookie("session.userId", "1"),
+            new Cookie("cookie-3", "value3")
+        );
+        ServletActionContext.setRequest(request);
+
+        AtomicInteger acceptedChecks = new AtomicInteger();
+        DefaultAcceptedPatternsChecker acceptedPatternsChecker = new DefaultAcceptedPatternsChecker() {
+            @Override
+            public IsAccepted isAccepted(String value) {
+                acceptedChecks.incrementAndGet();
+                return super.isAccepted(value);
+            }
+        };
+        DefaultExcludedPatternsChecker excludedPatternsChecker = new DefaultExcludedPatternsChecker();
+        excludedPatternsChecker.setAdditionalExcludePatterns("cookie2");
+
+        CookieInterceptor interceptor = new CookieInterceptor();
+        interceptor.setNotExcludedAcceptedPatternsChecker(new SinglePassNotExcludedAcceptedPatternsChecker());
+        interceptor.setExcludedPatternsChecker(excludedPatternsChecker);
+        interceptor.setAcceptedPatternsChecker(acceptedPatternsChecker);
+        interceptor.setCookiesName("*");
+
+        MockActionWithCookieAware action = new MockActionWithCookieAware();
+        MockActionInvocation invocation = new MockActionInvocation();
+        invocation.setAction(action);
+
+        interceptor.intercept(invocation);
+
+        assertEquals(Collections.singletonMap("cookie1", "value1"), action.getCookiesMap());
+        // only the rejected names are checked again one pattern at a time
+        assertEquals(2, acceptedChecks.get());
+    }
+
     public static class MockActionWithCookieAware extends ActionSupport implements CookiesAware {
 
         private static final long serialVersionUID = -6202290616812813386L;
@@ -39,6 +39,7 @@ import org.apache.struts2.ognl.OgnlValueStackFactory;
 import org.apache.struts2.ognl.SecurityMemberAccess;
 import org.apache.struts2.ognl.accessor.CompoundRootAccessor;
 import org.apache.struts2.ognl.accessor.RootAccessor;
+import org.apache.struts2.security.SinglePassNotExcludedAcceptedPatternsChecker;
 import org.apache.struts2.util.ValueStack;
 import org.apache.struts2.util.ValueStackFactory;
 import org.apache.struts2.util.reflection.ReflectionContextState;
@@ -734,6 +735,38 @@ public class ParametersInterceptorTest extends XWorkTestCase {
         assertEquals(expected, actual);
     }
 
+    public void testSinglePassChecksParameterNamesWithOwnPatterns() throws Exception {
+        // given
+        ParametersInterceptor interceptor = createParametersInterceptor();
+        interceptor.setNotExcludedAcceptedPatterns(new SinglePassNotExcludedAcceptedPatternsChecker());
+        interceptor.setExcludeParams("dojo\\..*");
+        final Map<String, Object> actual = injectValueStackFactory(interceptor);
+        ValueStack stack = injectValueStack(actual);
+
+        final Map<String, Object> expected = new HashMap<String, Object>() {
+            {
+                put("ordinary.bean", "value");
+                put("fooKey", "fooValue");
+            }
+        };
+
+        Map<String, Object> parameters = new HashMap<String, Object>() {
+            {
+                put("ordinary.bean", "value");
+                put("fooKey", "fooValue");
+                put("dojo.test", "dojoValue");
+                put("#some.internal.object", "true");
+                put("(bla)#some.internal.object", "true");
+            }
+        };
+
+        // when
+        interceptor.applyParameters(new NoParametersAction(), stack, HttpParameters.create(parameters).build());
+
+        // then
+        assertEquals(expected, actual);
+    }
+
     public void testDMIMethodsAreIgnored() throws Exception {
         // given
         ParametersInterceptor interceptor = createParametersInterceptor();
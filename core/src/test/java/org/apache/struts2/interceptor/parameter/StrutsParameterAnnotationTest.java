@@ -276,6 +276,45 @@ public class StrutsParameterAnnotationTest {
         assertThat(threadAllowlist.getAllowlist()).containsExactlyInAnyOrderElementsOf(getParentClasses(Object.class, Pojo.class));
     }
 
+    @Test
+    public void acceptanceCache() {
+        parametersInterceptor.setAcceptanceCacheMaxSize("100");
+
+        testParameter(new FieldAction(), "publicPojoDepthOne.key", true);
+        threadAllowlist.clearAllowlist();
+
+        // allowlisting is replayed from the cached decision
+        testParameter(new FieldAction(), "publicPojoDepthOne.key", true);
+        assertThat(threadAllowlist.getAllowlist()).containsExactlyInAnyOrderElementsOf(getParentClasses(Pojo.class));
+        threadAllowlist.clearAllowlist();
+
+        testParameter(new FieldAction(), "publicPojoDepthZero.key", false);
+        testParameter(new FieldAction(), "publicPojoDepthZero.key", false);
+        testParameter(new MethodAction(), "publicPojoDepthOne.key", true);
+    }
+
+    @Test
+    public void acceptanceCacheKeepsPreviouslyAllowlistedClasses() {
+        parametersInterceptor.setAcceptanceCacheMaxSize("100");
+        threadAllowlist.allowClass(Integer.class);
+
+        testParameter(new FieldAction(), "publicPojoDepthOne.key", true);
+        testParameter(new FieldAction(), "publicPojoDepthOne.key", true);
+
+        Set<Class<?>> expected = getParentClasses(Pojo.class);
+        expected.add(Integer.class);
+        assertThat(threadAllowlist.getAllowlist()).containsExactlyInAnyOrderElementsOf(expected);
+    }
+
+    @Test
+    public void acceptanceCacheClearedOnTransitionMode() {
+        parametersInterceptor.setAcceptanceCacheMaxSize("100");
+        testParameter(new FieldAction(), "publicStrNotAnnotated", false);
+
+        parametersInterceptor.setRequireAnnotationsTransitionMode(Boolean.TRUE.toString());
+        testParameter(new FieldAction(), "publicStrNotAnnotated", true);
+    }
+
     static class FieldAction {
         @StrutsParameter
         private String privateStr;
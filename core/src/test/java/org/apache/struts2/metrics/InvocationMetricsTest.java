@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.metrics;
+
+import junit.framework.TestCase;
+import org.apache.struts2.config.entities.ActionConfig;
+import org.apache.struts2.mock.MockActionInvocation;
+import org.apache.struts2.mock.MockActionProxy;
+
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.Set;
+
+public class InvocationMetricsTest extends TestCase {
+
+    private InvocationMetrics metrics;
+
+    public void testRecordsLatencies() {
+        MockActionInvocation index = invocation("default", "index");
+        MockActionInvocation save = invocation("admin", "save");
+
+        metrics.interceptorExecuted(index, "params", 1_000_000);
+        metrics.interceptorExecuted(save, "params", 3_000_000);
+        metrics.interceptorExecuted(save, "validation", 2_000_000);
+        metrics.actionExecuted(index, 5_000_000);
+        metrics.resultExecuted(index, "success", 8_000_000);
+        metrics.resultExecuted(index, "input", 4_000_000);
+        metrics.actionExecuted(save, 6_000_000);
+
+        Map<String, LatencySnapshot> interceptors = metrics.getInterceptorLatencies();
+        assertEquals(Set.of("params", "validation"), interceptors.keySet());
+        assertEquals(2, interceptors.get("params").getCount());
+        assertEquals(2.0, interceptors.get("params").getMean(), 0.001);
+        assertEquals(3.0, interceptors.get("params").getMax(), 0.001);
+
+        Map<String, LatencySnapshot> actions = metrics.getActionLatencies();
+        assertEquals(Set.of("default/index", "admin/save"), actions.keySet());
+        assertEquals(1, actions.get("admin/save").getCount());
+        assertEquals(6.0, actions.get("admin/save").getMedian(), 6.0 / 16);
+
+        Map<String, LatencySnapshot> results = metrics.getResultLatencies();
+        assertEquals(Set.of("default/index:success", "default/index:input"), results.keySet());
+        assertEquals(8.0, results.get("default/index:success").getP99(), 8.0 / 16);
+    }
+
+    public void testReset() {
+        MockActionInvocation index = invocation("default", "index");
+        metrics.interceptorExecuted(index, "params", 1_000_000);
+        metrics.actionExecuted(index, 1_000_000);
+        metrics.resultExecuted(index, "success", 1_000_000);
+
+        metrics.reset();
+
+        assertTrue(metrics.getInterceptorLatencies().isEmpty());
+        assertTrue(metrics.getActionLatencies().isEmpty());
+        assertTrue(metrics.getResultLatencies().isEmpty());
+    }
+
+    public void testInvocationWithoutConfigIsIgnored() {
+        MockActionInvocation invocation = new MockActionInvocation();
+        invocation.setProxy(new MockActionProxy());
+
+        metrics.actionExecuted(invocation, 1_000_000);
+        metrics.resultExecuted(invocation, "success", 1_000_000);
+
+        assertTrue(metrics.getActionLatencies().isEmpty());
+        assertTrue(metrics.getResultLatencies().isEmpty());
+    }
+
+    public void testRegisterMBean() throws Exception {
+        metrics.actionExecuted(invocation("default", "index"), 1_000_000);
+
+        ObjectName name = metrics.registerMBean("/metrics-test");
+        assertNotNull(name);
+        try {
+            assertTrue(ManagementFactory.getPlatformMBeanServer().isRegistered(name));
+            assertNotNull(ManagementFactory.getPlatformMBeanServer().getAttribute(name, "ActionLatencies"));
+            assertNull(new InvocationMetrics().registerMBean("/metrics-test"));
+        } finally {
+            InvocationMetrics.unregisterMBean(name);
+        }
+        assertFalse(ManagementFactory.getPlatformMBeanServer().isRegistered(name));
+    }
+
+    private static MockActionInvocation invocation(String packageName, String actionName) {
+        MockActionProxy proxy = new MockActionProxy();
+        proxy.setConfig(new ActionConfig.Builder(packageName, actionName, "clazz").build());
+        MockActionInvocation invocation = new MockActionInvocation();
+        invocation.setProxy(proxy);
+        return invocation;
+    }
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        metrics = new InvocationMetrics();
+    }
+}
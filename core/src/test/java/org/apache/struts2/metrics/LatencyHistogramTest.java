@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.metrics;
+
+import junit.framework.TestCase;
+
+import java.util.Arrays;
+import java.util.Random;
+
+public class LatencyHistogramTest extends TestCase {
+
+    public void testBucketsCoverAllValues() {
+        int previous = -1;
+        for (long value = 0; value <= LatencyHistogram.MAX_VALUE; value = value < 1024 ? value + 1 : value + value / 7) {
+            int index = LatencyHistogram.bucketIndex(value);
+            assertTrue("bucket of " + value, index >= previous);
+            assertTrue("bucket of " + value, LatencyHistogram.highestValueOf(index) >= value);
+            assertTrue("bucket of " + value, LatencyHistogram.highestValueOf(index) - value <= value / 16);
+            if (index > 0) {
+                assertTrue("bucket of " + value, LatencyHistogram.highestValueOf(index - 1) < value);
+            }
+            previous = index;
+        }
+    }
+
+    public void testPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getValueAtPercentile(50));
+
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000L);
+        }
+
+        assertEquals(1000, histogram.getCount());
+        assertEquals(500_500_000L, histogram.getTotal());
+        assertEquals(1_000_000L, histogram.getMax());
+        assertWithinBucket(500_000L, histogram.getValueAtPercentile(50));
+        assertWithinBucket(990_000L, histogram.getValueAtPercentile(99));
+        assertEquals(1_000_000L, histogram.getValueAtPercentile(100));
+        assertWithinBucket(1000L, histogram.getValueAtPercentile(0));
+    }
+
+    public void testPercentilesOfRandomValues() {
+        Random random = new Random(42);
+        long[] values = new long[10_000];
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (long) Math.abs(random.nextGaussian() * 50_000_000L);
+            histogram.record(values[i]);
+        }
+        Arrays.sort(values);
+
+        for (double percentile : new double[]{10, 50, 90, 99, 99.9}) {
+            long expected = values[(int) Math.ceil(percentile / 100 * values.length) - 1];
+            assertWithinBucket(expected, histogram.getValueAtPercentile(percentile));
+        }
+    }
+
+    public void testOutOfRangeValues() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-1);
+        histogram.record(Long.MAX_VALUE);
+
+        assertEquals(2, histogram.getCount());
+        assertEquals(0, histogram.getValueAtPercentile(50));
+        assertEquals(LatencyHistogram.MAX_VALUE, histogram.getMax());
+        assertEquals(LatencyHistogram.MAX_VALUE, histogram.getValueAtPercentile(100));
+    }
+
+    public void testReset() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(1000);
+        histogram.reset();
+
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getTotal());
+        assertEquals(0, histogram.getMax());
+        assertEquals(0, histogram.getValueAtPercentile(99));
+    }
+
+    private static void assertWithinBucket(long expected, long actual) {
+        assertTrue("expected " + expected + " but was " + actual, actual >= expected && actual - expected <= expected / 16);
+    }
+}
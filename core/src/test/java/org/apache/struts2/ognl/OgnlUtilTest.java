@@ -19,9 +19,11 @@
 package org.apache.struts2.ognl;
 
 import org.apache.struts2.ActionContext;
+import org.apache.struts2.SimpleAction;
 import org.apache.struts2.text.StubTextProvider;
 import org.apache.struts2.StubValueStack;
 import org.apache.struts2.XWorkTestCase;
+import org.apache.struts2.action.Action;
 import org.apache.struts2.config.ConfigurationException;
 import org.apache.struts2.conversion.impl.XWorkConverter;
 import org.apache.struts2.inject.ContainerBuilder;
@@ -262,6 +264,47 @@ public class OgnlUtilTest extends XWorkTestCase {
         }
     }
 
+    public void testCallActionMethod() throws Exception {
+        SimpleAction action = new SimpleAction();
+        action.setFoo(1);
+        OgnlContext context = (OgnlContext) ognlUtil.createDefaultContext(new Foo());
+
+        assertEquals(Action.SUCCESS, ognlUtil.callActionMethod("execute", context, action));
+        assertSame(action, context.getRoot());
+        ognlUtil.clearExpressionCache();
+
+        action.setBar(1);
+        assertEquals(Action.ERROR, ognlUtil.callActionMethod("execute", context, action));
+        assertEquals("Resolved method must be called directly", 0, ognlUtil.expressionCacheSize());
+    }
+
+    public void testCallActionMethodFailures() throws Exception {
+        SimpleAction action = new SimpleAction();
+        action.setThrowException(true);
+        OgnlContext context = (OgnlContext) ognlUtil.createDefaultContext(action);
+
+        for (int i = 0; i < 2; i++) {
+            MethodFailedException thrown = assertThrows(MethodFailedException.class,
+                    () -> ognlUtil.callActionMethod("exceptionMethod", context, action));
+            assertEquals("We're supposed to throw this", thrown.getCause().getMessage());
+
+            MethodFailedException missing = assertThrows(MethodFailedException.class,
+                    () -> ognlUtil.callActionMethod("nonExistingMethod", context, action));
+            assertTrue(missing.getReason() instanceof NoSuchMethodException);
+        }
+    }
+
+    public void testCallActionMethodDeniedExecution() throws Exception {
+        SimpleAction action = new SimpleAction();
+        action.setFoo(1);
+        OgnlContext context = (OgnlContext) ognlUtil.createDefaultContext(action);
+        assertEquals(Action.SUCCESS, ognlUtil.callActionMethod("execute", context, action));
+
+        ReflectionContextState.setDenyMethodExecution(context, true);
+
+        assertNull(ognlUtil.callActionMethod("execute", context, action));
+    }
+
     public void testClearExpressionCache() throws OgnlException {
         ognlUtil.setEnableExpressionCache("true");
         // Test that the expression cache is functioning as expected.
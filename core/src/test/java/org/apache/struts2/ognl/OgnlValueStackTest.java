@@ -460,6 +460,71 @@ public class OgnlValueStackTest extends XWorkTestCase {
         assertEquals("Rover", vs.findValue("dog.name", String.class));
     }
 
+    public void testCompiledAccessors() {
+        reloadContainerWithCompiledAccessors();
+
+        Dog dog = new Dog();
+        Cat cat = new Cat();
+        cat.setName("Tom");
+        dog.setHates(cat);
+        vs.push(dog);
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals("Tom", vs.findValue("hates.name"));
+            assertEquals("Tom", vs.findValue("hates.name", String.class));
+        }
+
+        cat.setName("Garfield");
+        assertEquals("Garfield", vs.findValue("hates.name"));
+
+        dog.setHates(null);
+        assertNull(vs.findValue("hates.name"));
+
+        Dog other = new Dog();
+        other.setHates(new Cat());
+        other.getHates().setName("Felix");
+        vs.push(other);
+        assertEquals("Felix", vs.findValue("hates.name"));
+
+        vs.pop();
+        vs.push(new SimpleAction());
+        assertNull(vs.findValue("hates.name"));
+        vs.pop();
+
+        dog.setHates(cat);
+        dog.setAge(12);
+        assertEquals(12, vs.findValue("age", Integer.class));
+        assertEquals(12, vs.findValue("age", Integer.class));
+        assertEquals("12", vs.findValue("age", String.class));
+    }
+
+    public void testCompiledAccessorsRespectExcludedClasses() {
+        Map<String, String> properties = new HashMap<>();
+        properties.put(StrutsConstants.STRUTS_OGNL_ENABLE_COMPILED_ACCESSORS, "true");
+        properties.put(StrutsConstants.STRUTS_OGNL_COMPILED_ACCESSORS_THRESHOLD, "1");
+        properties.put(StrutsConstants.STRUTS_EXCLUDED_CLASSES, Cat.class.getName());
+        loadButSet(properties);
+        refreshContainerFields();
+
+        Dog dog = new Dog();
+        Cat cat = new Cat();
+        cat.setName("Tom");
+        dog.setHates(cat);
+        vs.push(dog);
+
+        for (int i = 0; i < 3; i++) {
+            assertNull(vs.findValue("hates.name"));
+        }
+    }
+
+    private void reloadContainerWithCompiledAccessors() {
+        Map<String, String> properties = new HashMap<>();
+        properties.put(StrutsConstants.STRUTS_OGNL_ENABLE_COMPILED_ACCESSORS, "true");
+        properties.put(StrutsConstants.STRUTS_OGNL_COMPILED_ACCESSORS_THRESHOLD, "2");
+        loadButSet(properties);
+        refreshContainerFields();
+    }
+
     public void testCallMethodOnNullObject() {
         assertNull(vs.findValue("foo.size()"));
     }
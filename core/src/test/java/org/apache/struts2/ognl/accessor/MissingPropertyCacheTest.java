@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.ognl.accessor;
+
+import org.apache.struts2.ActionContext;
+import org.apache.struts2.XWorkTestCase;
+import org.apache.struts2.util.Cat;
+import org.apache.struts2.util.Dog;
+import org.apache.struts2.util.ValueStack;
+
+public class MissingPropertyCacheTest extends XWorkTestCase {
+
+    public void testIsMissing() {
+        assertFalse(MissingPropertyCache.isMissing(Dog.class, "name"));
+        assertFalse(MissingPropertyCache.isMissing(Dog.class, "male"));
+        assertFalse(MissingPropertyCache.isMissing(Dog.class, "deity"));
+        assertFalse(MissingPropertyCache.isMissing(Dog.class, "SCIENTIFIC_NAME"));
+        assertFalse("method named after the property", MissingPropertyCache.isMissing(Dog.class, "computeDogYears"));
+        assertFalse("non-public field", MissingPropertyCache.isMissing(Bean.class, "hidden"));
+        assertFalse("non-public getter", MissingPropertyCache.isMissing(Bean.class, "secret"));
+        assertFalse("inherited getter", MissingPropertyCache.isMissing(Bean.class, "class"));
+        assertFalse(MissingPropertyCache.isMissing(Dog.class, 1));
+
+        assertTrue(MissingPropertyCache.isMissing(Dog.class, "unknown"));
+        assertTrue(MissingPropertyCache.isMissing(Dog.class, "unknown"));
+        assertTrue(MissingPropertyCache.isMissing(Bean.class, "name"));
+    }
+
+    public void testMissingPropertiesOnValueStack() {
+        ValueStack vs = ActionContext.getContext().getValueStack();
+        Dog dog = new Dog();
+        dog.setName("Rover");
+        dog.setHates(new Cat());
+        vs.push(dog);
+        vs.getContext().put("unknown", "fromContext");
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals("fromContext", vs.findValue("unknown"));
+            assertNull(vs.findValue("hates.unknown"));
+            assertNull(vs.findValue("hates.unknown == null"));
+            assertEquals(Boolean.TRUE, vs.findValue("hates.name == null"));
+            assertEquals("Rover", vs.findValue("name"));
+        }
+    }
+
+    public static class Bean {
+        private String hidden;
+
+        String getSecret() {
+            return hidden;
+        }
+    }
+}
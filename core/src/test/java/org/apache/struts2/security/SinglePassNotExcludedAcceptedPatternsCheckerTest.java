@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.security;
+
+import org.apache.struts2.XWorkTestCase;
+
+import java.util.List;
+import java.util.Set;
+
+public class SinglePassNotExcludedAcceptedPatternsCheckerTest extends XWorkTestCase {
+
+    private static final List<String> VALUES = List.of(
+            "name", "user.name", "users[0].name", "map['key'].value", "map('key')", "top.name",
+            "class.classLoader", "getClass().name", "user['class']", "#session.user", "%{#context}",
+            "actionErrors", "session.user", "name with spaces", "", "nested.class.name", "action:foo", "Struts.name"
+    );
+
+    public void testSameDecisionsAsDefaultChecker() {
+        DefaultNotExcludedAcceptedPatternsChecker expected = newChecker(new DefaultNotExcludedAcceptedPatternsChecker());
+        SinglePassNotExcludedAcceptedPatternsChecker checker = newChecker(new SinglePassNotExcludedAcceptedPatternsChecker());
+
+        for (String value : VALUES) {
+            NotExcludedAcceptedPatternsChecker.IsAllowed expectedResult = expected.isAllowed(value);
+            NotExcludedAcceptedPatternsChecker.IsAllowed result = checker.isAllowed(value);
+
+            assertEquals(value, expectedResult.isAllowed(), result.isAllowed());
+            assertEquals(value, expectedResult.getAllowedPattern(), result.getAllowedPattern());
+        }
+    }
+
+    public void testReportsMatchedAcceptedPattern() {
+        SinglePassNotExcludedAcceptedPatternsChecker checker = newChecker(new SinglePassNotExcludedAcceptedPatternsChecker());
+        checker.setExcludedPatterns(new String[]{"(a)(b).*", "(x)+"});
+        checker.setAcceptedPatterns(Set.of("(c)(\\d)+", "(d)[a-z]+"));
+
+        assertTrue(checker.isAllowed("c123").isAllowed());
+        assertEquals("(c)(\\d)+", checker.isAllowed("c123").getAllowedPattern());
+        assertTrue(checker.isAllowed("dabc").isAllowed());
+        assertEquals("(d)[a-z]+", checker.isAllowed("dabc").getAllowedPattern());
+
+        assertFalse(checker.isAllowed("xxx").isAllowed());
+        assertEquals("(x)+", checker.isAllowed("xxx").getAllowedPattern());
+        assertFalse(checker.isAllowed("e1").isAllowed());
+    }
+
+    public void testPatternChangesAreApplied() {
+        SinglePassNotExcludedAcceptedPatternsChecker checker = newChecker(new SinglePassNotExcludedAcceptedPatternsChecker());
+        assertTrue(checker.isAllowed("user.name").isAllowed());
+
+        checker.setExcludedPatterns("user\\..*");
+        assertFalse(checker.isAllowed("user.name").isAllowed());
+
+        checker.setAcceptedPatterns("admin");
+        assertFalse(checker.isAllowed("name").isAllowed());
+        assertTrue(checker.isAllowed("admin").isAllowed());
+    }
+
+    public void testBackReferencesAreCheckedOneByOne() {
+        SinglePassNotExcludedAcceptedPatternsChecker checker = newChecker(new SinglePassNotExcludedAcceptedPatternsChecker());
+        checker.setExcludedPatterns("(z)\\1");
+        checker.setAcceptedPatterns("(\\w)\\1");
+
+        assertTrue(checker.isAllowed("aa").isAllowed());
+        assertFalse(checker.isAllowed("ab").isAllowed());
+        assertFalse(checker.isAllowed("zz").isAllowed());
+    }
+
+    private <T extends DefaultNotExcludedAcceptedPatternsChecker> T newChecker(T checker) {
+        checker.setExcludedPatterns(container.inject(DefaultExcludedPatternsChecker.class));
+        checker.setAcceptedPatterns(container.inject(DefaultAcceptedPatternsChecker.class));
+        return checker;
+    }
+}
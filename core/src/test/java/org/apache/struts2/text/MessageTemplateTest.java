@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.text;
+
+import junit.framework.TestCase;
+
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class MessageTemplateTest extends TestCase {
+
+    private static final String[] PATTERNS = {
+            "",
+            "Simple text",
+            "It''s quoted",
+            "'{0}' is not an argument",
+            "Unbalanced } brace",
+            "Hello {0}!",
+            "{0} and {1} and {0} again",
+            "{1}{0}",
+            "Missing {5} argument",
+            "Total: {0,number,#.##}",
+            "Integer: {0,number,integer}",
+            "Date: {2,date,short}",
+            "{0,choice,0#no files|1#one file|1<{0,number,integer} files}",
+            "Quoted style {0,number,'#'#}",
+            "null"
+    };
+
+    private static final Object[][] ARGS = {
+            null,
+            new Object[0],
+            new Object[]{"text", "other", new Date(0)},
+            new Object[]{12345.678, null, new Date(0)},
+            new Object[]{1, 2L, new Date(0)},
+            new Object[]{0, Boolean.TRUE, new Date(0)},
+            new Object[]{new Date(0), new StringBuilder("builder"), new Date(0)}
+    };
+
+    public void testSameOutputAsMessageFormat() {
+        for (Locale locale : new Locale[]{Locale.US, Locale.GERMANY, Locale.FRANCE}) {
+            for (String pattern : PATTERNS) {
+                MessageTemplate template = MessageTemplate.of(pattern, locale);
+                for (Object[] args : ARGS) {
+                    String expected;
+                    try {
+                        expected = newMessageFormat(pattern, locale).format(args);
+                    } catch (IllegalArgumentException e) {
+                        assertThrows(template, args);
+                        continue;
+                    }
+                    assertEquals(pattern + " " + locale, expected, template.format(args));
+                }
+            }
+        }
+    }
+
+    public void testInvalidPattern() {
+        try {
+            MessageTemplate.of("Unmatched {0", Locale.US);
+            fail("Invalid pattern was accepted");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    public void testConcurrentFormatting() throws Exception {
+        MessageTemplate template = MessageTemplate.of("{0} of {1,number,#.##} on {2,date,yyyy-MM-dd}", Locale.US);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                final int offset = i;
+                results.add(executor.submit(() -> {
+                    for (int j = 0; j < 1000; j++) {
+                        Object[] args = {"item" + offset, offset + j / 100.0, new Date(offset * 86_400_000L)};
+                        if (!newMessageFormat("{0} of {1,number,#.##} on {2,date,yyyy-MM-dd}", Locale.US).format(args)
+                                .equals(template.format(args))) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }));
+            }
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void assertThrows(MessageTemplate template, Object[] args) {
+        try {
+            template.format(args);
+            fail("Formatting " + template + " didn't fail");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    private static MessageFormat newMessageFormat(String pattern, Locale locale) {
+        MessageFormat format = new MessageFormat(pattern);
+        format.setLocale(locale);
+        format.applyPattern(pattern);
+        return format;
+    }
+}
@@ -36,6 +36,7 @@ import org.apache.struts2.util.Bar;
 import org.apache.struts2.util.ValueStack;
 
 import java.text.DateFormat;
+import java.text.MessageFormat;
 import java.text.ParseException;
 import java.util.Date;
 import java.util.HashMap;
@@ -208,6 +209,27 @@ public class StrutsLocalizedTextProviderTest extends XWorkTestCase {
         assertEquals("There is no Action mapped for namespace blah and action name AddUser.", message);
     }
 
+    @SuppressWarnings("deprecation")
+    public void testDeprecatedMessageFormatHooksAreUsedWhenOverridden() {
+        LocalizedTextProvider buildingProvider = new StrutsLocalizedTextProvider() {
+            @Override
+            protected MessageFormat buildMessageFormat(String pattern, Locale locale) {
+                return super.buildMessageFormat("Legacy: " + pattern, locale);
+            }
+        };
+        String message = buildingProvider.findDefaultText("xwork.exception.missing-action", Locale.getDefault(), new String[]{"AddUser"});
+        assertEquals("Legacy: There is no Action mapped for action name AddUser.", message);
+
+        LocalizedTextProvider formattingProvider = new StrutsLocalizedTextProvider() {
+            @Override
+            protected String formatWithNullDetection(MessageFormat mf, Object[] args) {
+                return "Legacy: " + super.formatWithNullDetection(mf, args);
+            }
+        };
+        message = formattingProvider.findDefaultText("xwork.exception.missing-action", Locale.getDefault(), new String[]{"AddUser"});
+        assertEquals("Legacy: There is no Action mapped for action name AddUser.", message);
+    }
+
     public void testLocalizedDateFormatIsUsed() throws ParseException {
         localizedTextProvider.addDefaultResourceBundle("org/apache/struts2/util/LocalizedTextUtilTest");
         Date date = DateFormat.getDateInstance(DateFormat.SHORT, Locale.US).parse("01/01/2015");
@@ -357,6 +379,53 @@ public class StrutsLocalizedTextProviderTest extends XWorkTestCase {
                 2, testStrutsLocalizedTextProvider.currentBundlesMapSize());
     }
 
+    public void testResolvedTextsAreCached() {
+        CountingStrutsLocalizedTextProvider provider = container.inject(CountingStrutsLocalizedTextProvider.class);
+        provider.setResolvedTextCacheMaxSize("100");
+
+        assertEquals("Foo Range Message", provider.findText(SimpleAction.class, "foo.range", Locale.getDefault()));
+        int firstLookups = provider.lookups;
+        assertEquals("It works!", provider.findText(ModelDrivenAction2.class, "package.properties", Locale.getDefault()));
+        int firstPackageLookups = provider.lookups - firstLookups;
+
+        provider.lookups = 0;
+        assertEquals("Foo Range Message", provider.findText(SimpleAction.class, "foo.range", Locale.getDefault()));
+        assertEquals(1, provider.lookups);
+        assertEquals("It works!", provider.findText(ModelDrivenAction2.class, "package.properties", Locale.getDefault()));
+        assertTrue(provider.lookups < firstPackageLookups);
+
+        // invalidated together with the bundles
+        provider.callClearMissingBundlesCache();
+        provider.lookups = 0;
+        assertEquals("Foo Range Message", provider.findText(SimpleAction.class, "foo.range", Locale.getDefault()));
+        assertEquals(firstLookups, provider.lookups);
+    }
+
+    public void testMissingTextsAreCached() {
+        CountingStrutsLocalizedTextProvider provider = container.inject(CountingStrutsLocalizedTextProvider.class);
+        provider.setResolvedTextCacheMaxSize("100");
+        ValueStack stack = ActionContext.getContext().getValueStack();
+
+        assertEquals("default", provider.findText(ModelDrivenAction2.class, "no.such.key", Locale.getDefault(), "default", null, stack));
+        int firstLookups = provider.lookups;
+
+        provider.lookups = 0;
+        assertEquals("default", provider.findText(ModelDrivenAction2.class, "no.such.key", Locale.getDefault(), "default", null, stack));
+        assertTrue(provider.lookups < firstLookups);
+    }
+
+    public void testResolvedTextsAreNotCachedWhenDisabled() {
+        CountingStrutsLocalizedTextProvider provider = container.inject(CountingStrutsLocalizedTextProvider.class);
+        provider.setResolvedTextCacheMaxSize("0");
+
+        assertEquals("Foo Range Message", provider.findText(SimpleAction.class, "foo.range", Locale.getDefault()));
+        int firstLookups = provider.lookups;
+
+        provider.lookups = 0;
+        assertEquals("Foo Range Message", provider.findText(SimpleAction.class, "foo.range", Locale.getDefault()));
+        assertEquals(firstLookups, provider.lookups);
+    }
+
     /**
      * Test the {@link StrutsLocalizedTextProvider#searchDefaultBundlesFirst} flag behaviour for basic correctness.
      */
@@ -565,6 +634,20 @@ public class StrutsLocalizedTextProviderTest extends XWorkTestCase {
         localizedTextProvider = null;
     }
 
+    /**
+     * Counts resource bundle lookups to verify the resolved texts cache.
+     */
+    public static class CountingStrutsLocalizedTextProvider extends TestStrutsLocalizedTextProvider {
+
+        int lookups;
+
+        @Override
+        public ResourceBundle findResourceBundle(String bundleName, Locale locale) {
+            lookups++;
+            return super.findResourceBundle(bundleName, locale);
+        }
+    }
+
     /**
      * Basic test class to allow specific testing of StrutsLocalizedTextProvider.
      *
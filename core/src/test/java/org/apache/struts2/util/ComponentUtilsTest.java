@@ -106,4 +106,31 @@ public class ComponentUtilsTest extends StrutsInternalTestCase {
     public void testContainsExpressionIsFalseWhenNull() {
         assertFalse(ComponentUtils.containsExpression(null));
     }
+
+    public void testIsLiteralString() {
+        assertTrue(ComponentUtils.isLiteral("btn btn-primary", String.class));
+        assertTrue(ComponentUtils.isLiteral("", String.class));
+        assertFalse(ComponentUtils.isLiteral("btn %{cssClass}", String.class));
+        assertFalse(ComponentUtils.isLiteral(null, String.class));
+    }
+
+    public void testIsLiteralBoolean() {
+        assertTrue(ComponentUtils.isLiteral("true", Boolean.class));
+        assertTrue(ComponentUtils.isLiteral("false", boolean.class));
+        assertFalse(ComponentUtils.isLiteral("TRUE", Boolean.class));
+        assertFalse(ComponentUtils.isLiteral("disabled", Boolean.class));
+        assertFalse(ComponentUtils.isLiteral("%{true}", Boolean.class));
+        assertFalse(ComponentUtils.isLiteral(null, Boolean.class));
+    }
+
+    public void testIsLiteralOtherTypes() {
+        assertFalse(ComponentUtils.isLiteral("true", Object.class));
+        assertFalse(ComponentUtils.isLiteral("10", Integer.class));
+    }
+
+    public void testToLiteral() {
+        assertEquals("btn", ComponentUtils.toLiteral("btn", String.class));
+        assertEquals(Boolean.TRUE, ComponentUtils.toLiteral("true", Boolean.class));
+        assertEquals(Boolean.FALSE, ComponentUtils.toLiteral("false", boolean.class));
+    }
 }
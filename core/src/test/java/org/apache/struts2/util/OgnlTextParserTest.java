@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.util;
+
+import junit.framework.TestCase;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class OgnlTextParserTest extends TestCase {
+
+    private static final String[] TEXTS = {
+            "",
+            "plain text",
+            "${a}",
+            "%{a}",
+            "/x/${a}",
+            "/x/${a}.action",
+            "${a}/${b}",
+            "${a}${b}",
+            "${a}${b}${c}",
+            "pre ${a} mid %{b} post",
+            "%{a} then ${b}",
+            "$${a}{b}",
+            "%${a}{b}",
+            "${a}{b}",
+            "${{a}}",
+            "${a} ${unclosed",
+            "${unclosed ${a}",
+            "100% ${a}",
+            "${a}}",
+            "{${a}}",
+            "${${a}}",
+    };
+
+    private static final Object[] VALUES = {null, "", "x", "$", "%", "{", "}", "a$", "%{b}", "${c}", 42, "multi word"};
+
+    private static final char[][] OPEN_CHARS = {{'$'}, {'%'}, {'$', '%'}, {'%', '$'}};
+
+    public void testSameResultAsUnparsedText() {
+        OgnlTextParser parser = new OgnlTextParser();
+        parser.setParsedTextCacheMaxSize("100");
+        OgnlTextParser uncached = new OgnlTextParser();
+
+        for (char[] openChars : OPEN_CHARS) {
+            for (int maxLoopCount : new int[]{1, 2}) {
+                for (String text : TEXTS) {
+                    for (Object a : VALUES) {
+                        for (Object b : VALUES) {
+                            Map<String, Object> values = new HashMap<>();
+                            values.put("a", a);
+                            values.put("b", b);
+                            values.put("c", "C");
+                            values.put("{a}", a);
+
+                            RecordingEvaluator expected = new RecordingEvaluator(values);
+                            RecordingEvaluator actual = new RecordingEvaluator(values);
+                            Object expectedResult = uncached.evaluate(openChars, text, expected, maxLoopCount);
+                            // the second evaluation uses the cached text
+                            parser.evaluate(openChars, text, new RecordingEvaluator(values), maxLoopCount);
+                            Object actualResult = parser.evaluate(openChars, text, actual, maxLoopCount);
+
+                            String message = Arrays.toString(openChars) + " " + maxLoopCount + " [" + text + "] a=" + a + " b=" + b;
+                            assertEquals(message, expectedResult, actualResult);
+                            assertEquals(message, expected.evaluated, actual.evaluated);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    public void testLiteralTextIsNotEvaluated() {
+        OgnlTextParser parser = new OgnlTextParser();
+        parser.setParsedTextCacheMaxSize("100");
+        RecordingEvaluator evaluator = new RecordingEvaluator(Map.of());
+
+        assertEquals("/WEB-INF/index.jsp", parser.evaluate(new char[]{'$', '%'}, "/WEB-INF/index.jsp", evaluator, 1));
+        assertEquals("/WEB-INF/index.jsp", parser.evaluate(new char[]{'$', '%'}, "/WEB-INF/index.jsp", evaluator, 1));
+        assertEquals("", parser.evaluate(new char[]{'$'}, null, evaluator, 1));
+        assertTrue(evaluator.evaluated.isEmpty());
+    }
+
+    public void testPureExpressionKeepsType() {
+        OgnlTextParser parser = new OgnlTextParser();
+        parser.setParsedTextCacheMaxSize("100");
+        RecordingEvaluator evaluator = new RecordingEvaluator(Map.of("id", 42));
+
+        assertEquals(42, parser.evaluate(new char[]{'$'}, "${id}", evaluator, 1));
+        assertEquals(42, parser.evaluate(new char[]{'$'}, "${id}", evaluator, 1));
+        assertEquals("/x/42", parser.evaluate(new char[]{'$'}, "/x/${id}", evaluator, 1));
+        assertEquals(List.of("id", "id", "id"), evaluator.evaluated);
+    }
+
+    private static class RecordingEvaluator implements TextParseUtil.ParsedValueEvaluator {
+
+        private final Map<String, Object> values;
+        private final List<String> evaluated = new ArrayList<>();
+
+        RecordingEvaluator(Map<String, Object> values) {
+            this.values = values;
+        }
+
+        @Override
+        public Object evaluate(String parsedValue) {
+            evaluated.add(parsedValue);
+            return values.get(parsedValue);
+        }
+    }
+}
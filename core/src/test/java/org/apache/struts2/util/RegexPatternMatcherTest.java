@@ -37,6 +37,17 @@ public class RegexPatternMatcherTest extends TestCase {
         assertFalse(matcher.isLiteral("{"));
     }
 
+    public void testLiteralPrefix() {
+        assertEquals("/some", matcher.literalPrefix("/some/{test}"));
+        assertEquals("user", matcher.literalPrefix("users?/{id}"));
+        assertEquals("user", matcher.literalPrefix("users*/{id}"));
+        assertEquals("user", matcher.literalPrefix("users{id}"));
+        assertEquals("users", matcher.literalPrefix("users+/{id}"));
+        assertEquals("users", matcher.literalPrefix("users./{id}"));
+        assertEquals("", matcher.literalPrefix("users/{id}|admins/{id}"));
+        assertEquals("", matcher.literalPrefix("?"));
+    }
+
     public void testCompile0() {
         RegexPatternMatcherExpression expr = matcher.compilePattern("/some/{test}");
         assertNotNull(expr);
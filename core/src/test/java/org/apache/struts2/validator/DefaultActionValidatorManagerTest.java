@@ -101,6 +101,21 @@ public class DefaultActionValidatorManagerTest extends XWorkTestCase {
         );
     }
 
+    public void testValidatorsAreCreatedForEachLookupOfCachedConfigs() {
+        List<Validator> validators = actionValidatorManager.getValidators(SimpleAction.class, alias);
+        List<Validator> cachedValidators = actionValidatorManager.getValidators(SimpleAction.class, alias);
+
+        assertThat(cachedValidators).hasSameSizeAs(validators);
+        for (int i = 0; i < validators.size(); i++) {
+            assertSame(validators.get(i).getClass(), cachedValidators.get(i).getClass());
+            assertNotSame(validators.get(i), cachedValidators.get(i));
+        }
+        assertThat(actionValidatorManager.getValidators(SimpleAction.class, alias, "execute")).isEmpty();
+        assertThatThrownBy(() -> actionValidatorManager.validatorCache.get(
+                actionValidatorManager.buildValidatorKey(SimpleAction.class, alias)).clear())
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
     public void testBuildsValidatorsForAliasError() {
         assertThatThrownBy(() -> actionValidatorManager.getValidators(TestBean.class, "badtest"))
                 .isInstanceOf(StrutsException.class)
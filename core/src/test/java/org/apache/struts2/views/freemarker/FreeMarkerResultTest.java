@@ -18,6 +18,7 @@
  */
 package org.apache.struts2.views.freemarker;
 
+import freemarker.template.TemplateExceptionHandler;
 import org.apache.struts2.ActionContext;
 import org.apache.struts2.mock.MockActionInvocation;
 import org.apache.struts2.mock.MockActionProxy;
@@ -31,6 +32,9 @@ import org.springframework.mock.web.MockHttpServletRequest;
 import java.io.File;
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Test case for FreeMarkerResult.
@@ -74,6 +78,88 @@ public class FreeMarkerResultTest extends StrutsInternalTestCase {
         }
     }
 
+    public void testChunkSizeDiscardsOutputOnErrorBeforeFirstChunk() {
+        FreemarkerResult result = new FreemarkerResult();
+        result.setLocation("someFreeMarkerFile.ftl");
+        result.setFreemarkerManager(mgr);
+        result.setChunkSize(1000);
+        // the default handler writes and flushes the error message
+        mgr.getConfiguration(servletContext).setTemplateExceptionHandler(TemplateExceptionHandler.RETHROW_HANDLER);
+
+        try {
+            result.execute(invocation);
+            fail();
+        } catch (Exception e) {
+            assertEquals(0, stringWriter.getBuffer().length());
+        }
+    }
+
+    public void testChunkSizeSendsOutputOnErrorAfterFirstChunk() {
+        FreemarkerResult result = new FreemarkerResult();
+        result.setLocation("someFreeMarkerFile.ftl");
+        result.setFreemarkerManager(mgr);
+        result.setChunkSize(2);
+
+        try {
+            result.execute(invocation);
+            fail();
+        } catch (Exception e) {
+            assertTrue(stringWriter.toString().startsWith("Text"));
+        }
+    }
+
+    public void testChunkSizeFlushesEachChunk() throws Exception {
+        servletContext.setRealPath(new File(FreeMarkerResultTest.class.getResource(
+            "nested.ftl").toURI()).toURL().getFile());
+        List<String> chunks = new ArrayList<>();
+        StringWriter chunk = new StringWriter() {
+            @Override
+            public void flush() {
+                if (getBuffer().length() > 0) {
+                    chunks.add(toString());
+                    getBuffer().setLength(0);
+                }
+            }
+        };
+
+        FreemarkerResult result = new FreemarkerResult();
+        result.setLocation("nested.ftl");
+        result.setFreemarkerManager(mgr);
+        result.setWriter(chunk);
+        result.setChunkSize(4);
+        result.execute(invocation);
+
+        assertEquals(List.of("nest", "ed"), chunks);
+    }
+
+    public void testChunkSizeDiscardsOutputOnErrorAfterEmptyFlush() throws Exception {
+        servletContext.setRealPath(new File(FreeMarkerResultTest.class.getResource(
+            "earlyFlush.ftl").toURI()).toURL().getFile());
+        AtomicBoolean flushed = new AtomicBoolean();
+        StringWriter writer = new StringWriter() {
+            @Override
+            public void flush() {
+                flushed.set(true);
+            }
+        };
+
+        FreemarkerResult result = new FreemarkerResult();
+        result.setLocation("earlyFlush.ftl");
+        result.setFreemarkerManager(mgr);
+        result.setWriter(writer);
+        result.setChunkSize(1000);
+        mgr.getConfiguration(servletContext).setTemplateExceptionHandler(TemplateExceptionHandler.RETHROW_HANDLER);
+
+        try {
+            result.execute(invocation);
+            fail();
+        } catch (Exception e) {
+            // nothing was rendered before the error, so the response mustn't be committed
+            assertFalse(flushed.get());
+            assertEquals(0, writer.getBuffer().length());
+        }
+    }
+
     public void testContentTypeIsNotOverwritten() throws Exception {
         servletContext.setRealPath(new File(FreeMarkerResultTest.class.getResource(
             "nested.ftl").toURI()).toURL().getFile());
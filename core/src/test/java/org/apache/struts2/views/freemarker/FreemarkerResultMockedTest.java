@@ -88,6 +88,21 @@ public class FreemarkerResultMockedTest extends StrutsInternalTestCase {
         assertEquals("beforenestedafter", stringWriter.toString());
     }
 
+    public void testActionTagInChunkedTemplate() throws Exception {
+        File file = new File(FreeMarkerResultTest.class.getResource("callActionChunkedFreeMarker.ftl").toURI());
+        EasyMock.expect(servletContext.getRealPath("/tutorial/org/apache/struts2/views/freemarker/callActionChunkedFreeMarker.ftl")).andReturn(file.getAbsolutePath());
+        file = new File(FreeMarkerResultTest.class.getResource("nested.ftl").toURI());
+        EasyMock.expect(servletContext.getRealPath("/tutorial/org/apache/struts2/views/freemarker/nested.ftl")).andReturn(file.getAbsolutePath());
+        EasyMock.replay(servletContext);
+
+        init();
+
+        request.setRequestURI("/tutorial/test12.action");
+        ActionMapping mapping = container.getInstance(ActionMapper.class).getMapping(request, configurationManager);
+        dispatcher.serviceAction(request, response, mapping);
+        assertEquals("beforenestedafter", stringWriter.toString());
+    }
+
     public void testDynamicAttributesSupport() throws Exception {
         File file = new File(FreeMarkerResultTest.class.getResource("dynaAttributes.ftl").toURI());
         EasyMock.expect(servletContext.getRealPath("/tutorial/org/apache/struts2/views/freemarker/dynaAttributes.ftl")).andReturn(file.getAbsolutePath());
@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.config_browser;
+
+import org.apache.struts2.ActionTimingListener;
+import org.apache.struts2.inject.Inject;
+import org.apache.struts2.metrics.InvocationMetrics;
+import org.apache.struts2.metrics.LatencySnapshot;
+
+import java.util.Map;
+
+/**
+ * Shows the latencies of the interceptors, actions and results recorded by {@link InvocationMetrics}
+ */
+public class ShowMetricsAction extends ActionNamesAction {
+
+    private InvocationMetrics metrics;
+
+    @Inject(required = false)
+    public void setActionTimingListener(ActionTimingListener listener) {
+        if (listener instanceof InvocationMetrics invocationMetrics) {
+            metrics = invocationMetrics;
+        }
+    }
+
+    public boolean isEnabled() {
+        return metrics != null;
+    }
+
+    public Map<String, LatencySnapshot> getInterceptorLatencies() {
+        return metrics != null ? metrics.getInterceptorLatencies() : Map.of();
+    }
+
+    public Map<String, LatencySnapshot> getActionLatencies() {
+        return metrics != null ? metrics.getActionLatencies() : Map.of();
+    }
+
+    public Map<String, LatencySnapshot> getResultLatencies() {
+        return metrics != null ? metrics.getResultLatencies() : Map.of();
+    }
+}
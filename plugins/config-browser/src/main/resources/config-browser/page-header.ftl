@@ -56,6 +56,9 @@
 						<div><@s.url var="jarsLink" action="showJars" includeParams="none" />
 							<a href="${jarsLink}">Jars (requires Maven 2 data)</a>
 						</div>
+						<div><@s.url var="metricsLink" action="showMetrics" includeParams="none" />
+							<a href="${metricsLink}">Metrics</a>
+						</div>
 					</div>
 				</div>
 				<div id="projecttools" class="toolgroup">
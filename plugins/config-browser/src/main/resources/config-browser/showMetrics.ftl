@@ -0,0 +1,57 @@
+<#--
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+-->
+<#include "tigris-macros.ftl"/>
+<@startPage pageTitle="Invocation Metrics"/>
+<#if !enabled>
+<p>Metrics aren't recorded, set the constant <code>struts.actionTimingListener</code> to <code>metrics</code> to record them.</p>
+<#else>
+<#macro latencies title values>
+<h3>${title}</h3>
+
+<table width="100%">
+	<tr>
+		<th>Name</th>
+		<th>Count</th>
+		<th>Mean (ms)</th>
+		<th>Median (ms)</th>
+		<th>90% (ms)</th>
+		<th>99% (ms)</th>
+		<th>Max (ms)</th>
+	</tr>
+	<#list values.entrySet() as r>
+		<tr <#if r_index%2 gt 0>class="b"<#else>class="a"</#if>>
+		<td>${r.key}</td>
+		<td>${r.value.count}</td>
+		<td>${r.value.mean?string("0.###")}</td>
+		<td>${r.value.median?string("0.###")}</td>
+		<td>${r.value.p90?string("0.###")}</td>
+		<td>${r.value.p99?string("0.###")}</td>
+		<td>${r.value.max?string("0.###")}</td>
+		</tr>
+	</#list>
+</table>
+</#macro>
+<@latencies title="Interceptors" values=interceptorLatencies/>
+<@latencies title="Actions" values=actionLatencies/>
+<@latencies title="Results" values=resultLatencies/>
+</#if>
+
+<@endPage />
@@ -91,6 +91,14 @@ public class DefaultTheme implements Theme {
         return name;
     }
 
+    /**
+     * @param tagName name of the tag
+     * @return true if there are tag handlers registered for the tag
+     */
+    public boolean hasTagHandlers(String tagName) {
+        return handlerFactories != null && handlerFactories.containsKey(tagName);
+    }
+
     public void renderTag(String tagName, TemplateRenderingContext context) {
         if (tagName.endsWith(".java")) {
             tagName = tagName.substring(0, tagName.length() - ".java".length());
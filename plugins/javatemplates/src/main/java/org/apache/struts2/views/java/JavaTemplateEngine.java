@@ -37,6 +37,12 @@ import java.util.StringTokenizer;
 
 /**
  * Template engine that renders tags using java implementations
+ * <p>
+ * Only the <code>simple</code> theme is registered by default. The partial implementations of the <code>xhtml</code>
+ * and <code>css_xhtml</code> themes, {@link org.apache.struts2.views.java.xhtml.XHTMLTheme} and
+ * {@link org.apache.struts2.views.java.cssxhtml.CssXHTMLTheme}, have to be registered with
+ * {@link JavaTemplateConstants#STRUTS_JAVATEMPLATES_CUSTOM_THEMES}, tags they don't support are rendered by the
+ * default template engine.
  */
 public class JavaTemplateEngine extends BaseTemplateEngine {
 
@@ -70,28 +76,35 @@ public class JavaTemplateEngine extends BaseTemplateEngine {
         if (theme == null) {
             // Theme not supported, so do what struts would have done if we were not here.
             LOG.debug("Theme not found [{}] trying default template engine using template type [{}]", t.getTheme(), defaultTemplateType);
-            final TemplateEngine engine = templateEngineManager.getTemplateEngine(templateContext.getTemplate(), defaultTemplateType);
-
-            if (engine == null) {
-                // May be the default template has changed?
-                throw new ConfigurationException("Unable to find a TemplateEngine for template type '" + defaultTemplateType
-                        + "' whilst trying to render template " + templateContext.getTemplate());
-            } else {
-                try {
-                    // Retry render
-                    engine.renderTemplate(templateContext);
-                } catch (Exception e) {
-                    // Give up and throw a new StrutsException(e);
-                    throw new StrutsException("Cannot render tag [" + t.getName() + "] because theme ["
-                            + t.getTheme() + "] was not found.", e);
-                }
-            }
+            renderWithDefaultEngine(templateContext, "theme [" + t.getTheme() + "] was not found");
+        } else if (!theme.isSupported(t.getName(), templateContext)) {
+            LOG.debug("Tag [{}] not supported by theme [{}] trying default template engine using template type [{}]", t.getName(), t.getTheme(), defaultTemplateType);
+            renderWithDefaultEngine(templateContext, "it is not supported by theme [" + t.getTheme() + "]");
         } else {
             // Render our template
             theme.renderTag(t.getName(), templateContext);
         }
     }
 
+    private void renderWithDefaultEngine(TemplateRenderingContext templateContext, String reason) {
+        Template t = templateContext.getTemplate();
+        final TemplateEngine engine = templateEngineManager.getTemplateEngine(t, defaultTemplateType);
+
+        if (engine == null) {
+            // May be the default template has changed?
+            throw new ConfigurationException("Unable to find a TemplateEngine for template type '" + defaultTemplateType
+                    + "' whilst trying to render template " + t);
+        } else {
+            try {
+                // Retry render
+                engine.renderTemplate(templateContext);
+            } catch (Exception e) {
+                // Give up and throw a new StrutsException(e);
+                throw new StrutsException("Cannot render tag [" + t.getName() + "] because " + reason + ".", e);
+            }
+        }
+    }
+
     private static class Themes {
         private HashMap<String, Theme> themes = new HashMap<String, Theme>();
 
@@ -24,4 +24,16 @@ public interface Theme {
     public String getName();
 
     public void renderTag(String name, TemplateRenderingContext context);
+
+    /**
+     * Allows a theme to render only some variants of a tag, any tag which isn't supported is rendered by the default
+     * template engine instead.
+     *
+     * @param name    name of the tag
+     * @param context rendering context of the tag
+     * @return true if this theme can render the tag
+     */
+    default boolean isSupported(String name, TemplateRenderingContext context) {
+        return true;
+    }
 }
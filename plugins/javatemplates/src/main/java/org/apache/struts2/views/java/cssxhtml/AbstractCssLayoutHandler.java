@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.views.java.cssxhtml;
+
+import org.apache.struts2.views.java.Attributes;
+import org.apache.struts2.views.java.xhtml.AbstractLayoutHandler;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Base class of the handlers rendering the <code>div</code> based layout of the <code>css_xhtml</code> theme
+ */
+public abstract class AbstractCssLayoutHandler extends AbstractLayoutHandler {
+
+    /**
+     * Elements are rendered as blocks with the label on top, which is the default, and inline otherwise
+     *
+     * @return the element wrapping the parts of a form element
+     */
+    protected String getWrapperElement(Map<String, Object> params) {
+        String labelPosition = getLabelPosition(params);
+        return labelPosition == null || "top".equals(labelPosition) ? "div" : "span";
+    }
+
+    /**
+     * @return attributes of a wrapper, with an id made of the prefix and the id of the tag
+     */
+    protected Attributes wrapperAttributes(Map<String, Object> params, String prefix, String cssClass) {
+        Object id = params.get("id");
+        Attributes attrs = new Attributes();
+        if (id != null) {
+            attrs.add("id", prefix + id);
+        }
+        return attrs.add("class", cssClass);
+    }
+
+    /**
+     * Writes the errors of the field, if there are any
+     */
+    protected void writeErrors(Map<String, Object> params, List<String> errors) throws IOException {
+        if (errors == null) {
+            return;
+        }
+        start("div", wrapperAttributes(params, "wwerr_", "wwerr"));
+        newLine();
+        for (String error : errors) {
+            start("div", new Attributes().addIfExists("errorFor", params.get("id")).add("class", "errorMessage"));
+            characters(error);
+            end("div");
+        }
+        end("div");
+        newLine();
+    }
+}
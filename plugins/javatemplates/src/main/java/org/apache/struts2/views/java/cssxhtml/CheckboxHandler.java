@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.views.java.cssxhtml;
+
+import org.apache.struts2.views.java.Attributes;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Opens the group of a checkbox, with its errors and a label on the left, see <code>css_xhtml/checkbox.ftl</code>
+ */
+public class CheckboxHandler extends AbstractCssLayoutHandler {
+
+    public void generate() throws IOException {
+        Map<String, Object> params = context.getParameters();
+        List<String> errors = getFieldErrors(params);
+
+        start("div", wrapperAttributes(params, "wwgrp_", "wwgrp"));
+        newLine();
+        writeErrors(params, errors);
+
+        Object label = params.get("label");
+        if ("left".equals(getLabelPosition(params)) && label != null) {
+            start("span", wrapperAttributes(params, "wwlbl_", "wwlbl"));
+            newLine();
+            start("label", new Attributes()
+                    .addIfExists("for", params.get("id"))
+                    .add("class", errors != null ? "checkboxErrorLabel" : "label"));
+            characters(label.toString());
+            end("label");
+            end("span");
+            newLine();
+        }
+
+        start(getWrapperElement(params), wrapperAttributes(params, "wwctrl_", "wwctrl"));
+        newLine();
+        if (isTrue(params.get("required"))) {
+            writeRequired();
+        }
+    }
+
+    /**
+     * Closes the group of a checkbox, with a label on any other position than on the left
+     */
+    public static class CloseHandler extends AbstractCssLayoutHandler {
+
+        public void generate() throws IOException {
+            Map<String, Object> params = context.getParameters();
+            String wrapper = getWrapperElement(params);
+            Object label = params.get("label");
+
+            if (!"left".equals(getLabelPosition(params))) {
+                end(wrapper);
+                newLine();
+                if (label != null) {
+                    start(wrapper, wrapperAttributes(params, "wwlbl_", "wwlbl"));
+                    newLine();
+                    start("label", new Attributes()
+                            .addIfExists("for", params.get("id"))
+                            .add("class", getFieldErrors(params) != null ? "checkboxErrorLabel" : "checkboxLabel"));
+                    characters(label.toString());
+                    end("label");
+                }
+            }
+            if (label != null) {
+                end(wrapper);
+                newLine();
+            }
+            end("div");
+            newLine();
+        }
+    }
+}
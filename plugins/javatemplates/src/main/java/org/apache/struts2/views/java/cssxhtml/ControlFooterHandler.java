@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.views.java.cssxhtml;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Closes the group of a form element, see <code>css_xhtml/controlfooter.ftl</code>
+ */
+public class ControlFooterHandler extends AbstractCssLayoutHandler {
+
+    public void generate() throws IOException {
+        Map<String, Object> params = context.getParameters();
+
+        Object after = params.get("after");
+        if (after != null) {
+            characters(after.toString());
+        }
+        newLine();
+        end(getWrapperElement(params));
+        newLine();
+
+        if (isErrorPositionBottom(params)) {
+            writeErrors(params, getFieldErrors(params));
+        }
+        end("div");
+        newLine();
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.views.java.cssxhtml;
+
+import org.apache.struts2.views.java.Attributes;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Opens the group of a form element, with its label and errors, see <code>css_xhtml/controlheader.ftl</code>
+ */
+public class ControlHeaderHandler extends AbstractCssLayoutHandler {
+
+    public void generate() throws IOException {
+        Map<String, Object> params = context.getParameters();
+        List<String> errors = getFieldErrors(params);
+        String wrapper = getWrapperElement(params);
+
+        start("div", wrapperAttributes(params, "wwgrp_", "wwgrp"));
+        newLine();
+        if (!isErrorPositionBottom(params)) {
+            writeErrors(params, errors);
+        }
+
+        Object label = params.get("label");
+        if (label != null) {
+            start(wrapper, wrapperAttributes(params, "wwlbl_", "wwlbl"));
+            newLine();
+            Attributes attrs = new Attributes();
+            attrs.addIfExists("for", params.get("id"))
+                    .add("class", errors != null ? "errorLabel" : "label");
+            start("label", attrs);
+            if (isTrue(params.get("required"))) {
+                writeRequired();
+            }
+            characters(label.toString());
+            Object separator = params.get("labelseparator");
+            characters(separator != null ? separator.toString() : ":");
+            newLine();
+            writeTooltip(params);
+            end("label");
+            end(wrapper);
+            if ("div".equals(wrapper)) {
+                characters(" <br />", false);
+            }
+            newLine();
+        }
+
+        start(wrapper, wrapperAttributes(params, "wwctrl_", "wwctrl"));
+        newLine();
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.views.java.cssxhtml;
+
+import org.apache.struts2.views.java.simple.NonceHandler;
+import org.apache.struts2.views.java.xhtml.XHTMLTheme;
+
+/**
+ * Partial Java implementation of the <code>css_xhtml</code> theme, which replaces the table based layout of the
+ * <code>xhtml</code> theme with <code>div</code> elements.
+ * <p>
+ * It doesn't support the same tags as the {@link XHTMLTheme}, which are rendered by the default template engine, and
+ * isn't registered by default either, use
+ * <code>struts.javatemplates.customThemes=org.apache.struts2.views.java.cssxhtml.CssXHTMLTheme</code> to enable it.
+ */
+public class CssXHTMLTheme extends XHTMLTheme {
+
+    public CssXHTMLTheme() {
+        setTagHandlerFactories("controlheader", new FactoryList(ControlHeaderHandler.class));
+        setTagHandlerFactories("controlfooter", new FactoryList(ControlFooterHandler.class));
+        setTagHandlerFactories("checkbox-header", new FactoryList(CheckboxHandler.class));
+        setTagHandlerFactories("checkbox-footer", new FactoryList(CheckboxHandler.CloseHandler.class));
+        setTagHandlerFactories("button", new FactoryList(ButtonHandler.class));
+        setTagHandlerFactories("button-close", new FactoryList(ButtonHandler.CloseHandler.class));
+        setTagHandlerFactories("label-field", new FactoryList(LabelHandler.class));
+        setTagHandlerFactories("stylesheet", new FactoryList(StylesheetHandler.class, NonceHandler.class));
+
+        setLayout("checkbox", "checkbox-header", "checkbox", "checkbox-footer");
+        setLayout("label", "controlheader", "label-field", "controlfooter");
+        setLayout("hidden", "hidden");
+        setLayout("submit", "button", "submit");
+        setLayout("submit-close", "submit-close", "button-close");
+        setLayout("reset", "button", "reset", "button-close");
+        setLayout("form", "form");
+        setLayout("form-close", "form-close");
+
+        setName("css_xhtml");
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.views.java.xhtml;
+
+import org.apache.struts2.ServletActionContext;
+import org.apache.struts2.views.java.Attributes;
+import org.apache.struts2.views.java.TagGenerator;
+import org.apache.struts2.views.java.simple.AbstractTagHandler;
+import org.apache.struts2.views.util.UrlHelper;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Base class of the handlers rendering the layout around the tags of the <code>simple</code> theme
+ */
+public abstract class AbstractLayoutHandler extends AbstractTagHandler implements TagGenerator {
+
+    /**
+     * @return the label position of the tag or of its form
+     */
+    protected String getLabelPosition(Map<String, Object> params) {
+        Object labelPosition = params.get("labelPosition");
+        if (labelPosition == null && params.get("form") instanceof Map<?, ?> form) {
+            labelPosition = form.get("labelPosition");
+        }
+        return labelPosition != null ? labelPosition.toString() : null;
+    }
+
+    /**
+     * @return true if errors are rendered below the field
+     */
+    protected boolean isErrorPositionBottom(Map<String, Object> params) {
+        return "bottom".equals(params.get("errorposition"));
+    }
+
+    /**
+     * @return the errors of the field or null if there are none
+     */
+    @SuppressWarnings("unchecked")
+    protected List<String> getFieldErrors(Map<String, Object> params) {
+        Object name = params.get("name");
+        if (name == null) {
+            return null;
+        }
+        Map<String, List<String>> errors = (Map<String, List<String>>) findValue("fieldErrors");
+        return errors != null ? errors.get(name.toString()) : null;
+    }
+
+    protected boolean isTrue(Object value) {
+        return value != null && Boolean.parseBoolean(value.toString());
+    }
+
+    protected boolean isRequiredRight(Map<String, Object> params) {
+        Object requiredPosition = params.get("requiredPosition");
+        return requiredPosition == null || "right".equals(requiredPosition);
+    }
+
+    protected void writeRequired() throws IOException {
+        start("span", new Attributes().add("class", "required"));
+        characters("*");
+        end("span");
+    }
+
+    /**
+     * Writes the tooltip icon of the tag, if there is a tooltip
+     */
+    protected void writeTooltip(Map<String, Object> params) throws IOException {
+        Object tooltip = params.get("tooltip");
+        if (tooltip == null) {
+            return;
+        }
+
+        Object iconPath = params.get("tooltipIconPath");
+        String src = iconPath != null ? iconPath.toString() : params.get("staticContentPath") + "/tooltip.gif";
+        UrlHelper urlHelper = context.getStack().getActionContext().getContainer().getInstance(UrlHelper.class);
+        src = urlHelper.buildUrl(src, ServletActionContext.getRequest(), ServletActionContext.getResponse(),
+                Collections.emptyMap(), null, true, false, false, true);
+
+        Attributes attrs = new Attributes();
+        attrs.add("src", src)
+                .add("title", tooltip.toString())
+                .add("alt", tooltip.toString());
+        start("img", attrs);
+        end("img");
+    }
+
+    /**
+     * Writes a table row for each error of the field
+     */
+    protected void writeErrorRows(Map<String, Object> params, List<String> errors) throws IOException {
+        if (errors == null) {
+            return;
+        }
+        for (String error : errors) {
+            start("tr", new Attributes().addDefaultToEmpty("errorFor", params.get("id")));
+            newLine();
+            start("td", new Attributes().add("class", "tdErrorMessage").add("colspan", "2"));
+            start("span", new Attributes().add("class", "errorMessage"));
+            characters(error);
+            end("span");
+            end("td");
+            newLine();
+            end("tr");
+            newLine();
+        }
+    }
+
+    protected void newLine() throws IOException {
+        characters("\n", false);
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.views.java.xhtml;
+
+import org.apache.struts2.views.java.Attributes;
+
+import java.io.IOException;
+
+/**
+ * Opens the table row of a submit or reset button, see <code>xhtml/submit.ftl</code>, the row is closed by
+ * {@link ControlFooterHandler}
+ */
+public class ButtonRowHandler extends AbstractLayoutHandler {
+
+    public void generate() throws IOException {
+        start("tr", null);
+        newLine();
+        start("td", new Attributes().add("colspan", "2"));
+        start("div", new Attributes().add("class", "formButton"));
+    }
+
+    public static class CloseHandler extends AbstractLayoutHandler {
+
+        public void generate() throws IOException {
+            end("div");
+        }
+    }
+}
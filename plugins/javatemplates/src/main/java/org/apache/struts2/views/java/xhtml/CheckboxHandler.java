@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.views.java.xhtml;
+
+import org.apache.struts2.views.java.Attributes;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Opens the table row of a checkbox, with its errors and a label on top or on the left, see
+ * <code>xhtml/checkbox.ftl</code>
+ */
+public class CheckboxHandler extends AbstractLayoutHandler {
+
+    public void generate() throws IOException {
+        Map<String, Object> params = context.getParameters();
+        List<String> errors = getFieldErrors(params);
+
+        if (errors != null) {
+            for (String error : errors) {
+                start("tr", new Attributes().addIfExists("errorFor", params.get("id")));
+                newLine();
+                start("td", new Attributes().add("class", "tdCheckboxErrorMessage").add("colspan", "2"));
+                start("span", new Attributes().add("class", "errorMessage"));
+                characters(error);
+                end("span");
+                end("td");
+                newLine();
+                end("tr");
+                newLine();
+            }
+        }
+
+        String labelPosition = getLabelPosition(params);
+        start("tr", null);
+        newLine();
+        if ("top".equals(labelPosition)) {
+            start("td", new Attributes().add("colspan", "2"));
+            writeLabel(params, errors != null);
+            end("td");
+            newLine();
+            end("tr");
+            newLine();
+            start("tr", null);
+            newLine();
+            start("td", new Attributes().add("colspan", "2"));
+        } else {
+            start("td", new Attributes().add("class", "tdCheckboxLabel"));
+            if ("left".equals(labelPosition)) {
+                writeLabel(params, errors != null);
+            } else if ("right".equals(labelPosition)) {
+                if (isTrue(params.get("required"))) {
+                    writeRequired();
+                }
+                writeTooltip(params);
+            }
+            end("td");
+            newLine();
+            start("td", new Attributes().add("class", "tdCheckboxInput"));
+        }
+    }
+
+    private void writeLabel(Map<String, Object> params, boolean hasErrors) throws IOException {
+        Object label = params.get("label");
+        if (label == null) {
+            return;
+        }
+
+        start("label", labelAttributes(params, hasErrors));
+        // same as the template, which marks a required checkbox on both sides of the label whatever the position
+        boolean required = isTrue(params.get("required"));
+        if (required) {
+            writeRequired();
+        }
+        characters(label.toString());
+        if (required) {
+            characters(" ");
+            writeRequired();
+        }
+        characters(":");
+        writeTooltip(params);
+        end("label");
+    }
+
+    static Attributes labelAttributes(Map<String, Object> params, boolean hasErrors) {
+        return new Attributes()
+                .addIfExists("for", params.get("id"))
+                .add("class", hasErrors ? "checkboxErrorLabel" : "checkboxLabel");
+    }
+
+    /**
+     * Writes the label on the right of the checkbox, the row is closed by {@link ControlFooterHandler}
+     */
+    public static class CloseHandler extends AbstractLayoutHandler {
+
+        public void generate() throws IOException {
+            Map<String, Object> params = context.getParameters();
+            String labelPosition = getLabelPosition(params);
+            Object label = params.get("label");
+
+            if (label != null && !"top".equals(labelPosition) && !"left".equals(labelPosition)) {
+                start("label", labelAttributes(params, getFieldErrors(params) != null));
+                characters(label.toString());
+                end("label");
+            }
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.views.java.xhtml;
+
+import org.apache.struts2.views.java.Attributes;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Opens the table row of a form element, with its label and errors, see <code>xhtml/controlheader.ftl</code>
+ */
+public class ControlHeaderHandler extends AbstractLayoutHandler {
+
+    public void generate() throws IOException {
+        Map<String, Object> params = context.getParameters();
+        List<String> errors = getFieldErrors(params);
+
+        if (!isErrorPositionBottom(params)) {
+            writeErrorRows(params, errors);
+        }
+
+        start("tr", null);
+        newLine();
+        Attributes attrs = new Attributes();
+        if ("top".equals(getLabelPosition(params))) {
+            attrs.add("class", "tdLabelTop").add("colspan", "2");
+        } else {
+            attrs.add("class", "tdLabel");
+        }
+        start("td", attrs);
+
+        Object label = params.get("label");
+        if (label != null) {
+            attrs = new Attributes();
+            attrs.addIfExists("for", params.get("id"))
+                    .add("class", errors != null ? "errorLabel" : "label");
+            start("label", attrs);
+            boolean required = isTrue(params.get("required"));
+            if (required && !isRequiredRight(params)) {
+                writeRequired();
+            }
+            characters(label.toString());
+            if (required && isRequiredRight(params)) {
+                characters(" ");
+                writeRequired();
+            }
+            Object separator = params.get("labelseparator");
+            characters(separator != null ? separator.toString() : ":");
+            writeTooltip(params);
+            end("label");
+        }
+        end("td");
+        newLine();
+        // a label on top gets a row of its own
+        if ("top".equals(getLabelPosition(params))) {
+            end("tr");
+            newLine();
+            start("tr", null);
+            newLine();
+        }
+
+        attrs = new Attributes();
+        Object align = params.get("align");
+        attrs.add("class", align != null ? "align-" + align : "tdInput");
+        start("td", attrs);
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.views.java.xhtml;
+
+import org.apache.struts2.ServletActionContext;
+import org.apache.struts2.views.java.Attributes;
+
+import java.io.IOException;
+
+/**
+ * Links the stylesheet of the theme, see <code>xhtml/head.ftl</code>
+ */
+public class StylesheetHandler extends AbstractLayoutHandler {
+
+    public void generate() throws IOException {
+        StringBuilder href = new StringBuilder();
+        String base = ServletActionContext.getRequest().getContextPath();
+        if (base != null) {
+            href.append(base);
+        }
+        href.append(context.getParameters().get("staticContentPath")).append(getStylesheet());
+
+        Attributes attrs = new Attributes();
+        attrs.add("rel", "stylesheet")
+                .add("href", href.toString())
+                .add("type", "text/css");
+        start("link", attrs);
+        end("link");
+        newLine();
+    }
+
+    /**
+     * @return path of the stylesheet relative to the static content
+     */
+    protected String getStylesheet() {
+        return "/xhtml/styles.css";
+    }
+}
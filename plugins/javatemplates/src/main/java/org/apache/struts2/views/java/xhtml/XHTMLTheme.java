@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.views.java.xhtml;
+
+import org.apache.struts2.components.template.TemplateRenderingContext;
+import org.apache.struts2.views.java.DefaultTagHandlerFactory;
+import org.apache.struts2.views.java.DefaultTheme;
+import org.apache.struts2.views.java.TagHandlerFactory;
+import org.apache.struts2.views.java.XHTMLTagSerializer;
+import org.apache.struts2.views.java.simple.NonceHandler;
+import org.apache.struts2.views.java.simple.SimpleTheme;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Partial Java implementation of the <code>xhtml</code> theme.
+ * <p>
+ * A tag is rendered by a layout, a sequence of parts which are either rendered by handlers of this theme, like the
+ * table row around a form element, or by the {@link SimpleTheme}, the same way the FreeMarker templates of the
+ * <code>xhtml</code> theme include the templates of the <code>simple</code> theme. Tags without a layout are rendered
+ * by the {@link SimpleTheme} directly.
+ * <p>
+ * This theme isn't a complete implementation, it doesn't support:
+ * <ul>
+ *     <li>forms using client side validation</li>
+ *     <li>forms with a <code>focusElement</code> or a custom <code>onsubmit</code> handler</li>
+ *     <li>JavaScript tooltips</li>
+ *     <li>the tags the {@link SimpleTheme} cannot render: <code>combobox</code>, <code>doubleselect</code>,
+ *     <code>inputtransferselect</code>, <code>optiontransferselect</code>, <code>updownselect</code> and
+ *     <code>optgroup</code></li>
+ * </ul>
+ * These are rendered by the default template engine instead. The theme is therefore not registered by default, use
+ * <code>struts.javatemplates.customThemes=org.apache.struts2.views.java.xhtml.XHTMLTheme</code> to enable it.
+ */
+public class XHTMLTheme extends DefaultTheme {
+
+    private final DefaultTheme parent = new SimpleTheme();
+    private final Map<String, String[]> layouts = new HashMap<>();
+
+    public XHTMLTheme() {
+        setHandlerFactories(new HashMap<String, List<TagHandlerFactory>>() {
+            {
+                put("controlheader", new FactoryList(ControlHeaderHandler.class));
+                put("controlfooter", new FactoryList(ControlFooterHandler.class));
+                put("checkbox-header", new FactoryList(CheckboxHandler.class));
+                put("checkbox-footer", new FactoryList(CheckboxHandler.CloseHandler.class));
+                put("hidden-row", new FactoryList(HiddenRowHandler.class));
+                put("hidden-row-close", new FactoryList(HiddenRowHandler.CloseHandler.class));
+                put("button-row", new FactoryList(ButtonRowHandler.class));
+                put("button-row-close", new FactoryList(ButtonRowHandler.CloseHandler.class));
+                put("form-table", new FactoryList(FormTableHandler.class));
+                put("form-table-close", new FactoryList(FormTableHandler.CloseHandler.class));
+                put("stylesheet", new FactoryList(StylesheetHandler.class, NonceHandler.class));
+            }
+        });
+
+        for (String tagName : new String[]{"text", "password", "textarea", "select", "file", "datetextfield", "radiomap", "checkboxlist", "label"}) {
+            setLayout(tagName, "controlheader", tagName, "controlfooter");
+        }
+        setLayout("checkbox", "checkbox-header", "checkbox", "checkbox-footer", "controlfooter");
+        setLayout("hidden", "hidden-row", "hidden", "hidden-row-close");
+        setLayout("submit", "button-row", "submit");
+        setLayout("submit-close", "submit-close", "button-row-close", "controlfooter");
+        setLayout("reset", "button-row", "reset", "button-row-close", "controlfooter");
+        setLayout("form", "form", "form-table");
+        setLayout("form-close", "form-table-close", "form-close");
+        setLayout("head", "stylesheet", "head");
+
+        setName("xhtml");
+    }
+
+    /**
+     * Sets (replaces if exists) the layout of a tag
+     *
+     * @param tagName name of the tag
+     * @param parts   names of the handlers of this theme or of the tags of the parent theme to render in order
+     */
+    protected void setLayout(String tagName, String... parts) {
+        layouts.put(tagName, parts);
+    }
+
+    @Override
+    public boolean isSupported(String tagName, TemplateRenderingContext context) {
+        tagName = stripSuffix(tagName);
+        Map<String, Object> params = context.getParameters();
+
+        if (!layouts.containsKey(tagName)) {
+            return parent.hasTagHandlers(tagName);
+        }
+        if (("form".equals(tagName) || "form-close".equals(tagName)) && isTrue(params.get("validate"))) {
+            return false;
+        }
+        if ("form-close".equals(tagName) && (params.get("focusElement") != null || params.get("customOnsubmitEnabled") != null)) {
+            return false;
+        }
+        return !(params.get("tooltip") != null && "true".equals(params.get("jsTooltipEnabled")));
+    }
+
+    @Override
+    public void renderTag(String tagName, TemplateRenderingContext context) {
+        tagName = stripSuffix(tagName);
+
+        String[] parts = layouts.get(tagName);
+        if (parts == null) {
+            parent.renderTag(tagName, context);
+            return;
+        }
+        for (String part : parts) {
+            if (hasTagHandlers(part)) {
+                super.renderTag(part, context);
+            } else {
+                parent.renderTag(part, context);
+            }
+        }
+    }
+
+    private static String stripSuffix(String tagName) {
+        if (tagName.endsWith(".java")) {
+            return tagName.substring(0, tagName.length() - ".java".length());
+        }
+        return tagName;
+    }
+
+    private static boolean isTrue(Object value) {
+        return value != null && Boolean.parseBoolean(value.toString());
+    }
+
+    protected static class FactoryList extends ArrayList<TagHandlerFactory> {
+
+        private static final long serialVersionUID = 2551749234196453012L;
+
+        public FactoryList(Class<?>... classes) {
+            super();
+            for (Class<?> cls : classes) {
+                add(new DefaultTagHandlerFactory(cls));
+            }
+            add(new DefaultTagHandlerFactory(XHTMLTagSerializer.class));
+        }
+    }
+}
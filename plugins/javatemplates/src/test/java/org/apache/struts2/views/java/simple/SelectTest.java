@@ -45,7 +45,7 @@ public class SelectTest extends AbstractCommonAttributesTest {
         map.putAll(tag.getAttributes());
         theme.renderTag(getTagName(), context);
         String output = writer.getBuffer().toString();
-        String expected = s("<select name='name_' size='10' disabled='disabled' tabindex='1' id='id_' class='class' style='style' title='title'></select>");
+        String expected = s("<select name='name_' size='10' disabled='disabled' multiple='multiple' tabindex='1' id='id_' class='class' style='style' title='title'></select>");
         assertEquals(expected, output);
     }
 
@@ -44,7 +44,7 @@ public class TextFieldTest extends AbstractCommonAttributesTest {
         map.putAll(tag.getAttributes());
         theme.renderTag(getTagName(), context);
         String output = writer.getBuffer().toString();
-        String expected = s("<input type='text' name='name' size='10' maxlength='11' value='val1' disabled='disabled' tabindex='1' id='id1' class='class1' style='style1' title='title'></input>");
+        String expected = s("<input type='text' name='name' size='10' maxlength='11' value='val1' disabled='disabled' readonly='readonly' tabindex='1' id='id1' class='class1' style='style1' title='title'></input>");
         assertEquals(expected, output);
     }
 
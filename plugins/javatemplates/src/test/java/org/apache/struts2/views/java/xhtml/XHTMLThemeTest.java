@@ -0,0 +1,357 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.views.java.xhtml;
+
+import org.apache.commons.text.StringEscapeUtils;
+import org.apache.struts2.ActionContext;
+import org.apache.struts2.ActionSupport;
+import org.apache.struts2.components.Checkbox;
+import org.apache.struts2.components.Form;
+import org.apache.struts2.components.Head;
+import org.apache.struts2.components.Hidden;
+import org.apache.struts2.components.Label;
+import org.apache.struts2.components.Password;
+import org.apache.struts2.components.Submit;
+import org.apache.struts2.components.TextArea;
+import org.apache.struts2.components.TextField;
+import org.apache.struts2.components.UIBean;
+import org.apache.struts2.components.template.Template;
+import org.apache.struts2.components.template.TemplateEngine;
+import org.apache.struts2.components.template.TemplateEngineManager;
+import org.apache.struts2.components.template.TemplateRenderingContext;
+import org.apache.struts2.junit.StrutsTestCase;
+import org.apache.struts2.mock.MockActionInvocation;
+import org.apache.struts2.mock.MockActionProxy;
+import org.apache.struts2.util.ValueStack;
+import org.apache.struts2.views.java.JavaTemplateEngine;
+import org.apache.struts2.views.java.Theme;
+import org.apache.struts2.views.java.cssxhtml.CssXHTMLTheme;
+
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Compares the markup of the Java <code>xhtml</code> and <code>css_xhtml</code> themes with the markup of the
+ * FreeMarker templates of these themes, ignoring whitespace, attribute order and how empty elements are closed.
+ */
+public class XHTMLThemeTest extends StrutsTestCase {
+
+    private static final Pattern TAG = Pattern.compile("<(/?)([a-zA-Z]+)((?:\\s+[\\w:-]+=(?:\"[^\"]*\"|'[^']*'))*)\\s*(/?)>");
+    private static final Pattern ATTRIBUTE = Pattern.compile("([\\w:-]+)=(?:\"([^\"]*)\"|'([^']*)')");
+
+    private ValueStack stack;
+    private TemplateEngine freemarker;
+    private Theme xhtml;
+    private Theme cssXhtml;
+
+    public void testTextField() {
+        assertSameMarkup("text", () -> new TextField(stack, request, response), tag -> {
+            tag.setName("city");
+            tag.setValue("Wakefield");
+            tag.setLabel("City");
+            tag.setRequiredLabel("true");
+            tag.setTooltip("Where you <live>");
+            tag.setCssClass("field");
+        });
+    }
+
+    public void testTextFieldWithLabelPositions() {
+        for (String labelPosition : new String[]{"top", "left", "right"}) {
+            assertSameMarkup("text", () -> new TextField(stack, request, response), tag -> {
+                tag.setName("city");
+                tag.setValue("Wakefield");
+                tag.setLabel("City");
+                tag.setLabelPosition(labelPosition);
+                tag.setRequiredLabel("true");
+                tag.setRequiredPosition("left");
+                tag.setLabelSeparator(" -");
+            });
+        }
+    }
+
+    public void testTextFieldWithErrorsAtTheBottom() {
+        assertSameMarkup("text", () -> new TextField(stack, request, response), tag -> {
+            tag.setName("city");
+            tag.setValue("Wakefield");
+            tag.setLabel("City");
+            tag.setErrorPosition("bottom");
+            tag.setTooltip("Tip");
+            tag.setTooltipIconPath("/icons/help.png");
+        });
+    }
+
+    public void testTextFieldWithoutLabel() {
+        assertSameMarkup("text", () -> new TextField(stack, request, response), tag -> {
+            tag.setName("street");
+            tag.setValue("Main Street");
+        });
+    }
+
+    public void testPassword() {
+        assertSameMarkup("password", () -> new Password(stack, request, response), tag -> {
+            tag.setName("secret");
+            tag.setLabel("Secret");
+        });
+    }
+
+    public void testTextArea() {
+        assertSameMarkup("textarea", () -> new TextArea(stack, request, response), tag -> {
+            tag.setName("city");
+            tag.setLabel("Description");
+            tag.setCols("20");
+            tag.setRows("3");
+        });
+    }
+
+    public void testCheckbox() {
+        for (String labelPosition : new String[]{null, "top", "left", "right"}) {
+            assertSameMarkup("checkbox", () -> new Checkbox(stack, request, response), tag -> {
+                tag.setName("city");
+                tag.setLabel("Remember");
+                tag.setLabelPosition(labelPosition);
+                tag.setRequiredLabel("true");
+            });
+        }
+    }
+
+    public void testHidden() {
+        assertSameMarkup("hidden", () -> new Hidden(stack, request, response), tag -> {
+            tag.setName("token");
+            tag.setValue("secret");
+        });
+    }
+
+    public void testSubmit() {
+        assertSameMarkup(new String[]{"submit", "submit-close"}, () -> new Submit(stack, request, response), tag -> {
+            tag.setName("save");
+            tag.setValue("Save");
+            tag.addParameter("body", "");
+        });
+    }
+
+    public void testForm() {
+        assertSameMarkup(new String[]{"form", "form-close"}, () -> new Form(stack, request, response), tag -> {
+            tag.setAction("save");
+            tag.setCssStyle("width: 100%");
+        });
+    }
+
+    public void testLabel() {
+        // the xhtml theme renders the label of the simple theme, which isn't the same as its template
+        assertSameMarkup(new String[]{"css_xhtml"}, new String[]{"label"}, () -> new Label(stack, request, response), tag -> {
+            tag.setName("city");
+            tag.setLabel("City");
+            tag.setValue("Wakefield");
+        });
+    }
+
+    public void testHead() {
+        request.setContextPath("/app");
+        for (String theme : new String[]{"xhtml", "css_xhtml"}) {
+            Head tag = new Head(stack, request, response);
+            container.inject(tag);
+            tag.setTheme(theme);
+            tag.evaluateParams();
+
+            String link = "<link rel=\"stylesheet\" href=\"/app/static/" + theme + "/styles.css\" type=\"text/css\"></link>";
+            assertTrue(renderJava(tag, theme, "head").startsWith(link));
+            assertTrue(normalize(renderFreemarker(tag, theme, "head")).containsAll(normalize(link)));
+        }
+    }
+
+    public void testThemesAreRegisteredOnlyAsCustomThemes() throws Exception {
+        List<String> fallbacks = new ArrayList<>();
+        TemplateEngineManager manager = container.getInstance(TemplateEngineManager.class);
+        JavaTemplateEngine engine = new JavaTemplateEngine();
+        container.inject(engine);
+        engine.setTemplateEngineManager(new TemplateEngineManager() {
+            @Override
+            public TemplateEngine getTemplateEngine(Template template, String templateTypeOverride) {
+                fallbacks.add(template.getTheme());
+                return manager.getTemplateEngine(template, templateTypeOverride);
+            }
+        });
+
+        renderTextFields(engine);
+        assertEquals(List.of("xhtml", "css_xhtml"), fallbacks);
+
+        fallbacks.clear();
+        engine.setThemeClasses(XHTMLTheme.class.getName() + ", " + CssXHTMLTheme.class.getName());
+        renderTextFields(engine);
+        assertEquals(List.of(), fallbacks);
+    }
+
+    public void testUnsupportedTagsAreRenderedWithFreemarker() throws Exception {
+        JavaTemplateEngine engine = new JavaTemplateEngine();
+        container.inject(engine);
+        engine.setThemeClasses(XHTMLTheme.class.getName() + ", " + CssXHTMLTheme.class.getName());
+
+        for (String theme : new String[]{"xhtml", "css_xhtml"}) {
+            Form form = validatedForm(theme);
+            assertFalse(themeOf(theme).isSupported("form", context(form, theme, "form", new StringWriter())));
+
+            StringWriter writer = new StringWriter();
+            engine.renderTemplate(context(form, theme, "form", writer));
+            assertEquals(renderFreemarker(validatedForm(theme), theme, "form"), writer.toString());
+        }
+    }
+
+    private void renderTextFields(JavaTemplateEngine engine) throws Exception {
+        for (String theme : new String[]{"xhtml", "css_xhtml"}) {
+            TextField tag = new TextField(stack, request, response);
+            container.inject(tag);
+            tag.setTheme(theme);
+            tag.setName("city");
+            tag.evaluateParams();
+            engine.renderTemplate(context(tag, theme, "text", new StringWriter()));
+        }
+    }
+
+    private Form validatedForm(String theme) {
+        Form form = new Form(stack, request, response);
+        container.inject(form);
+        form.setTheme(theme);
+        form.setAction("save");
+        form.setValidate("true");
+        form.evaluateParams();
+        return form;
+    }
+
+    private <T extends UIBean> void assertSameMarkup(String templateName, Supplier<T> tags, Consumer<T> setup) {
+        assertSameMarkup(new String[]{templateName}, tags, setup);
+    }
+
+    private <T extends UIBean> void assertSameMarkup(String[] templateNames, Supplier<T> tags, Consumer<T> setup) {
+        assertSameMarkup(new String[]{"xhtml", "css_xhtml"}, templateNames, tags, setup);
+    }
+
+    private <T extends UIBean> void assertSameMarkup(String[] themes, String[] templateNames, Supplier<T> tags, Consumer<T> setup) {
+        for (String theme : themes) {
+            T tag = tags.get();
+            container.inject(tag);
+            tag.setTheme(theme);
+            setup.accept(tag);
+            tag.evaluateParams();
+
+            StringBuilder expected = new StringBuilder();
+            StringBuilder actual = new StringBuilder();
+            for (String templateName : templateNames) {
+                expected.append(renderFreemarker(tag, theme, templateName));
+                actual.append(renderJava(tag, theme, templateName));
+            }
+            assertEquals(theme + ": " + actual, normalize(expected.toString()), normalize(actual.toString()));
+        }
+    }
+
+    private String renderFreemarker(UIBean tag, String theme, String templateName) {
+        StringWriter writer = new StringWriter();
+        try {
+            freemarker.renderTemplate(context(tag, theme, templateName, writer));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        return writer.toString();
+    }
+
+    private String renderJava(UIBean tag, String theme, String templateName) {
+        StringWriter writer = new StringWriter();
+        TemplateRenderingContext context = context(tag, theme, templateName, writer);
+        assertTrue(templateName + " isn't supported by " + theme, themeOf(theme).isSupported(templateName, context));
+        themeOf(theme).renderTag(templateName, context);
+        return writer.toString();
+    }
+
+    private TemplateRenderingContext context(UIBean tag, String theme, String templateName, StringWriter writer) {
+        return new TemplateRenderingContext(new Template("template", theme, templateName), writer, stack, tag.getAttributes(), tag);
+    }
+
+    private Theme themeOf(String theme) {
+        return "xhtml".equals(theme) ? xhtml : cssXhtml;
+    }
+
+    /**
+     * @return the elements and the non-blank text of the markup
+     */
+    private static List<String> normalize(String markup) {
+        List<String> result = new ArrayList<>();
+        Matcher tag = TAG.matcher(markup);
+        int textStart = 0;
+        while (tag.find()) {
+            addText(result, markup.substring(textStart, tag.start()));
+            textStart = tag.end();
+
+            if (!tag.group(1).isEmpty()) {
+                result.add("</" + tag.group(2) + ">");
+                continue;
+            }
+            Map<String, String> attributes = new TreeMap<>();
+            Matcher attribute = ATTRIBUTE.matcher(tag.group(3));
+            while (attribute.find()) {
+                String value = attribute.group(2) != null ? attribute.group(2) : attribute.group(3);
+                attributes.put(attribute.group(1), StringEscapeUtils.unescapeHtml4(value));
+            }
+            result.add("<" + tag.group(2) + " " + attributes + ">");
+            if (!tag.group(4).isEmpty()) {
+                result.add("</" + tag.group(2) + ">");
+            }
+        }
+        addText(result, markup.substring(textStart));
+        return result;
+    }
+
+    private static void addText(List<String> result, String text) {
+        text = StringEscapeUtils.unescapeHtml4(text).replaceAll("\\s+", " ").trim();
+        if (!text.isEmpty()) {
+            result.add(text);
+        }
+    }
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        stack = ActionContext.getContext().getValueStack();
+        ActionContext.getContext()
+                .withServletRequest(request)
+                .withServletResponse(response)
+                .withServletContext(servletContext);
+
+        ActionSupport action = new ActionSupport();
+        action.addFieldError("city", "City is required");
+        action.addFieldError("city", "City <b>must</b> exist");
+        stack.push(action);
+
+        MockActionInvocation invocation = new MockActionInvocation();
+        invocation.setAction(action);
+        invocation.setStack(stack);
+        invocation.setInvocationContext(ActionContext.getContext());
+        invocation.setProxy(new MockActionProxy());
+        ActionContext.getContext().withActionInvocation(invocation);
+
+        freemarker = container.getInstance(TemplateEngineManager.class).getTemplateEngine(new Template("template", "xhtml", "text"), "ftl");
+        xhtml = new XHTMLTheme();
+        cssXhtml = new CssXHTMLTheme();
+    }
+}